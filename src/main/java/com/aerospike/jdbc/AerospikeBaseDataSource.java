@@ -0,0 +1,111 @@
+package com.aerospike.jdbc;
+
+import javax.sql.CommonDataSource;
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Common configuration of the Aerospike data sources.
+ */
+public abstract class AerospikeBaseDataSource implements CommonDataSource {
+
+    private static final Logger logger = Logger.getLogger("com.aerospike.jdbc");
+
+    private static final String USER_PROPERTY = "user";
+    private static final String PASSWORD_PROPERTY = "password";
+
+    private volatile String url;
+    private volatile Properties properties = new Properties();
+    private volatile PrintWriter logWriter;
+    private volatile int loginTimeout;
+
+    public String getURL() {
+        return url;
+    }
+
+    public void setURL(String url) {
+        this.url = url;
+    }
+
+    public Properties getProperties() {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+
+    public void setProperties(Properties properties) {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        this.properties = copy;
+    }
+
+    public String getUser() {
+        return properties.getProperty(USER_PROPERTY);
+    }
+
+    public void setUser(String user) {
+        setProperty(USER_PROPERTY, user);
+    }
+
+    public void setPassword(String password) {
+        setProperty(PASSWORD_PROPERTY, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return logger;
+    }
+
+    protected AerospikeConnection createConnection(Properties connectionProperties) throws SQLException {
+        if (url == null) {
+            throw new SQLException("url is null");
+        }
+        if (!url.startsWith(AerospikeDriver.AEROSPIKE_URL_PREFIX)) {
+            throw new SQLException("Invalid Aerospike JDBC URL: " + url);
+        }
+        return new AerospikeConnection(url, connectionProperties);
+    }
+
+    protected Properties connectionProperties(String user, String password) {
+        Properties props = getProperties();
+        if (user != null) {
+            props.setProperty(USER_PROPERTY, user);
+        }
+        if (password != null) {
+            props.setProperty(PASSWORD_PROPERTY, password);
+        }
+        return props;
+    }
+
+    private void setProperty(String name, String value) {
+        Properties copy = getProperties();
+        if (value == null) {
+            copy.remove(name);
+        } else {
+            copy.setProperty(name, value);
+        }
+        properties = copy;
+    }
+}
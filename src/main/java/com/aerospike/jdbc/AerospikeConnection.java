@@ -5,22 +5,23 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.CommitStatus;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Txn;
-import com.aerospike.client.policy.Policy;
 import com.aerospike.jdbc.model.DriverConfiguration;
 import com.aerospike.jdbc.sql.SimpleWrapper;
 import com.aerospike.jdbc.sql.type.BasicArray;
 import com.aerospike.jdbc.sql.type.ByteArrayBlob;
 import com.aerospike.jdbc.sql.type.StringClob;
+import com.aerospike.jdbc.util.AerospikeUtils;
 import com.aerospike.jdbc.util.AerospikeVersion;
 import com.aerospike.jdbc.util.DatabaseMetadataBuilder;
+import com.aerospike.jdbc.util.ParsedStatementCache;
 
 import java.sql.*;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.lang.String.format;
@@ -28,7 +29,6 @@ import static java.sql.ResultSet.CLOSE_CURSORS_AT_COMMIT;
 import static java.sql.ResultSet.CONCUR_READ_ONLY;
 import static java.sql.ResultSet.HOLD_CURSORS_OVER_COMMIT;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
-import static java.util.Arrays.stream;
 import static java.util.Collections.emptyMap;
 
 public class AerospikeConnection implements Connection, SimpleWrapper {
@@ -40,6 +40,7 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
     private final DriverConfiguration config;
     private final IAerospikeClient client;
     private final DatabaseMetadataBuilder metadataBuilder;
+    private final ParsedStatementCache statementCache;
     private final AerospikeVersion aerospikeVersion;
     private final AtomicReference<String> catalog = new AtomicReference<>(null);
 
@@ -56,7 +57,8 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
         config = new DriverConfiguration(props);
         client = config.parse(url);
         metadataBuilder = new DatabaseMetadataBuilder(config.getDriverPolicy());
-        aerospikeVersion = new AerospikeVersion(client);
+        statementCache = new ParsedStatementCache(config.getDriverPolicy());
+        aerospikeVersion = new AerospikeVersion(client, config);
         catalog.set(config.getCatalog()); // namespace
     }
 
@@ -152,9 +154,18 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
 
     @Override
     public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
         logger.info(() -> "Close AerospikeConnection");
-        client.close();
-        closed = true;
+        if (config.getDriverPolicy().getStatementCacheRecordStats()) {
+            logger.info(() -> "Parsed statement cache " + statementCache.stats());
+        }
+        statementCache.invalidateAll();
+        config.releaseClient();
     }
 
     @Override
@@ -372,9 +383,12 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
         throw new SQLFeatureNotSupportedException("SQLXML is not supported");
     }
 
+    /**
+     * Answered from the cluster node health tracked by the client; no server round trip is made.
+     */
     @Override
     public boolean isValid(int timeout) {
-        return !isClosed() && client.isConnected() && Objects.nonNull(client.getClusterStats());
+        return !isClosed() && client.isConnected() && AerospikeUtils.hasActiveNodes(client);
     }
 
     @Override
@@ -455,24 +469,35 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
         if (milliseconds < 0) {
             throw new SQLException("Timeout must be a non-negative value in milliseconds");
         }
-
-        stream(new Policy[]{
-                client.getReadPolicyDefault(),
-                client.getWritePolicyDefault(),
-                client.getScanPolicyDefault(),
-                client.getQueryPolicyDefault(),
-                client.getBatchPolicyDefault()
-        }).forEach(p -> {
-            p.totalTimeout = milliseconds;
-            p.connectTimeout = milliseconds;
-        });
-        client.getInfoPolicyDefault().timeout = milliseconds;
+        config.setNetworkTimeout(milliseconds);
     }
 
     @Override
     public int getNetworkTimeout() throws SQLException {
         checkClosed();
-        return client.getReadPolicyDefault().totalTimeout;
+        return config.getReadPolicy().totalTimeout;
+    }
+
+    /**
+     * Resets the session-level state before the connection is returned to a pool:
+     * aborts the open transaction, restores the auto-commit mode and the catalog.
+     *
+     * @throws SQLException if the connection is closed.
+     */
+    void resetSession() throws SQLException {
+        checkClosed();
+        if (txn != null) {
+            try {
+                AbortStatus status = client.abort(txn);
+                logger.info(() -> format("MRT %d abort status on reset: %s", txn.getId(), status));
+            } catch (AerospikeException e) {
+                logger.log(Level.WARNING, "Failed to abort the transaction on reset", e);
+            } finally {
+                txn = null;
+            }
+        }
+        autoCommit = true;
+        catalog.set(config.getCatalog());
     }
 
     protected void checkClosed() throws SQLException {
@@ -489,6 +514,10 @@ public class AerospikeConnection implements Connection, SimpleWrapper {
         return aerospikeVersion;
     }
 
+    public ParsedStatementCache getStatementCache() {
+        return statementCache;
+    }
+
     public IAerospikeClient getClient() {
         return client;
     }
@@ -0,0 +1,22 @@
+package com.aerospike.jdbc;
+
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import java.sql.SQLException;
+
+/**
+ * A factory of {@link AerospikePooledConnection} objects for application server connection pools.
+ */
+public class AerospikeConnectionPoolDataSource extends AerospikeBaseDataSource
+        implements ConnectionPoolDataSource {
+
+    @Override
+    public PooledConnection getPooledConnection() throws SQLException {
+        return new AerospikePooledConnection(createConnection(getProperties()));
+    }
+
+    @Override
+    public PooledConnection getPooledConnection(String user, String password) throws SQLException {
+        return new AerospikePooledConnection(createConnection(connectionProperties(user, password)));
+    }
+}
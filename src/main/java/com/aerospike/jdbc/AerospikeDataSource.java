@@ -0,0 +1,134 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.jdbc.sql.SimpleWrapper;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A pooling {@link DataSource} for the Aerospike JDBC driver.
+ * <p>
+ * Physical connections are kept as {@link AerospikePooledConnection}s; a checkout takes an idle
+ * connection after a local cluster health check, and closing the returned connection resets
+ * its session state and puts it back into the pool.
+ */
+public class AerospikeDataSource extends AerospikeBaseDataSource implements DataSource, SimpleWrapper,
+        AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(AerospikeDataSource.class.getName());
+
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+
+    private final Deque<AerospikePooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final ConnectionEventListener poolListener = new PoolListener();
+
+    private volatile int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private volatile boolean closed;
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets the maximum number of idle physical connections kept in the pool.
+     * Connections returned to a full pool are closed.
+     *
+     * @param maxIdleConnections the maximum number of idle connections.
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleCount.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("DataSource is closed");
+        }
+        AerospikePooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (pooledConnection.isValid()) {
+                return pooledConnection.getConnection();
+            }
+            closeQuietly(pooledConnection);
+        }
+        pooledConnection = new AerospikePooledConnection(createConnection(getProperties()));
+        pooledConnection.addConnectionEventListener(poolListener);
+        return pooledConnection.getConnection();
+    }
+
+    /**
+     * Returns a non-pooled connection for the given credentials.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (closed) {
+            throw new SQLException("DataSource is closed");
+        }
+        return createConnection(connectionProperties(username, password));
+    }
+
+    /**
+     * Closes all the idle connections; the connections in use are closed when returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        AerospikePooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            closeQuietly(pooledConnection);
+        }
+    }
+
+    private void closeQuietly(AerospikePooledConnection pooledConnection) {
+        try {
+            pooledConnection.close();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Failed to close pooled connection", e);
+        }
+    }
+
+    private class PoolListener implements ConnectionEventListener {
+
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            AerospikePooledConnection pooledConnection = (AerospikePooledConnection) event.getSource();
+            if (!closed && pooledConnection.isValid()) {
+                if (idleCount.incrementAndGet() <= maxIdleConnections) {
+                    idleConnections.offerFirst(pooledConnection);
+                    if (closed) {
+                        // the pool was closed concurrently
+                        close();
+                    }
+                    return;
+                }
+                idleCount.decrementAndGet();
+            }
+            closeQuietly(pooledConnection);
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            AerospikePooledConnection pooledConnection = (AerospikePooledConnection) event.getSource();
+            logger.log(Level.WARNING, "Pooled connection failure", event.getSQLException());
+            if (idleConnections.remove(pooledConnection)) {
+                idleCount.decrementAndGet();
+            }
+            closeQuietly(pooledConnection);
+        }
+    }
+}
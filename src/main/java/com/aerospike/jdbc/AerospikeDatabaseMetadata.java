@@ -2,10 +2,13 @@ package com.aerospike.jdbc;
 
 import com.aerospike.jdbc.model.AerospikeClusterInfo;
 import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+import com.aerospike.jdbc.model.CatalogTableName;
 import com.aerospike.jdbc.model.DataColumn;
+import com.aerospike.jdbc.model.TableStatistics;
 import com.aerospike.jdbc.schema.AerospikeSchemaBuilder;
 import com.aerospike.jdbc.sql.ListRecordSet;
 import com.aerospike.jdbc.sql.SimpleWrapper;
+import com.aerospike.jdbc.util.AerospikeUtils;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
@@ -16,12 +19,14 @@ import java.sql.ResultSetMetaData;
 import java.sql.RowIdLifetime;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -58,6 +63,7 @@ public class AerospikeDatabaseMetadata implements DatabaseMetaData, SimpleWrappe
     private final AerospikeClusterInfo clusterInfo;
     private final AerospikeSchemaBuilder schemaBuilder;
     private final Cache<String, ResultSetMetaData> resultSetMetaDataCache;
+    private final Cache<CatalogTableName, Optional<TableStatistics>> tableStatisticsCache;
 
     private volatile Map<String, Collection<AerospikeSecondaryIndex>> catalogIndexes;
 
@@ -66,12 +72,14 @@ public class AerospikeDatabaseMetadata implements DatabaseMetaData, SimpleWrappe
         this.url = url;
         this.connection = connection;
 
-        clusterInfo = getClusterInfo(connection.getClient());
+        clusterInfo = getClusterInfo(connection.getClient(), connection.getConfiguration().getInfoPolicy());
         schemaBuilder = new AerospikeSchemaBuilder(
                 connection.getClient(),
-                connection.getConfiguration().getDriverPolicy()
+                connection.getConfiguration()
         );
         resultSetMetaDataCache = CacheBuilder.newBuilder().build();
+        tableStatisticsCache = CacheBuilder.newBuilder().expireAfterWrite(Duration.ofSeconds(
+                connection.getConfiguration().getDriverPolicy().getStatisticsCacheTtlSeconds())).build();
     }
 
     public AerospikeSchemaBuilder getSchemaBuilder() {
@@ -88,12 +96,29 @@ public class AerospikeDatabaseMetadata implements DatabaseMetaData, SimpleWrappe
         return catalogIndexes.get(catalog);
     }
 
+    /**
+     * Returns the record counts of a set, cached for {@code statisticsCacheTtlSeconds}. A failed fetch is cached
+     * as well, so the statements don't retry it until the TTL expires.
+     *
+     * @return the set statistics, or null if they are not available.
+     */
+    public TableStatistics getTableStatistics(String catalog, String table) {
+        try {
+            return tableStatisticsCache.get(new CatalogTableName(catalog, table), () -> Optional.ofNullable(
+                    AerospikeUtils.getTableStatistics(connection.getClient(),
+                            connection.getConfiguration().getInfoPolicy(), catalog, table))).orElse(null);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private void initCatalogIndexes() {
         if (catalogIndexes == null) {
             synchronized (this) {
                 if (catalogIndexes == null) {
                     logger.info(() -> "Load secondary index information");
-                    catalogIndexes = getCatalogIndexes(connection.getClient(), connection.getAerospikeVersion());
+                    catalogIndexes = getCatalogIndexes(connection.getClient(),
+                            connection.getConfiguration().getInfoPolicy(), connection.getAerospikeVersion());
                 }
             }
         }
@@ -21,7 +21,7 @@ import static java.util.stream.Collectors.toList;
 public class AerospikeDriver implements Driver {
 
     private static final Logger logger = Logger.getLogger("com.aerospike.jdbc");
-    private static final String AEROSPIKE_URL_PREFIX = "jdbc:aerospike:";
+    static final String AEROSPIKE_URL_PREFIX = "jdbc:aerospike:";
 
     static {
         try {
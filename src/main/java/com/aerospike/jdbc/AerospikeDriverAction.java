@@ -1,6 +1,7 @@
 package com.aerospike.jdbc;
 
 import com.aerospike.jdbc.async.EventLoopProvider;
+import com.aerospike.jdbc.util.AerospikeClientRegistry;
 
 import java.sql.DriverAction;
 import java.util.logging.Logger;
@@ -12,6 +13,7 @@ public class AerospikeDriverAction implements DriverAction {
     @Override
     public void deregister() {
         logger.info("Deregister AerospikeDriver");
+        AerospikeClientRegistry.closeAll();
         EventLoopProvider.close();
     }
 }
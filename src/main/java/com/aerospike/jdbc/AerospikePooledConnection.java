@@ -0,0 +1,312 @@
+package com.aerospike.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEventListener;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A physical {@link AerospikeConnection} managed by a connection pool.
+ * <p>
+ * The pool hands out logical connection handles; closing a handle resets the session-level state
+ * of the physical connection and notifies the registered {@link ConnectionEventListener}s
+ * instead of closing the physical connection.
+ * <p>
+ * The statements, result sets and database metadata returned through a handle are wrapped as well, so none of
+ * them leads back to the physical connection: their {@code getConnection()} and {@code getStatement()} return
+ * the handle and the statement wrappers, {@code unwrap} is answered by the wrappers themselves, and the
+ * statements still open are closed with the handle.
+ */
+public class AerospikePooledConnection implements PooledConnection {
+
+    private static final Logger logger = Logger.getLogger(AerospikePooledConnection.class.getName());
+
+    private final AerospikeConnection physicalConnection;
+    private final List<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArrayList<>();
+    private final List<StatementEventListener> statementEventListeners = new CopyOnWriteArrayList<>();
+
+    private volatile ConnectionHandler activeHandler;
+
+    public AerospikePooledConnection(AerospikeConnection physicalConnection) {
+        this.physicalConnection = physicalConnection;
+    }
+
+    @Override
+    public synchronized Connection getConnection() throws SQLException {
+        physicalConnection.checkClosed();
+        if (activeHandler != null) {
+            // only one logical connection may be open at a time
+            activeHandler.invalidate();
+        }
+        activeHandler = new ConnectionHandler();
+        return activeHandler.connection;
+    }
+
+    @Override
+    public synchronized void close() throws SQLException {
+        if (activeHandler != null) {
+            activeHandler.invalidate();
+            activeHandler = null;
+        }
+        physicalConnection.close();
+    }
+
+    /**
+     * Checks the health of the physical connection without a server round trip.
+     *
+     * @return true if the physical connection is open and the cluster has active nodes.
+     */
+    public boolean isValid() {
+        return physicalConnection.isValid(0);
+    }
+
+    @Override
+    public void addConnectionEventListener(ConnectionEventListener listener) {
+        connectionEventListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionEventListener(ConnectionEventListener listener) {
+        connectionEventListeners.remove(listener);
+    }
+
+    @Override
+    public void addStatementEventListener(StatementEventListener listener) {
+        statementEventListeners.add(listener);
+    }
+
+    @Override
+    public void removeStatementEventListener(StatementEventListener listener) {
+        statementEventListeners.remove(listener);
+    }
+
+    AerospikeConnection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    private void fireConnectionClosed() {
+        ConnectionEvent event = new ConnectionEvent(this);
+        connectionEventListeners.forEach(l -> l.connectionClosed(event));
+    }
+
+    private void fireConnectionError(SQLException e) {
+        ConnectionEvent event = new ConnectionEvent(this, e);
+        connectionEventListeners.forEach(l -> l.connectionErrorOccurred(event));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the physical connection of a logical connection handle.
+     */
+    @VisibleForTesting
+    static AerospikeConnection getPhysicalConnection(Connection handle) {
+        return ((ConnectionHandler) Proxy.getInvocationHandler(handle)).getPhysicalConnection();
+    }
+
+    private static Object unwrap(Object proxy, Object[] args) throws SQLException {
+        Class<?> iface = (Class<?>) args[0];
+        if (iface.isInstance(proxy)) {
+            return proxy;
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    private static boolean isWrapperFor(Object proxy, Object[] args) {
+        return ((Class<?>) args[0]).isInstance(proxy);
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection = (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                this
+        );
+        private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        void invalidate() {
+            closed = true;
+            closeStatements();
+        }
+
+        AerospikeConnection getPhysicalConnection() {
+            return physicalConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + physicalConnection;
+                case "isClosed":
+                    return closed || physicalConnection.isClosed();
+                case "isValid":
+                    if (closed) {
+                        return false;
+                    }
+                    break;
+                case "close":
+                    closeHandle();
+                    return null;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            switch (method.getName()) {
+                case "unwrap":
+                    return unwrap(proxy, args);
+                case "isWrapperFor":
+                    return isWrapperFor(proxy, args);
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = invokeTarget(physicalConnection, method, args);
+            } catch (SQLException e) {
+                if (!physicalConnection.isValid(0)) {
+                    fireConnectionError(e);
+                }
+                throw e;
+            }
+            return wrap(result, method.getReturnType(), null);
+        }
+
+        /**
+         * Wraps a statement, a result set or the database metadata returned through the handle, so it leads back
+         * to the handle rather than to the physical connection.
+         *
+         * @param parent the statement proxy of a result set, null if not returned by a statement.
+         */
+        private Object wrap(Object result, Class<?> returnType, Object parent) {
+            if (!returnType.isInterface()) {
+                return result;
+            }
+            if (result instanceof Statement) {
+                statements.add((Statement) result);
+            } else if (!(result instanceof ResultSet) && !(result instanceof DatabaseMetaData)) {
+                return result;
+            }
+            WrapperHandler handler = new WrapperHandler(this, result, parent);
+            handler.proxy = Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{returnType},
+                    handler
+            );
+            return handler.proxy;
+        }
+
+        private void closeStatements() {
+            for (Statement statement : statements) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    logger.log(Level.WARNING, "Failed to close a statement of the pooled connection", e);
+                }
+            }
+            statements.clear();
+        }
+
+        private void closeHandle() {
+            synchronized (AerospikePooledConnection.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (activeHandler == this) {
+                    activeHandler = null;
+                }
+            }
+            closeStatements();
+            try {
+                physicalConnection.resetSession();
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Failed to reset the pooled connection session", e);
+                fireConnectionError(e);
+                return;
+            }
+            fireConnectionClosed();
+        }
+    }
+
+    /**
+     * Binds a statement, a result set or the database metadata to the logical connection handle it was returned
+     * through, and wraps the result sets it returns in turn.
+     */
+    private static class WrapperHandler implements InvocationHandler {
+
+        private final ConnectionHandler connectionHandler;
+        private final Object target;
+        private final Object parent;
+        private Object proxy;
+
+        WrapperHandler(ConnectionHandler connectionHandler, Object target, Object parent) {
+            this.connectionHandler = connectionHandler;
+            this.target = target;
+            this.parent = parent;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + target;
+                case "unwrap":
+                    return unwrap(proxy, args);
+                case "isWrapperFor":
+                    return isWrapperFor(proxy, args);
+                case "getConnection":
+                    if (target instanceof Statement && ((Statement) target).isClosed()) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    return connectionHandler.connection;
+                case "getStatement":
+                    // the statements of the database metadata result sets are not exposed
+                    return invokeTarget(target, method, args) == null ? null : parent;
+                case "close":
+                    if (target instanceof Statement) {
+                        connectionHandler.statements.remove(target);
+                    }
+                    return invokeTarget(target, method, args);
+                default:
+                    return connectionHandler.wrap(invokeTarget(target, method, args), method.getReturnType(),
+                            target instanceof Statement ? this.proxy : null);
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Value;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.DataColumn;
+import com.aerospike.jdbc.model.ParsedStatement;
 import com.aerospike.jdbc.model.QueryType;
+import com.aerospike.jdbc.query.QueryPerformer;
 import com.aerospike.jdbc.sql.AerospikeResultSetMetaData;
 import com.aerospike.jdbc.sql.SimpleParameterMetaData;
 import com.aerospike.jdbc.sql.type.ByteArrayBlob;
@@ -36,6 +38,7 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
     private static final Logger logger = Logger.getLogger(AerospikePreparedStatement.class.getName());
 
     private final String sqlStatement;
+    private final ParsedStatement parsedStatement;
     private final Object[] sqlParameters;
     private final List<Object> batchParameters = new ArrayList<>();
 
@@ -43,6 +46,8 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
                                       String sqlStatement) throws SQLException {
         super(client, connection);
         this.sqlStatement = sqlStatement;
+        // compile the statement once, the executions only bind the parameters
+        parsedStatement = connection.getStatementCache().getTemplate(sqlStatement.replace("\n", " "));
         sqlParameters = buildSqlParameters(sqlStatement);
         logger.info(() -> format("statement: %s, params: %d", sqlStatement, sqlParameters.length));
     }
@@ -52,12 +57,20 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
         return new Object[params];
     }
 
+    private AerospikeQuery bindQuery(List<Object> parameters) throws SQLException {
+        try {
+            return prepareQuery(parsedStatement.bind(parameters));
+        } catch (IllegalStateException e) {
+            throw new SQLException(e);
+        }
+    }
+
     @Override
     public ResultSet executeQuery() throws SQLException {
         checkClosed();
 
         logger.info(() -> format("executeQuery: %s, params: %s", sqlStatement, Arrays.toString(sqlParameters)));
-        AerospikeQuery query = parseQuery(sqlStatement, Arrays.asList(sqlParameters));
+        AerospikeQuery query = bindQuery(Arrays.asList(sqlParameters));
         runQuery(query);
         return resultSet;
     }
@@ -194,7 +207,7 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
         checkClosed();
 
         logger.info(() -> format("execute: %s, params: %s", sqlStatement, Arrays.toString(sqlParameters)));
-        AerospikeQuery query = parseQuery(sqlStatement, Arrays.asList(sqlParameters));
+        AerospikeQuery query = bindQuery(Arrays.asList(sqlParameters));
         runQuery(query);
         return query.getQueryType() == QueryType.SELECT;
     }
@@ -231,25 +244,39 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
 
         int batchSize = batchParameters.size();
         logger.info(() -> format("Executing batch with %d entries", batchSize));
-        AerospikeQuery query = parseQuery(sqlStatement, batchParameters);
-        QueryType queryType = query.getQueryType();
-
-        if (queryType != QueryType.INSERT) {
-            throw new SQLException(format("Batch execution is only supported for INSERT statements, got: %s",
-                    queryType));
-        }
-
         try {
-            runQuery(query);
-
-            int[] updateCounts = new int[batchSize];
-            Arrays.fill(updateCounts, 1);
-            return updateCounts;
+            if (parsedStatement.getQueryType() == QueryType.INSERT) {
+                // the rows of an INSERT are bound as a single multi-row statement
+                return runInsertBatch(bindQuery(batchParameters));
+            }
+            List<AerospikeQuery> queries = new ArrayList<>(batchSize);
+            for (Object parameters : batchParameters) {
+                @SuppressWarnings("unchecked")
+                AerospikeQuery query = bindQuery((List<Object>) parameters);
+                checkBatchable(query);
+                queries.add(query);
+            }
+            return runBatch(queries);
         } finally {
             batchParameters.clear();
         }
     }
 
+    private int[] runInsertBatch(AerospikeQuery query) throws SQLException {
+        int[] updateCounts;
+        try {
+            updateCounts = QueryPerformer.executeBatch(client, this, query);
+        } catch (Exception e) {
+            throw new SQLException(e);
+        }
+        return checkUpdateCounts(updateCounts);
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        throw new SQLException("addBatch(String) cannot be called on a PreparedStatement");
+    }
+
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
         setClob(parameterIndex, reader, length);
@@ -310,7 +337,7 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
 
     @Override
     public ResultSetMetaData getMetaData() throws SQLException {
-        AerospikeQuery query = parseQuery(sqlStatement, Arrays.asList(sqlParameters));
+        AerospikeQuery query = bindQuery(Arrays.asList(sqlParameters));
         List<DataColumn> columns = ((AerospikeDatabaseMetadata) connection.getMetaData())
                 .getSchemaBuilder()
                 .getSchema(query.getCatalogTable());
@@ -344,7 +371,7 @@ public class AerospikePreparedStatement extends AerospikeStatement implements Pr
 
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
-        AerospikeQuery query = parseQuery(sqlStatement, Arrays.asList(sqlParameters));
+        AerospikeQuery query = bindQuery(Arrays.asList(sqlParameters));
         List<DataColumn> columns = ((AerospikeDatabaseMetadata) connection.getMetaData())
                 .getSchemaBuilder()
                 .getSchema(query.getCatalogTable());
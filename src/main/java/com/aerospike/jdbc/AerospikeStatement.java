@@ -7,14 +7,16 @@ import com.aerospike.jdbc.model.QueryType;
 import com.aerospike.jdbc.query.QueryPerformer;
 import com.aerospike.jdbc.sql.AerospikeRecordResultSet;
 import com.aerospike.jdbc.sql.SimpleWrapper;
-import com.aerospike.jdbc.util.AuxStatementParser;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
@@ -26,8 +28,6 @@ import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
 
 public class AerospikeStatement implements Statement, SimpleWrapper {
 
-    protected static final String BATCH_NOT_SUPPORTED_MESSAGE = "Batch update is not supported";
-
     private static final Logger logger = Logger.getLogger(AerospikeStatement.class.getName());
     private static final String AUTO_GENERATED_KEYS_NOT_SUPPORTED_MESSAGE = "Auto-generated keys are not supported";
 
@@ -40,8 +40,11 @@ public class AerospikeStatement implements Statement, SimpleWrapper {
     protected ResultSet resultSet;
     protected int updateCount;
 
+    private final List<AerospikeQuery> batchQueries = new ArrayList<>();
+
     private int maxRows = Integer.MAX_VALUE;
     private int queryTimeout;
+    private int fetchSize;
 
     public AerospikeStatement(IAerospikeClient client, AerospikeConnection connection) throws SQLException {
         this.client = client;
@@ -72,7 +75,11 @@ public class AerospikeStatement implements Statement, SimpleWrapper {
 
     protected AerospikeQuery parseQuery(String sql, List<Object> sqlParameters) throws SQLException {
         sql = sql.replace("\n", " ");
-        AerospikeQuery query = AuxStatementParser.parse(sql, sqlParameters);
+        AerospikeQuery query = connection.getStatementCache().parse(sql, sqlParameters);
+        return prepareQuery(query);
+    }
+
+    protected AerospikeQuery prepareQuery(AerospikeQuery query) {
         if (query.getCatalog() == null) {
             query.setCatalog(catalog);
         }
@@ -202,12 +209,15 @@ public class AerospikeStatement implements Statement, SimpleWrapper {
 
     @Override
     public int getFetchSize() {
-        return 1;
+        return fetchSize;
     }
 
     @Override
-    public void setFetchSize(int rows) {
-        // no-op; supported size = 1.
+    public void setFetchSize(int rows) throws SQLException {
+        if (rows < 0) {
+            throw new SQLException(format("Attempt to set negative fetch size %d", rows));
+        }
+        this.fetchSize = rows;
     }
 
     @Override
@@ -222,17 +232,64 @@ public class AerospikeStatement implements Statement, SimpleWrapper {
 
     @Override
     public void addBatch(String sql) throws SQLException {
-        throw new SQLFeatureNotSupportedException(BATCH_NOT_SUPPORTED_MESSAGE);
+        checkClosed();
+        AerospikeQuery query = parseQuery(sql, null);
+        checkBatchable(query);
+        batchQueries.add(query);
     }
 
     @Override
     public void clearBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(BATCH_NOT_SUPPORTED_MESSAGE);
+        checkClosed();
+        batchQueries.clear();
     }
 
     @Override
     public int[] executeBatch() throws SQLException {
-        throw new SQLFeatureNotSupportedException(BATCH_NOT_SUPPORTED_MESSAGE);
+        checkClosed();
+        if (batchQueries.isEmpty()) {
+            return new int[0];
+        }
+        logger.info(() -> format("Executing batch with %d statements", batchQueries.size()));
+        try {
+            for (AerospikeQuery query : batchQueries) {
+                query.setTxn(connection.getTxn());
+            }
+            return runBatch(batchQueries);
+        } finally {
+            batchQueries.clear();
+        }
+    }
+
+    /**
+     * Executes a batch of INSERT, UPDATE and DELETE statements.
+     *
+     * @throws BatchUpdateException with the update counts if a statement failed.
+     */
+    protected int[] runBatch(List<AerospikeQuery> queries) throws SQLException {
+        int[] updateCounts;
+        try {
+            updateCounts = QueryPerformer.executeBatch(client, this, queries, connection.getConfiguration());
+        } catch (Exception e) {
+            throw new SQLException(e);
+        }
+        return checkUpdateCounts(updateCounts);
+    }
+
+    protected static int[] checkUpdateCounts(int[] updateCounts) throws BatchUpdateException {
+        if (Arrays.stream(updateCounts).anyMatch(count -> count == EXECUTE_FAILED)) {
+            throw new BatchUpdateException("Failed to execute some of the batch entries", updateCounts);
+        }
+        return updateCounts;
+    }
+
+    protected void checkBatchable(AerospikeQuery query) throws SQLException {
+        QueryType queryType = query.getQueryType();
+        if (queryType != QueryType.INSERT && queryType != QueryType.UPDATE && queryType != QueryType.DELETE) {
+            throw new SQLException(format(
+                    "Batch execution is only supported for INSERT, UPDATE and DELETE statements, got: %s",
+                    queryType));
+        }
     }
 
     @Override
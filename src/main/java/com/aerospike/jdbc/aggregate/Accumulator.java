@@ -0,0 +1,256 @@
+package com.aerospike.jdbc.aggregate;
+
+import com.aerospike.jdbc.model.AggregateColumn;
+import com.aerospike.jdbc.util.SpillCodec;
+import com.aerospike.jdbc.util.ValueComparator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The state of an aggregate function for all the groups, held in primitive arrays indexed by the group id,
+ * so that a group costs a few array slots rather than an accumulator object per aggregate.
+ */
+abstract class Accumulator {
+
+    /**
+     * Grows the state arrays to hold the given number of groups.
+     */
+    abstract void grow(int capacity);
+
+    /**
+     * Resets the state of a new group.
+     */
+    abstract void init(int group);
+
+    /**
+     * Adds a value, null for a missing bin, to a group.
+     */
+    abstract void add(int group, Object value);
+
+    abstract Object result(int group);
+
+    /**
+     * Writes the partial state of a group to a spill file.
+     */
+    abstract void write(DataOutput out, int group) throws IOException;
+
+    /**
+     * Merges a partial state read from a spill file into a group.
+     */
+    abstract void merge(DataInput in, int group) throws IOException;
+
+    static Accumulator of(AggregateColumn column) {
+        switch (column.getFunction()) {
+            case COUNT:
+                return new Count(column.isCountAll());
+            case SUM:
+                return new Sum(column.getColumn(), false);
+            case AVG:
+                return new Sum(column.getColumn(), true);
+            case MIN:
+                return new MinMax(-1);
+            case MAX:
+                return new MinMax(1);
+            default:
+                throw new IllegalArgumentException("Unsupported aggregate function " + column.getFunction());
+        }
+    }
+
+    private static final class Count extends Accumulator {
+
+        private final boolean countAll;
+        private long[] counts = new long[0];
+
+        Count(boolean countAll) {
+            this.countAll = countAll;
+        }
+
+        @Override
+        void grow(int capacity) {
+            counts = Arrays.copyOf(counts, capacity);
+        }
+
+        @Override
+        void init(int group) {
+            counts[group] = 0;
+        }
+
+        @Override
+        void add(int group, Object value) {
+            if (countAll || value != null) {
+                counts[group]++;
+            }
+        }
+
+        @Override
+        Object result(int group) {
+            return counts[group];
+        }
+
+        @Override
+        void write(DataOutput out, int group) throws IOException {
+            out.writeLong(counts[group]);
+        }
+
+        @Override
+        void merge(DataInput in, int group) throws IOException {
+            counts[group] += in.readLong();
+        }
+    }
+
+    /**
+     * Sums the integer values exactly as long, switching a group to double once it sees a floating point value
+     * or the long sum overflows.
+     */
+    private static final class Sum extends Accumulator {
+
+        private final String column;
+        private final boolean average;
+        private long[] counts = new long[0];
+        private long[] longSums = new long[0];
+        private double[] doubleSums = new double[0];
+        private boolean[] floating = new boolean[0];
+
+        Sum(String column, boolean average) {
+            this.column = column;
+            this.average = average;
+        }
+
+        @Override
+        void grow(int capacity) {
+            counts = Arrays.copyOf(counts, capacity);
+            longSums = Arrays.copyOf(longSums, capacity);
+            doubleSums = Arrays.copyOf(doubleSums, capacity);
+            floating = Arrays.copyOf(floating, capacity);
+        }
+
+        @Override
+        void init(int group) {
+            counts[group] = 0;
+            longSums[group] = 0;
+            doubleSums[group] = 0;
+            floating[group] = false;
+        }
+
+        @Override
+        void add(int group, Object value) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Long || value instanceof Integer
+                    || value instanceof Short || value instanceof Byte) {
+                addLong(group, ((Number) value).longValue());
+            } else if (value instanceof Number) {
+                addDouble(group, ((Number) value).doubleValue());
+            } else {
+                throw new IllegalArgumentException(String.format("Cannot %s a non-numeric value of column %s",
+                        average ? "AVG" : "SUM", column));
+            }
+            counts[group]++;
+        }
+
+        private void addLong(int group, long value) {
+            if (floating[group]) {
+                doubleSums[group] += value;
+                return;
+            }
+            long sum = longSums[group] + value;
+            if (((longSums[group] ^ sum) & (value ^ sum)) < 0) {
+                // overflow
+                floating[group] = true;
+                doubleSums[group] = (double) longSums[group] + value;
+            } else {
+                longSums[group] = sum;
+            }
+        }
+
+        private void addDouble(int group, double value) {
+            if (!floating[group]) {
+                floating[group] = true;
+                doubleSums[group] = longSums[group];
+            }
+            doubleSums[group] += value;
+        }
+
+        @Override
+        Object result(int group) {
+            if (counts[group] == 0) {
+                return null;
+            }
+            if (average) {
+                return (floating[group] ? doubleSums[group] : (double) longSums[group]) / counts[group];
+            }
+            return floating[group] ? (Object) doubleSums[group] : (Object) longSums[group];
+        }
+
+        @Override
+        void write(DataOutput out, int group) throws IOException {
+            out.writeLong(counts[group]);
+            out.writeBoolean(floating[group]);
+            if (floating[group]) {
+                out.writeDouble(doubleSums[group]);
+            } else {
+                out.writeLong(longSums[group]);
+            }
+        }
+
+        @Override
+        void merge(DataInput in, int group) throws IOException {
+            counts[group] += in.readLong();
+            if (in.readBoolean()) {
+                addDouble(group, in.readDouble());
+            } else {
+                addLong(group, in.readLong());
+            }
+        }
+    }
+
+    private static final class MinMax extends Accumulator {
+
+        private final int sign;
+        private Object[] values = new Object[0];
+
+        /**
+         * @param sign 1 for the maximum, -1 for the minimum.
+         */
+        MinMax(int sign) {
+            this.sign = sign;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void init(int group) {
+            values[group] = null;
+        }
+
+        @Override
+        void add(int group, Object value) {
+            if (value != null && (values[group] == null
+                    || sign * ValueComparator.INSTANCE.compare(value, values[group]) > 0)) {
+                values[group] = value;
+            }
+        }
+
+        @Override
+        Object result(int group) {
+            return values[group];
+        }
+
+        @Override
+        void write(DataOutput out, int group) throws IOException {
+            SpillCodec.writeValue(out, values[group]);
+        }
+
+        @Override
+        void merge(DataInput in, int group) throws IOException {
+            add(group, SpillCodec.readValue(in));
+        }
+    }
+}
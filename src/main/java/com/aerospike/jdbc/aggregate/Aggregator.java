@@ -0,0 +1,330 @@
+package com.aerospike.jdbc.aggregate;
+
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.model.AggregateColumn;
+import com.aerospike.jdbc.util.SpillCodec;
+import com.aerospike.jdbc.util.SpillFile;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+import static com.aerospike.jdbc.util.AerospikeUtils.getColumnValue;
+
+/**
+ * Aggregates a stream of records by the GROUP BY columns.
+ * <p>
+ * The groups are kept in a hash table that maps the group key to a group id, and the aggregate states live in
+ * primitive arrays indexed by the group id, see {@link Accumulator}. Once the table holds {@code maxGroups}
+ * groups, the partial states of all of them are spilled to the temporary files of their hash partition and the
+ * table is cleared. The results of a spilled aggregation are merged one partition at a time, so the memory held
+ * is bounded by the number of groups of a partition, about {@code 1 / SPILL_PARTITIONS} of the groups.
+ * <p>
+ * An aggregation without GROUP BY columns has a single group, which exists even if there are no records,
+ * so that {@code COUNT(*)} of no records is 0.
+ */
+public final class Aggregator implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(Aggregator.class.getName());
+
+    private static final int SPILL_PARTITIONS = 16;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<String> groupBy;
+    private final List<AggregateColumn> aggregates;
+    private final Accumulator[] accumulators;
+    private final int maxGroups;
+
+    private final Map<Object, Integer> groups = new HashMap<>();
+    private final List<Object> groupKeys = new ArrayList<>();
+    private int capacity;
+
+    private SpillPartition[] spillPartitions;
+
+    /**
+     * @param groupBy    the GROUP BY columns.
+     * @param aggregates the aggregate functions.
+     * @param maxGroups  the number of groups held in memory before they are spilled to disk.
+     */
+    public Aggregator(List<String> groupBy, List<AggregateColumn> aggregates, int maxGroups) {
+        this.groupBy = groupBy;
+        this.aggregates = aggregates;
+        this.accumulators = aggregates.stream().map(Accumulator::of).toArray(Accumulator[]::new);
+        this.maxGroups = Math.max(1, maxGroups);
+        if (groupBy.isEmpty()) {
+            group(Collections.emptyList());
+        }
+    }
+
+    public void add(KeyRecord keyRecord) {
+        int group = groupBy.isEmpty() ? 0 : group(groupKey(keyRecord));
+        for (int i = 0; i < accumulators.length; i++) {
+            String column = aggregates.get(i).getColumn();
+            accumulators[i].add(group, column == null ? null : getColumnValue(keyRecord, column));
+        }
+    }
+
+    /**
+     * Returns true if the groups have been spilled to disk.
+     */
+    public boolean isSpilled() {
+        return spillPartitions != null;
+    }
+
+    /**
+     * Returns the aggregation results, a row of the GROUP BY column values followed by the aggregate values per
+     * group. The spill files are deleted as they are read, or on {@link #close()}.
+     */
+    public Iterator<Object[]> results() {
+        if (spillPartitions == null) {
+            return tableRows();
+        }
+        spill();
+        for (SpillPartition partition : spillPartitions) {
+            partition.finishWrite();
+        }
+        return new SpilledRows();
+    }
+
+    @Override
+    public void close() {
+        if (spillPartitions != null) {
+            for (SpillPartition partition : spillPartitions) {
+                partition.delete();
+            }
+        }
+    }
+
+    private Object groupKey(KeyRecord keyRecord) {
+        if (groupBy.size() == 1) {
+            return keyOf(getColumnValue(keyRecord, groupBy.get(0)));
+        }
+        Object[] key = new Object[groupBy.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = keyOf(getColumnValue(keyRecord, groupBy.get(i)));
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Wraps the byte array values, which don't implement equals and hashCode.
+     */
+    private static Object keyOf(Object value) {
+        return value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value;
+    }
+
+    private static Object valueOf(Object keyValue) {
+        return keyValue instanceof ByteBuffer ? ((ByteBuffer) keyValue).array() : keyValue;
+    }
+
+    private int group(Object key) {
+        Integer group = groups.get(key);
+        if (group != null) {
+            return group;
+        }
+        if (groups.size() >= maxGroups) {
+            if (spillPartitions == null) {
+                logger.info(() -> String.format("Aggregation exceeded %d groups, spilling to disk", maxGroups));
+            }
+            spill();
+        }
+        return newGroup(key);
+    }
+
+    private int newGroup(Object key) {
+        int group = groupKeys.size();
+        if (group == capacity) {
+            capacity = Math.max(INITIAL_CAPACITY, capacity * 2);
+            for (Accumulator accumulator : accumulators) {
+                accumulator.grow(capacity);
+            }
+        }
+        for (Accumulator accumulator : accumulators) {
+            accumulator.init(group);
+        }
+        groups.put(key, group);
+        groupKeys.add(key);
+        return group;
+    }
+
+    private Object[] row(int group) {
+        Object[] row = new Object[groupBy.size() + accumulators.length];
+        Object key = groupKeys.get(group);
+        if (groupBy.size() == 1) {
+            row[0] = valueOf(key);
+        } else {
+            List<?> values = (List<?>) key;
+            for (int i = 0; i < values.size(); i++) {
+                row[i] = valueOf(values.get(i));
+            }
+        }
+        for (int i = 0; i < accumulators.length; i++) {
+            row[groupBy.size() + i] = accumulators[i].result(group);
+        }
+        return row;
+    }
+
+    private Iterator<Object[]> tableRows() {
+        return new Iterator<Object[]>() {
+            private int group;
+
+            @Override
+            public boolean hasNext() {
+                return group < groupKeys.size();
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return row(group++);
+            }
+        };
+    }
+
+    private void clearTable() {
+        groups.clear();
+        groupKeys.clear();
+    }
+
+    private void spill() {
+        if (spillPartitions == null) {
+            spillPartitions = new SpillPartition[SPILL_PARTITIONS];
+            for (int i = 0; i < SPILL_PARTITIONS; i++) {
+                spillPartitions[i] = new SpillPartition();
+            }
+        }
+        try {
+            for (int group = 0; group < groupKeys.size(); group++) {
+                Object key = groupKeys.get(group);
+                SpillPartition partition = spillPartitions[partitionOf(key)];
+                DataOutputStream out = partition.out();
+                writeKey(out, key);
+                for (Accumulator accumulator : accumulators) {
+                    accumulator.write(out, group);
+                }
+                partition.groups++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill the aggregation groups", e);
+        }
+        clearTable();
+    }
+
+    private static int partitionOf(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return (h ^ (h >>> 16)) & (SPILL_PARTITIONS - 1);
+    }
+
+    private void writeKey(DataOutputStream out, Object key) throws IOException {
+        if (groupBy.size() == 1) {
+            SpillCodec.writeValue(out, valueOf(key));
+        } else {
+            for (Object value : (List<?>) key) {
+                SpillCodec.writeValue(out, valueOf(value));
+            }
+        }
+    }
+
+    private Object readKey(DataInputStream in) throws IOException {
+        if (groupBy.size() == 1) {
+            return keyOf(SpillCodec.readValue(in));
+        }
+        Object[] key = new Object[groupBy.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = keyOf(SpillCodec.readValue(in));
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Merges the spilled partitions into the table one at a time and iterates over its rows.
+     */
+    private final class SpilledRows implements Iterator<Object[]> {
+
+        private int partition = -1;
+        private Iterator<Object[]> rows = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!rows.hasNext() && partition + 1 < spillPartitions.length) {
+                rows = load(spillPartitions[++partition]);
+            }
+            return rows.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.next();
+        }
+
+        private Iterator<Object[]> load(SpillPartition spillPartition) {
+            clearTable();
+            if (spillPartition.groups == 0) {
+                return Collections.emptyIterator();
+            }
+            try (DataInputStream in = spillPartition.in()) {
+                for (long i = 0; i < spillPartition.groups; i++) {
+                    Object key = readKey(in);
+                    Integer group = groups.get(key);
+                    if (group == null) {
+                        group = newGroup(key);
+                    }
+                    for (Accumulator accumulator : accumulators) {
+                        accumulator.merge(in, group);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the spilled aggregation groups", e);
+            } finally {
+                spillPartition.delete();
+            }
+            if (groups.size() > maxGroups) {
+                logger.warning(() -> String.format("Spilled aggregation partition holds %d groups", groups.size()));
+            }
+            return tableRows();
+        }
+    }
+
+    private static final class SpillPartition {
+
+        private final SpillFile file = new SpillFile("aerospike-jdbc-aggregate");
+        private long groups;
+
+        DataOutputStream out() throws IOException {
+            return file.out();
+        }
+
+        void finishWrite() {
+            try {
+                file.finishWrite();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spill the aggregation groups", e);
+            }
+        }
+
+        DataInputStream in() throws IOException {
+            return file.in();
+        }
+
+        void delete() {
+            file.delete();
+        }
+    }
+}
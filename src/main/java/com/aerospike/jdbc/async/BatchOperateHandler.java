@@ -0,0 +1,219 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.listener.BatchOperateListListener;
+import com.aerospike.client.listener.BatchRecordArrayListener;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executes a sequence of batch records, or a batch delete of keys, as chunks of {@code batchChunkSize} records.
+ * <p>
+ * Each chunk is sent as a single batch command the client splits per node, and up to {@code batchChunksInFlight}
+ * chunks run concurrently on the event loops. The records of a chunk are built only once a chunk slot is free, so
+ * a large batch is never held in memory at once. The outcome of every record is reported as a JDBC batch update
+ * count.
+ */
+public class BatchOperateHandler {
+
+    private static final Logger logger = Logger.getLogger(BatchOperateHandler.class.getName());
+
+    private final IAerospikeClient client;
+    private final int chunkSize;
+    private final Semaphore chunksInFlight;
+
+    public BatchOperateHandler(IAerospikeClient client, int chunkSize, int chunksInFlight) {
+        this.client = client;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunksInFlight = new Semaphore(Math.max(1, chunksInFlight));
+    }
+
+    /**
+     * Creates a handler running {@code batchChunksInFlight} chunks at once, or a chunk per event loop if not set.
+     */
+    public static BatchOperateHandler create(IAerospikeClient client, DriverPolicy driverPolicy) {
+        int chunksInFlight = driverPolicy.getBatchChunksInFlight() > 0 ? driverPolicy.getBatchChunksInFlight()
+                : EventLoopProvider.getEventLoops().getSize();
+        return new BatchOperateHandler(client, driverPolicy.getBatchChunkSize(), chunksInFlight);
+    }
+
+    /**
+     * Executes the batch records and returns their update counts, in the order of the records: 1 for a record
+     * written or deleted, 0 for a record not found, filtered out or already existing, and
+     * {@link Statement#EXECUTE_FAILED} for a record failed with another error.
+     */
+    public int[] execute(BatchPolicy batchPolicy, List<BatchRecord> batchRecords) {
+        return execute(batchPolicy, batchRecords.size(), batchRecords.iterator());
+    }
+
+    /**
+     * Executes the batch records, built lazily by the iterator, and returns their update counts as
+     * {@link #execute(BatchPolicy, List)} does.
+     *
+     * @param size the number of batch records.
+     */
+    public int[] execute(BatchPolicy batchPolicy, int size, Iterator<BatchRecord> batchRecords) {
+        int[] updateCounts = new int[size];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        int offset = 0;
+        while (batchRecords.hasNext()) {
+            acquire();
+            List<BatchRecord> chunk = new ArrayList<>(Math.min(chunkSize, size - offset));
+            while (chunk.size() < chunkSize && batchRecords.hasNext()) {
+                chunk.add(batchRecords.next());
+            }
+            OperateChunkListener listener = new OperateChunkListener(updateCounts, offset, chunk);
+            futures.add(listener.done);
+            try {
+                client.operate(EventLoopProvider.getEventLoop(), listener, new BatchPolicy(batchPolicy), chunk);
+            } catch (AerospikeException e) {
+                listener.onFailure(e);
+            }
+            offset += chunk.size();
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        return updateCounts;
+    }
+
+    /**
+     * Deletes the records of the keys and returns their update counts, in the order of the keys, as
+     * {@link #execute(BatchPolicy, List)} does.
+     */
+    public int[] delete(BatchPolicy batchPolicy, BatchDeletePolicy batchDeletePolicy, Key[] keys) {
+        int[] updateCounts = new int[keys.length];
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int offset = 0; offset < keys.length; offset += chunkSize) {
+            acquire();
+            Key[] chunk = Arrays.copyOfRange(keys, offset, Math.min(offset + chunkSize, keys.length));
+            DeleteChunkListener listener = new DeleteChunkListener(updateCounts, offset, chunk.length);
+            futures.add(listener.done);
+            try {
+                client.delete(EventLoopProvider.getEventLoop(), listener, new BatchPolicy(batchPolicy),
+                        batchDeletePolicy, chunk);
+            } catch (AerospikeException e) {
+                listener.onFailure(null, e);
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        return updateCounts;
+    }
+
+    /**
+     * Returns the number of records the update counts report as written or deleted.
+     */
+    public static int total(int[] updateCounts) {
+        int total = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                total += updateCount;
+            }
+        }
+        return total;
+    }
+
+    private void acquire() {
+        try {
+            chunksInFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch chunk to complete", e);
+        }
+    }
+
+    private static int updateCount(BatchRecord batchRecord) {
+        if (batchRecord == null) {
+            return Statement.EXECUTE_FAILED;
+        }
+        switch (batchRecord.resultCode) {
+            case ResultCode.OK:
+                return 1;
+            case ResultCode.KEY_NOT_FOUND_ERROR:
+            case ResultCode.FILTERED_OUT:
+            case ResultCode.KEY_EXISTS_ERROR:
+                return 0;
+            default:
+                return Statement.EXECUTE_FAILED;
+        }
+    }
+
+    private abstract class ChunkListener {
+
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final int[] updateCounts;
+        private final int offset;
+
+        ChunkListener(int[] updateCounts, int offset) {
+            this.updateCounts = updateCounts;
+            this.offset = offset;
+        }
+
+        /**
+         * Records the update counts of the chunk, all failed if its records are not known, and frees its slot.
+         */
+        void complete(List<BatchRecord> records, int size) {
+            for (int i = 0; i < size; i++) {
+                updateCounts[offset + i] = records == null ? Statement.EXECUTE_FAILED : updateCount(records.get(i));
+            }
+            chunksInFlight.release();
+            done.complete(null);
+        }
+    }
+
+    private final class OperateChunkListener extends ChunkListener implements BatchOperateListListener {
+
+        private final List<BatchRecord> chunk;
+
+        OperateChunkListener(int[] updateCounts, int offset, List<BatchRecord> chunk) {
+            super(updateCounts, offset);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public void onSuccess(List<BatchRecord> records, boolean status) {
+            complete(chunk, chunk.size());
+        }
+
+        @Override
+        public void onFailure(AerospikeException exception) {
+            // the records not answered keep their NO_RESPONSE result code and are reported as failed
+            logger.log(Level.SEVERE, "Batch operation failure", exception);
+            complete(chunk, chunk.size());
+        }
+    }
+
+    private final class DeleteChunkListener extends ChunkListener implements BatchRecordArrayListener {
+
+        private final int size;
+
+        DeleteChunkListener(int[] updateCounts, int offset, int size) {
+            super(updateCounts, offset);
+            this.size = size;
+        }
+
+        @Override
+        public void onSuccess(BatchRecord[] records, boolean status) {
+            complete(Arrays.asList(records), size);
+        }
+
+        @Override
+        public void onFailure(BatchRecord[] records, AerospikeException exception) {
+            logger.log(Level.SEVERE, "Batch delete failure", exception);
+            complete(records == null ? null : Arrays.asList(records), size);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.Statement;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Counts the records matching a query without handing them over to a {@link RecordSet}.
+ * <p>
+ * The scan or secondary index query runs as partition range slices concurrently on the event loops, and each
+ * slice counts its records in the listener callback, so a filtered count runs at the speed of the server rather
+ * than of the record queue. The records are read without their bins.
+ */
+public class CountQueryHandler {
+
+    private static final Logger logger = Logger.getLogger(CountQueryHandler.class.getName());
+
+    private final IAerospikeClient client;
+    private final int slices;
+    private final int recordsPerSecond;
+    private final LongAdder count = new LongAdder();
+    private final AtomicReference<AerospikeException> failure = new AtomicReference<>();
+
+    public CountQueryHandler(IAerospikeClient client, int slices, int recordsPerSecond) {
+        this.client = client;
+        this.slices = Math.max(1, Math.min(slices, Node.PARTITIONS));
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    /**
+     * Creates a handler running a slice per event loop, or {@code scanParallelism} slices if greater.
+     */
+    public static CountQueryHandler create(IAerospikeClient client, DriverPolicy driverPolicy, int recordsPerSecond) {
+        return new CountQueryHandler(client, Math.max(driverPolicy.getScanParallelism(),
+                EventLoopProvider.getEventLoops().getSize()), recordsPerSecond);
+    }
+
+    public long countScan(ScanPolicy scanPolicy, AerospikeQuery query) {
+        scanPolicy.includeBinData = false;
+        scanPolicy.maxRecords = 0;
+        return count((eventLoop, listener, partitionFilter) ->
+                client.scanPartitions(eventLoop, listener, new ScanPolicy(scanPolicy), partitionFilter,
+                        query.getCatalog(), query.getSetName()));
+    }
+
+    public long countQuery(QueryPolicy queryPolicy, AerospikeQuery query, AerospikeSecondaryIndex secondaryIndex) {
+        queryPolicy.includeBinData = false;
+        return count((eventLoop, listener, partitionFilter) -> {
+            Statement statement = new Statement();
+            statement.setRecordsPerSecond(recordsPerSecond);
+            statement.setIndexName(secondaryIndex.getIndexName());
+            statement.setNamespace(query.getCatalog());
+            statement.setSetName(query.getSetName());
+            if (Objects.nonNull(query.getPredicate())) {
+                query.getPredicate().toFilter(secondaryIndex.getBinName()).ifPresent(statement::setFilter);
+            }
+            client.query(eventLoop, listener, new QueryPolicy(queryPolicy), statement, partitionFilter);
+        });
+    }
+
+    private long count(SliceCommand command) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[slices];
+        for (int i = 0; i < slices; i++) {
+            int begin = i * Node.PARTITIONS / slices;
+            int end = (i + 1) * Node.PARTITIONS / slices;
+            CountListener listener = new CountListener();
+            futures[i] = listener.done;
+            try {
+                command.execute(EventLoopProvider.getEventLoop(), listener,
+                        PartitionFilter.range(begin, end - begin));
+            } catch (AerospikeException e) {
+                listener.onFailure(e);
+            }
+        }
+        CompletableFuture.allOf(futures).join();
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return count.sum();
+    }
+
+    @FunctionalInterface
+    private interface SliceCommand {
+        void execute(EventLoop eventLoop, RecordSequenceListener listener, PartitionFilter partitionFilter);
+    }
+
+    private final class CountListener implements RecordSequenceListener {
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        @Override
+        public void onRecord(Key key, Record rec) throws AerospikeException {
+            if (failure.get() != null) {
+                throw new AerospikeException.QueryTerminated();
+            }
+            count.increment();
+        }
+
+        @Override
+        public void onSuccess() {
+            done.complete(null);
+        }
+
+        @Override
+        public void onFailure(AerospikeException exception) {
+            if (exception.getResultCode() == ResultCode.QUERY_TERMINATED && failure.get() != null) {
+                // terminated after another slice failed
+                logger.fine(exception::getMessage);
+            } else {
+                failure.compareAndSet(null, exception);
+            }
+            done.complete(null);
+        }
+    }
+}
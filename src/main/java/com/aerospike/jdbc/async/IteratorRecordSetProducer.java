@@ -0,0 +1,91 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streams the records computed on the client, such as the aggregation results, into a {@link RecordSet}.
+ * <p>
+ * The records are produced a page of half the buffer at a time: the first pages by the caller, the next ones
+ * by the result set consumer through {@link RecordSet#whenFree(int, Runnable)} once it has freed a page worth of
+ * the buffer. So the producer never waits for the consumer, and no thread is held while the result set is open.
+ * The resource is released once the records are streamed, or when the result set is closed before they are.
+ */
+public final class IteratorRecordSetProducer {
+
+    private static final Logger logger = Logger.getLogger(IteratorRecordSetProducer.class.getName());
+
+    private final Iterator<KeyRecord> records;
+    private final Closeable resource;
+    private final RecordSet recordSet;
+    private final int pageSize;
+    private final Runnable nextPage = this::producePage;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private IteratorRecordSetProducer(Iterator<KeyRecord> records, Closeable resource, DriverPolicy driverPolicy) {
+        this.records = records;
+        this.resource = resource;
+        this.pageSize = Math.max(1, driverPolicy.getRecordSetQueueCapacity() / 2);
+        this.recordSet = new RecordSet(driverPolicy.getRecordSetQueueCapacity(), pageSize,
+                driverPolicy.getRecordSetTimeoutMs());
+    }
+
+    /**
+     * Starts streaming the records.
+     *
+     * @param records      the records to stream.
+     * @param resource     the resource the records are read from, closed once they are streamed, have failed,
+     *                     or the record set is invalidated.
+     * @param driverPolicy the driver policy.
+     * @return the record set the records are streamed into.
+     */
+    public static RecordSet start(Iterator<KeyRecord> records, Closeable resource, DriverPolicy driverPolicy) {
+        IteratorRecordSetProducer producer = new IteratorRecordSetProducer(records, resource, driverPolicy);
+        producer.recordSet.whenInvalidated(producer::release);
+        producer.producePage();
+        return producer.recordSet;
+    }
+
+    private void producePage() {
+        try {
+            for (int i = 0; i < pageSize; i++) {
+                if (!records.hasNext()) {
+                    recordSet.flush();
+                    recordSet.close();
+                    release();
+                    return;
+                }
+                if (!recordSet.put(records.next())) {
+                    // invalidated by the consumer
+                    release();
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Failed to produce the records", e);
+            recordSet.abort();
+            release();
+            return;
+        }
+        recordSet.flush();
+        recordSet.whenFree(pageSize, nextPage);
+    }
+
+    private void release() {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (IOException e) {
+            logger.warning(e::getMessage);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.Statement;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a secondary index query per filter of a predicate, such as a value of an {@code IN} list or a side of an
+ * {@code OR}, concurrently on the event loops, merged into a single {@link RecordSet}.
+ * <p>
+ * The queries run as paged sources of a {@link ParallelPagedProducer}, at most one per event loop or
+ * {@link DriverPolicy#getScanParallelism()} if greater at a time, and a limit is honored across the queries.
+ * Overlapping filters, such as the ranges of an {@code OR}, may select the same record more than once, so their
+ * records are de-duplicated by the key digest; the disjoint filters of distinct {@code IN} values are not.
+ */
+public class MultiRangeQueryHandler {
+
+    private final IAerospikeClient client;
+    private final DriverPolicy driverPolicy;
+    private final int recordsPerSecond;
+
+    public MultiRangeQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy, int recordsPerSecond) {
+        this.client = client;
+        this.driverPolicy = driverPolicy;
+        this.recordsPerSecond = recordsPerSecond;
+    }
+
+    public RecordSet execute(QueryPolicy queryPolicy, AerospikeQuery query, AerospikeSecondaryIndex secondaryIndex,
+                             List<Filter> filters) {
+        long limit = query.getLimit() == null ? 0 : query.getLimit();
+        int maxRunning = Math.max(driverPolicy.getScanParallelism(), EventLoopProvider.getEventLoops().getSize());
+        ParallelPagedProducer producer = new ParallelPagedProducer(driverPolicy, maxRunning, limit,
+                !isDisjoint(filters));
+        for (Filter filter : filters) {
+            Statement statement = new Statement();
+            statement.setRecordsPerSecond(recordsPerSecond);
+            statement.setIndexName(secondaryIndex.getIndexName());
+            statement.setNamespace(query.getCatalog());
+            statement.setSetName(query.getTable());
+            statement.setBinNames(query.columnBins());
+            statement.setFilter(filter);
+
+            producer.addSource(PartitionFilter.all(), (eventLoop, listener, partitionFilter, maxRecords) -> {
+                statement.setMaxRecords(maxRecords);
+                client.query(eventLoop, listener, new QueryPolicy(queryPolicy), statement, partitionFilter);
+            });
+        }
+        return producer.start();
+    }
+
+    /**
+     * Returns true if no two filters select the same bin value: distinct string values, or integer ranges
+     * that don't intersect.
+     */
+    static boolean isDisjoint(List<Filter> filters) {
+        if (filters.stream().allMatch(f -> f.getBegin().getObject() instanceof String
+                && f.getBegin().getObject().equals(f.getEnd().getObject()))) {
+            Set<Object> values = new HashSet<>();
+            return filters.stream().allMatch(f -> values.add(f.getBegin().getObject()));
+        }
+        if (filters.stream().allMatch(f -> f.getBegin().getObject() instanceof Long
+                && f.getEnd().getObject() instanceof Long)) {
+            List<Filter> sorted = filters.stream()
+                    .sorted(Comparator.comparingLong(f -> f.getBegin().toLong()))
+                    .collect(Collectors.toList());
+            long end = Long.MIN_VALUE;
+            for (Filter filter : sorted) {
+                if (end != Long.MIN_VALUE && filter.getBegin().toLong() <= end) {
+                    return false;
+                }
+                end = Math.max(end, filter.getEnd().toLong());
+            }
+            return true;
+        }
+        return false;
+    }
+}
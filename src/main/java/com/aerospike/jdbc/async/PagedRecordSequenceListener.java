@@ -0,0 +1,100 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streams a partition scan or query into a {@link RecordSet} in pages of the statement fetch size.
+ * <p>
+ * Each page is a command limited to {@code fetchSize} records that resumes from the partition filter state
+ * of the previous one. The next page is requested only when the result set consumer has freed a page
+ * worth of the buffer, so a slow consumer pauses the scan instead of timing it out.
+ */
+final class PagedRecordSequenceListener implements RecordSequenceListener {
+
+    private static final Logger logger = Logger.getLogger(PagedRecordSequenceListener.class.getName());
+
+    private final RecordSetProducer producer;
+    private final PartitionFilter partitionFilter;
+    private final int pageSize;
+    private final long maxRecords;
+    private final Runnable nextPage = this::requestPage;
+
+    private LongConsumer pageRequest;
+    private long count;
+
+    /**
+     * @param driverPolicy    the driver policy.
+     * @param fetchSize       the statement fetch size, the page size.
+     * @param eventLoop       the event loop the pages run on.
+     * @param partitionFilter the partition filter, which keeps the scan state between the pages.
+     * @param maxRecords      the total number of records to return, 0 for all the records.
+     */
+    PagedRecordSequenceListener(DriverPolicy driverPolicy, int fetchSize, EventLoop eventLoop,
+                                PartitionFilter partitionFilter, long maxRecords) {
+        this.producer = new RecordSetProducer(driverPolicy, fetchSize, eventLoop);
+        this.partitionFilter = partitionFilter;
+        this.pageSize = Math.min(fetchSize, RecordSetProducer.MAX_FETCH_SIZE);
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * Starts the scan.
+     *
+     * @param pageRequest issues the next page command for this listener with the given max records.
+     * @return the record set the pages are streamed into.
+     */
+    RecordSet start(LongConsumer pageRequest) {
+        this.pageRequest = pageRequest;
+        requestPage();
+        return producer.getRecordSet();
+    }
+
+    private void requestPage() {
+        long pageMaxRecords = maxRecords > 0 ? Math.min(pageSize, maxRecords - count) : pageSize;
+        try {
+            pageRequest.accept(pageMaxRecords);
+        } catch (AerospikeException e) {
+            onFailure(e);
+        }
+    }
+
+    @Override
+    public void onRecord(Key key, Record rec) throws AerospikeException {
+        if (!producer.put(new KeyRecord(key, rec))) {
+            throw new AerospikeException.QueryTerminated();
+        }
+        count++;
+    }
+
+    @Override
+    public void onSuccess() {
+        if (partitionFilter.isDone() || (maxRecords > 0 && count >= maxRecords)) {
+            producer.close();
+        } else {
+            producer.flush();
+            producer.getRecordSet().whenFree(pageSize, nextPage);
+        }
+    }
+
+    @Override
+    public void onFailure(AerospikeException exception) {
+        if (exception.getResultCode() == ResultCode.QUERY_TERMINATED) {
+            logger.warning(exception::getMessage);
+        } else {
+            logger.log(Level.SEVERE, "Aerospike listener failure", exception);
+        }
+        producer.abort();
+    }
+}
@@ -0,0 +1,325 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Merges several paged partition scans or queries, the sources, running concurrently on the event loops into
+ * a single {@link RecordSet}.
+ * <p>
+ * Each source runs as pages limited in size that resume from the partition filter state of the previous one,
+ * as {@link PagedRecordSequenceListener} does. A page starts only when the record set has a free slot for each
+ * of its records beside the slots reserved by the running pages, so handing the records over never waits for
+ * the consumer: a source collects its records into a local chunk and publishes the chunk under the producer
+ * lock, which keeps a single record set producer at a time and is never held while waiting. When the slots
+ * run out the next pages are requested with {@link RecordSet#whenFree(int, Runnable)}, so a slow consumer
+ * pauses the sources instead of parking the event loops.
+ * <p>
+ * A limit is honored across the sources: the pages are limited to the records not returned or reserved yet,
+ * and the running pages are terminated once it is reached. The sources whose records may overlap are merged
+ * distinct by the key digest.
+ */
+final class ParallelPagedProducer {
+
+    private static final Logger logger = Logger.getLogger(ParallelPagedProducer.class.getName());
+
+    /**
+     * Issues a page command of a source.
+     */
+    @FunctionalInterface
+    interface PageRequest {
+
+        /**
+         * @param eventLoop       the event loop of the source.
+         * @param listener        the page listener.
+         * @param partitionFilter the source partition filter, which keeps the state between the pages.
+         * @param maxRecords      the page max records.
+         */
+        void request(EventLoop eventLoop, RecordSequenceListener listener, PartitionFilter partitionFilter,
+                     long maxRecords);
+    }
+
+    private final DriverPolicy driverPolicy;
+    private final int maxRunning;
+    private final long maxRecords;
+    private final RecordSet recordSet;
+    private final List<Source> sources = new ArrayList<>();
+    private final Runnable refill = this::refill;
+
+    // guarded by this
+    private final Set<Key> keys;
+    private final ArrayDeque<Source> ready = new ArrayDeque<>();
+    private int pending;
+    private int running;
+    private long reserved;
+    private long count;
+    private boolean refillRequested;
+    private volatile boolean completed;
+
+    private int pageSize;
+    private int chunkSize;
+
+    /**
+     * @param driverPolicy the driver policy.
+     * @param maxRunning   the maximum number of pages running concurrently.
+     * @param maxRecords   the total number of records to return, 0 for all the records.
+     * @param distinct     whether a record returned by several sources is merged once.
+     */
+    ParallelPagedProducer(DriverPolicy driverPolicy, int maxRunning, long maxRecords, boolean distinct) {
+        this.driverPolicy = driverPolicy;
+        this.maxRunning = Math.max(1, maxRunning);
+        this.maxRecords = maxRecords;
+        this.keys = distinct ? new HashSet<>() : null;
+        int chunk = driverPolicy.getRecordSetChunkSize() > 0 ? driverPolicy.getRecordSetChunkSize() : 64;
+        this.recordSet = new RecordSet(driverPolicy.getRecordSetQueueCapacity(), chunk,
+                driverPolicy.getRecordSetTimeoutMs());
+    }
+
+    /**
+     * Adds a source; called before {@link #start()} only.
+     *
+     * @param partitionFilter the partitions of the source.
+     * @param pageRequest     issues the page commands of the source.
+     */
+    void addSource(PartitionFilter partitionFilter, PageRequest pageRequest) {
+        sources.add(new Source(EventLoopProvider.getEventLoop(), partitionFilter, pageRequest));
+    }
+
+    /**
+     * Starts the sources, up to the maximum running concurrently.
+     *
+     * @return the record set the sources are merged into.
+     */
+    RecordSet start() {
+        int capacity = recordSet.getCapacity();
+        pageSize = Math.max(1, Math.min(RecordSetProducer.MAX_FETCH_SIZE,
+                capacity / Math.max(1, Math.min(sources.size(), maxRunning))));
+        int chunk = driverPolicy.getRecordSetChunkSize() > 0 ? driverPolicy.getRecordSetChunkSize() : 64;
+        chunkSize = Math.min(chunk, pageSize);
+        synchronized (this) {
+            pending = sources.size();
+            ready.addAll(sources);
+            if (pending == 0) {
+                complete();
+            }
+        }
+        schedule();
+        return recordSet;
+    }
+
+    /**
+     * Starts the ready sources the free slots and the running limit allow; the commands are issued
+     * out of the lock.
+     */
+    private void schedule() {
+        List<Source> started = new ArrayList<>();
+        synchronized (this) {
+            while (!completed && !ready.isEmpty() && running < maxRunning) {
+                long pageMax = maxRecords > 0 ? Math.min(pageSize, maxRecords - count - reserved) : pageSize;
+                if (pageMax <= 0) {
+                    break;
+                }
+                if (recordSet.getFreeSlots() - reserved < pageMax) {
+                    if (!refillRequested) {
+                        refillRequested = true;
+                        recordSet.whenFree((int) Math.min(reserved + pageMax, recordSet.getCapacity()), refill);
+                    }
+                    break;
+                }
+                Source source = ready.poll();
+                source.outstanding = (int) pageMax;
+                running++;
+                reserved += pageMax;
+                started.add(source);
+            }
+        }
+        for (Source source : started) {
+            source.requestPage();
+        }
+    }
+
+    private void refill() {
+        synchronized (this) {
+            refillRequested = false;
+        }
+        schedule();
+    }
+
+    /**
+     * Publishes a source chunk; returns false if no more records are accepted.
+     */
+    private synchronized boolean publish(Source source, KeyRecord[] chunk, int length) {
+        int released = Math.min(length, source.outstanding);
+        source.outstanding -= released;
+        reserved -= released;
+        if (completed) {
+            return false;
+        }
+        if (keys != null) {
+            int unique = 0;
+            for (int i = 0; i < length; i++) {
+                if (keys.add(chunk[i].key)) {
+                    chunk[unique++] = chunk[i];
+                }
+            }
+            length = unique;
+        }
+        int accepted = maxRecords > 0 ? (int) Math.min(length, maxRecords - count) : length;
+        try {
+            for (int i = 0; i < accepted; i++) {
+                if (!recordSet.put(chunk[i])) {
+                    completed = true;
+                    return false;
+                }
+            }
+        } catch (AerospikeException e) {
+            completed = true;
+            throw e;
+        }
+        recordSet.flush();
+        count += accepted;
+        if (maxRecords > 0 && count >= maxRecords) {
+            complete();
+            return false;
+        }
+        return true;
+    }
+
+    private void pageDone(Source source) {
+        synchronized (this) {
+            running--;
+            reserved -= source.outstanding;
+            source.outstanding = 0;
+            if (completed) {
+                return;
+            }
+            if (!source.partitionFilter.isDone()) {
+                ready.add(source);
+            } else if (--pending == 0) {
+                complete();
+                return;
+            }
+        }
+        schedule();
+    }
+
+    private synchronized void fail(AerospikeException exception) {
+        if (!completed) {
+            logger.log(Level.SEVERE, "Aerospike listener failure", exception);
+            completed = true;
+            recordSet.abort();
+        }
+    }
+
+    private void complete() {
+        completed = true;
+        recordSet.flush();
+        recordSet.close();
+    }
+
+    private final class Source implements RecordSequenceListener {
+
+        private final EventLoop eventLoop;
+        private final PartitionFilter partitionFilter;
+        private final PageRequest pageRequest;
+        private final Runnable lingerFlush = this::lingerFlush;
+        private KeyRecord[] chunk;
+        private int length;
+        private boolean flushScheduled;
+
+        // the slots reserved for the running page not taken yet, guarded by the producer
+        private int outstanding;
+
+        Source(EventLoop eventLoop, PartitionFilter partitionFilter, PageRequest pageRequest) {
+            this.eventLoop = eventLoop;
+            this.partitionFilter = partitionFilter;
+            this.pageRequest = pageRequest;
+        }
+
+        private void requestPage() {
+            if (chunk == null) {
+                chunk = new KeyRecord[chunkSize];
+            }
+            try {
+                pageRequest.request(eventLoop, this, partitionFilter, outstanding);
+            } catch (AerospikeException e) {
+                onFailure(e);
+            }
+        }
+
+        @Override
+        public void onRecord(Key key, Record rec) throws AerospikeException {
+            if (completed) {
+                throw new AerospikeException.QueryTerminated();
+            }
+            chunk[length++] = new KeyRecord(key, rec);
+            if (length == chunk.length) {
+                flush();
+            } else if (!flushScheduled && driverPolicy.getRecordSetChunkLingerMs() > 0) {
+                flushScheduled = true;
+                eventLoop.schedule(lingerFlush, driverPolicy.getRecordSetChunkLingerMs(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void lingerFlush() {
+            flushScheduled = false;
+            if (length > 0 && !completed) {
+                try {
+                    flush();
+                } catch (AerospikeException.QueryTerminated e) {
+                    // the page command terminates on its next record
+                }
+            }
+        }
+
+        private void flush() {
+            boolean more = publish(this, chunk, length);
+            Arrays.fill(chunk, 0, length, null);
+            length = 0;
+            if (!more) {
+                throw new AerospikeException.QueryTerminated();
+            }
+        }
+
+        @Override
+        public void onSuccess() {
+            if (length > 0) {
+                try {
+                    publish(this, chunk, length);
+                } catch (AerospikeException e) {
+                    logger.warning(e::getMessage);
+                }
+                Arrays.fill(chunk, 0, length, null);
+                length = 0;
+            }
+            pageDone(this);
+        }
+
+        @Override
+        public void onFailure(AerospikeException exception) {
+            if (exception.getResultCode() == ResultCode.QUERY_TERMINATED && completed) {
+                logger.fine(exception::getMessage);
+                pageDone(this);
+            } else {
+                fail(exception);
+            }
+        }
+    }
+}
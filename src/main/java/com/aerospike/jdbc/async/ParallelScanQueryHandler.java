@@ -0,0 +1,46 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+/**
+ * Scans a set as {@code N} partition range slices running concurrently on the event loops, merged into a single
+ * {@link RecordSet}.
+ * <p>
+ * The slices run as paged sources of a {@link ParallelPagedProducer}, which sizes the pages so the running ones
+ * share the record set buffer and starts the next pages as the consumer frees it. A limit is honored across
+ * the slices.
+ */
+public class ParallelScanQueryHandler {
+
+    private final IAerospikeClient client;
+    private final DriverPolicy driverPolicy;
+    private final int slices;
+
+    public ParallelScanQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy, int slices) {
+        this.client = client;
+        this.driverPolicy = driverPolicy;
+        this.slices = Math.max(1, Math.min(slices, Node.PARTITIONS));
+    }
+
+    public RecordSet execute(ScanPolicy scanPolicy, AerospikeQuery query) {
+        ParallelPagedProducer producer = new ParallelPagedProducer(driverPolicy, slices, scanPolicy.maxRecords,
+                false);
+        for (int i = 0; i < slices; i++) {
+            int begin = i * Node.PARTITIONS / slices;
+            int end = (i + 1) * Node.PARTITIONS / slices;
+            producer.addSource(PartitionFilter.range(begin, end - begin),
+                    (eventLoop, listener, partitionFilter, maxRecords) -> {
+                        ScanPolicy pagePolicy = new ScanPolicy(scanPolicy);
+                        pagePolicy.maxRecords = maxRecords;
+                        client.scanPartitions(eventLoop, listener, pagePolicy, partitionFilter,
+                                query.getCatalog(), query.getSetName(), query.columnBins());
+                    });
+        }
+        return producer.start();
+    }
+}
@@ -0,0 +1,134 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import com.google.common.io.BaseEncoding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The resumable state of a partition scan, kept in its {@link PartitionFilter}.
+ * <p>
+ * Once a scan stops, limited by its max records, the partition filter holds the progress of every partition:
+ * whether it needs to be scanned again and the digest of the last record returned from it. The cursor token
+ * is an opaque, URL-safe encoding of this state; a scan started from the token resumes after the last record
+ * returned from each partition, so that a page costs the page size rather than a rescan of the previous pages.
+ */
+public final class PartitionCursor {
+
+    private static final int VERSION = 1;
+    private static final int DIGEST_SIZE = 20;
+
+    private static final int RETRY = 1;
+    private static final int DIGEST = 1 << 1;
+    private static final int BVAL = 1 << 2;
+
+    private static final BaseEncoding encoding = BaseEncoding.base64Url().omitPadding();
+
+    private final PartitionFilter partitionFilter;
+
+    private PartitionCursor(PartitionFilter partitionFilter) {
+        this.partitionFilter = partitionFilter;
+    }
+
+    /**
+     * Creates a cursor over all the partitions, or resumes the one of a token.
+     *
+     * @param token the cursor token, null or empty to start from the beginning.
+     * @return a new {@link PartitionCursor} object.
+     * @throws IllegalArgumentException if the token is not a valid cursor token.
+     */
+    public static PartitionCursor of(String token) {
+        if (token == null || token.isEmpty()) {
+            return new PartitionCursor(PartitionFilter.all());
+        }
+        return new PartitionCursor(decode(token));
+    }
+
+    public PartitionFilter getPartitionFilter() {
+        return partitionFilter;
+    }
+
+    /**
+     * Returns the token to resume the scan with, valid once the scan has stopped.
+     *
+     * @return the cursor token, or null if all the partitions are scanned.
+     */
+    public String getToken() {
+        if (partitionFilter.isDone()) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            int begin = partitionFilter.getBegin();
+            int count = partitionFilter.getCount();
+            PartitionStatus[] statuses = partitionFilter.getPartitions();
+            out.writeByte(VERSION);
+            out.writeShort(begin);
+            out.writeShort(count);
+            for (int i = 0; i < count; i++) {
+                if (statuses == null) {
+                    out.writeByte(RETRY);
+                    continue;
+                }
+                PartitionStatus status = statuses[i];
+                out.writeByte((status.retry ? RETRY : 0)
+                        | (status.digest != null ? DIGEST : 0)
+                        | (status.bval != 0 ? BVAL : 0));
+                if (status.digest != null) {
+                    out.write(status.digest);
+                }
+                if (status.bval != 0) {
+                    out.writeLong(status.bval);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return encoding.encode(bytes.toByteArray());
+    }
+
+    private static PartitionFilter decode(String token) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(encoding.decode(token))))) {
+            if (in.readUnsignedByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+            int begin = in.readUnsignedShort();
+            int count = in.readUnsignedShort();
+            if (count == 0 || begin + count > Node.PARTITIONS) {
+                throw new IllegalArgumentException("Invalid cursor partition range");
+            }
+            PartitionStatus[] statuses = new PartitionStatus[count];
+            for (int i = 0; i < count; i++) {
+                int flags = in.readUnsignedByte();
+                PartitionStatus status = new PartitionStatus(begin + i);
+                status.retry = (flags & RETRY) != 0;
+                if ((flags & DIGEST) != 0) {
+                    status.digest = new byte[DIGEST_SIZE];
+                    in.readFully(status.digest);
+                }
+                if ((flags & BVAL) != 0) {
+                    status.bval = in.readLong();
+                }
+                statuses[i] = status;
+            }
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("Unexpected cursor data");
+            }
+            PartitionFilter filter = PartitionFilter.range(begin, count);
+            filter.setPartitions(statuses);
+            return filter;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token", e);
+        }
+    }
+}
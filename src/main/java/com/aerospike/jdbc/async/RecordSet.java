@@ -9,11 +9,30 @@ import javax.annotation.Nonnull;
 import java.io.Closeable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Logger;
 
+/**
+ * Hands the records over from the client listener, the producer, to the JDBC result set, the consumer.
+ * <p>
+ * The records go through a single-producer/single-consumer ring buffer: the producer publishes a record
+ * with a volatile write of the tail index, the consumer frees a slot with a volatile write of the head index,
+ * and either side parks only when the buffer is empty or full. The producer calls must not overlap,
+ * which holds for the client listeners as an async command completes on a single event loop.
+ * <p>
+ * With a chunk size above one the producer stages the records in the free slots past the tail and publishes
+ * them as a unit once the chunk is full or on {@link #flush()}, paying the volatile write and the consumer
+ * wakeup once per chunk. The consumer drains a published chunk without touching the shared indices.
+ * <p>
+ * A paged producer doesn't wait for free slots: it registers the request of its next page with
+ * {@link #whenFree(int, Runnable)}, which the consumer runs once it has freed enough slots for a page.
+ * <p>
+ * The end of the records and a failure are signaled with the {@code END} and {@code FAILURE} sentinels,
+ * which don't take a buffer slot: the end is seen once the buffered records are consumed, the failure
+ * discards them. The first of the two signaled wins.
+ */
 public final class RecordSet
         implements Iterable<KeyRecord>, Closeable {
 
@@ -22,26 +41,66 @@ public final class RecordSet
     private static final KeyRecord END = new KeyRecord(null, null);
     private static final KeyRecord FAILURE = new KeyRecord(null, null);
 
-    private final BlockingQueue<KeyRecord> queue;
+    private static final AtomicReferenceFieldUpdater<RecordSet, KeyRecord> TERMINAL =
+            AtomicReferenceFieldUpdater.newUpdater(RecordSet.class, KeyRecord.class, "terminal");
+    private static final AtomicReferenceFieldUpdater<RecordSet, Thread> WAITING_CONSUMER =
+            AtomicReferenceFieldUpdater.newUpdater(RecordSet.class, Thread.class, "waitingConsumer");
+    private static final AtomicReferenceFieldUpdater<RecordSet, Thread> WAITING_PRODUCER =
+            AtomicReferenceFieldUpdater.newUpdater(RecordSet.class, Thread.class, "waitingProducer");
+    private static final AtomicReferenceFieldUpdater<RecordSet, Runnable> REFILL =
+            AtomicReferenceFieldUpdater.newUpdater(RecordSet.class, Runnable.class, "refill");
+    private static final AtomicReferenceFieldUpdater<RecordSet, Runnable> INVALIDATED =
+            AtomicReferenceFieldUpdater.newUpdater(RecordSet.class, Runnable.class, "invalidated");
+
+    private final KeyRecord[] buffer;
+    private final int mask;
     private final int timeoutMs;
+
+    // written by the consumer only
+    private volatile long head;
+    private long tailCache;
     private KeyRecord keyRecord;
+
+    // written by the producer only
+    private volatile long tail;
+    private long headCache;
+    private long staged;
+    private final int chunkSize;
+
+    private volatile Thread waitingConsumer;
+    private volatile Thread waitingProducer;
+    private volatile Runnable refill;
+    private int refillSlots;
+    private volatile Runnable invalidated;
+    private volatile KeyRecord terminal;
     private volatile boolean valid = true;
     private volatile boolean interrupted;
 
+    /**
+     * @param capacity  the buffer capacity, rounded up to a power of two.
+     * @param timeoutMs the time the producer waits for a free slot before the command is terminated.
+     */
     public RecordSet(int capacity, int timeoutMs) {
-        this.queue = new ArrayBlockingQueue<>(capacity);
+        this(capacity, 1, timeoutMs);
+    }
+
+    /**
+     * @param capacity  the buffer capacity, rounded up to a power of two.
+     * @param chunkSize the number of records published at once, capped at the buffer capacity.
+     * @param timeoutMs the time the producer waits for a free slot before the command is terminated.
+     */
+    public RecordSet(int capacity, int chunkSize, int timeoutMs) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new KeyRecord[size];
+        this.mask = size - 1;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, size));
         this.timeoutMs = timeoutMs;
     }
 
     public boolean next()
             throws AerospikeException {
         if (valid) {
-            try {
-                keyRecord = queue.take();
-            } catch (InterruptedException e) {
-                logger.info(() -> "InterruptedException in next");
-                interrupt();
-            }
+            keyRecord = take();
             if (keyRecord == FAILURE) {
                 logger.info(() -> String.format("timeoutMs: %d", timeoutMs));
                 throw new AerospikeException("Aerospike asynchronous command failure");
@@ -53,18 +112,96 @@ public final class RecordSet
         return valid;
     }
 
+    private KeyRecord take() {
+        final long index = head;
+        while (true) {
+            if (terminal == FAILURE) {
+                return FAILURE;
+            }
+            if (index < tailCache || index < (tailCache = tail)) {
+                int slot = (int) index & mask;
+                KeyRecord next = buffer[slot];
+                buffer[slot] = null;
+                head = index + 1;
+                signal(WAITING_PRODUCER);
+                if (refill != null && buffer.length - (tail - index - 1) >= refillSlots) {
+                    runRefill();
+                }
+                return next;
+            }
+            if (terminal == END) {
+                // the end is signaled after the last record is published
+                if (index < (tailCache = tail)) {
+                    continue;
+                }
+                return END;
+            }
+            waitingConsumer = Thread.currentThread();
+            if (index == tail && terminal == null) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+            if (Thread.interrupted()) {
+                logger.info(() -> "InterruptedException in next");
+                interrupt();
+                Thread.currentThread().interrupt();
+                return END;
+            }
+        }
+    }
+
     private void interrupt() {
         interrupted = true;
-        queue.clear();
+        // drop the published records not consumed yet; the producer no longer writes below the tail
+        final long published = tail;
+        for (long index = head; index < published; index++) {
+            buffer[(int) index & mask] = null;
+        }
+        head = published;
+        signal(WAITING_PRODUCER);
+    }
+
+    /**
+     * Drops the staged records that will not be published; called by the producer only.
+     */
+    private void discardStaged() {
+        for (long index = tail; index < staged; index++) {
+            buffer[(int) index & mask] = null;
+        }
+        staged = tail;
     }
 
     public void invalidate() {
         valid = false;
+        // the pending page is not requested anymore
+        REFILL.set(this, null);
+        signal(WAITING_PRODUCER);
+        runInvalidated();
+    }
+
+    /**
+     * Runs the action once the consumer has invalidated the record set, right away if it has; called by
+     * the producer, such as one holding a resource until its pending pages are produced.
+     */
+    public void whenInvalidated(Runnable action) {
+        invalidated = action;
+        if (!valid) {
+            runInvalidated();
+        }
+    }
+
+    private void runInvalidated() {
+        Runnable action = INVALIDATED.getAndSet(this, null);
+        if (action != null) {
+            action.run();
+        }
     }
 
     @Override
     public void close() {
-        put(END);
+        if (valid && TERMINAL.compareAndSet(this, null, END)) {
+            signal(WAITING_CONSUMER);
+        }
     }
 
     @Override
@@ -84,7 +221,12 @@ public final class RecordSet
     public boolean put(KeyRecord keyRecord) {
         if (valid) {
             try {
-                if (!queue.offer(keyRecord, timeoutMs, TimeUnit.MILLISECONDS)) {
+                if (!offer(keyRecord)) {
+                    if (interrupted) {
+                        logger.info(() -> "Interrupted in put");
+                        discardStaged();
+                        throw new AerospikeException.QueryTerminated();
+                    }
                     if (valid) {
                         logger.info(() -> "Timeout in put");
                         abort();
@@ -99,15 +241,121 @@ public final class RecordSet
             }
             if (interrupted) {
                 logger.info(() -> "Interrupted in put");
+                discardStaged();
                 throw new AerospikeException.QueryTerminated();
             }
         }
         return valid;
     }
 
+    private boolean offer(KeyRecord keyRecord) throws InterruptedException {
+        final long index = staged;
+        if (index - headCache >= buffer.length && index - (headCache = head) >= buffer.length) {
+            // the consumer may be waiting for the staged records to free the slots
+            flush();
+            if (!awaitFreeSlot(index)) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = keyRecord;
+        staged = index + 1;
+        if (staged - tail >= chunkSize) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * Publishes the staged records; called by the producer only.
+     */
+    public void flush() {
+        if (staged != tail) {
+            tail = staged;
+            signal(WAITING_CONSUMER);
+        }
+    }
+
+    /**
+     * Returns true if there are records staged but not published yet; called by the producer only.
+     */
+    public boolean hasStaged() {
+        return staged != tail;
+    }
+
+    private boolean awaitFreeSlot(long index) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            while (true) {
+                waitingProducer = Thread.currentThread();
+                if (index - (headCache = head) < buffer.length) {
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (!valid || interrupted || remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waitingProducer = null;
+        }
+    }
+
+    /**
+     * Returns the buffer capacity.
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the number of slots not taken by the published records; called by the producer only.
+     */
+    public int getFreeSlots() {
+        return buffer.length - (int) (tail - head);
+    }
+
+    /**
+     * Runs the action once the consumer has freed the given number of slots, right away if they are free;
+     * called by the producer only, with the staged records flushed.
+     * The action is dropped if the consumer has invalidated the record set.
+     */
+    public void whenFree(int slots, Runnable action) {
+        refillSlots = Math.min(slots, buffer.length);
+        refill = action;
+        if (!valid || interrupted) {
+            refill = null;
+        } else if (buffer.length - (tail - head) >= refillSlots) {
+            runRefill();
+        }
+    }
+
+    private void runRefill() {
+        Runnable action = REFILL.getAndSet(this, null);
+        if (action != null) {
+            action.run();
+        }
+    }
+
     public void abort() {
-        queue.clear();
-        put(FAILURE);
+        if (valid && TERMINAL.compareAndSet(this, null, FAILURE)) {
+            signal(WAITING_CONSUMER);
+        }
+    }
+
+    /**
+     * Wakes the waiting side up, once per wait, so a running producer or consumer pays a volatile read only.
+     */
+    private void signal(AtomicReferenceFieldUpdater<RecordSet, Thread> waiting) {
+        if (waiting.get(this) != null) {
+            Thread thread = waiting.getAndSet(this, null);
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
     }
 
     private static class RecordSetIterator
@@ -2,6 +2,7 @@ package com.aerospike.jdbc.async;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchRead;
+import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.listener.BatchSequenceListener;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.jdbc.model.DriverPolicy;
@@ -13,19 +14,25 @@ public class RecordSetBatchSequenceListener implements BatchSequenceListener {
 
     private static final Logger logger = Logger.getLogger(RecordSetBatchSequenceListener.class.getName());
 
-    private final RecordSet recordSet;
+    private final RecordSetProducer producer;
 
     public RecordSetBatchSequenceListener(DriverPolicy driverPolicy) {
-        recordSet = new RecordSet(
-                driverPolicy.getRecordSetQueueCapacity(),
-                driverPolicy.getRecordSetTimeoutMs()
-        );
+        this(driverPolicy, 1, null);
+    }
+
+    /**
+     * @param driverPolicy the driver policy.
+     * @param fetchSize    the statement fetch size.
+     * @param eventLoop    the event loop the command runs on, or null for a synchronous command.
+     */
+    public RecordSetBatchSequenceListener(DriverPolicy driverPolicy, int fetchSize, EventLoop eventLoop) {
+        producer = new RecordSetProducer(driverPolicy, fetchSize, eventLoop);
     }
 
     @Override
     public void onRecord(BatchRead batchRead) {
         if (batchRead != null && batchRead.record != null) {
-            if (!recordSet.put(new KeyRecord(batchRead.key, batchRead.record))) {
+            if (!producer.put(new KeyRecord(batchRead.key, batchRead.record))) {
                 throw new AerospikeException.QueryTerminated();
             }
         }
@@ -33,16 +40,16 @@ public class RecordSetBatchSequenceListener implements BatchSequenceListener {
 
     @Override
     public void onSuccess() {
-        recordSet.close();
+        producer.close();
     }
 
     @Override
     public void onFailure(AerospikeException e) {
         logger.log(Level.SEVERE, "Aerospike listener failure", e);
-        recordSet.abort();
+        producer.abort();
     }
 
     public RecordSet getRecordSet() {
-        return recordSet;
+        return producer.getRecordSet();
     }
 }
@@ -0,0 +1,80 @@
+package com.aerospike.jdbc.async;
+
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.model.DriverPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The producer side of a {@link RecordSet} for the client listeners.
+ * <p>
+ * Records are published in chunks of {@link DriverPolicy#getRecordSetChunkSize()} records, or of the statement
+ * fetch size when the chunk size is not set. A partial chunk is published when the command completes, or after
+ * {@link DriverPolicy#getRecordSetChunkLingerMs()} on the listener event loop, so a slow stream of records
+ * doesn't keep the consumer waiting for a full chunk.
+ */
+final class RecordSetProducer {
+
+    /**
+     * The largest fetch size honored, larger fetch sizes are capped.
+     */
+    static final int MAX_FETCH_SIZE = 1 << 16;
+
+    private final RecordSet recordSet;
+    private final EventLoop eventLoop;
+    private final int lingerMs;
+    private final Runnable lingerFlush = this::lingerFlush;
+
+    private boolean flushScheduled;
+
+    /**
+     * @param driverPolicy the driver policy.
+     * @param fetchSize    the statement fetch size, the chunk size if not set in the driver policy.
+     *                     The buffer holds two fetches if set, {@link DriverPolicy#getRecordSetQueueCapacity()}
+     *                     records otherwise.
+     * @param eventLoop    the event loop the listener is called on, or null when called on other threads.
+     */
+    RecordSetProducer(DriverPolicy driverPolicy, int fetchSize, EventLoop eventLoop) {
+        fetchSize = Math.min(fetchSize, MAX_FETCH_SIZE);
+        int chunkSize = driverPolicy.getRecordSetChunkSize() > 0 ? driverPolicy.getRecordSetChunkSize() : fetchSize;
+        this.recordSet = new RecordSet(
+                fetchSize > 0 ? 2 * fetchSize : driverPolicy.getRecordSetQueueCapacity(),
+                chunkSize,
+                driverPolicy.getRecordSetTimeoutMs()
+        );
+        this.eventLoop = eventLoop;
+        this.lingerMs = driverPolicy.getRecordSetChunkLingerMs();
+    }
+
+    boolean put(KeyRecord keyRecord) {
+        boolean valid = recordSet.put(keyRecord);
+        if (!flushScheduled && eventLoop != null && lingerMs > 0 && recordSet.hasStaged()) {
+            flushScheduled = true;
+            eventLoop.schedule(lingerFlush, lingerMs, TimeUnit.MILLISECONDS);
+        }
+        return valid;
+    }
+
+    private void lingerFlush() {
+        flushScheduled = false;
+        recordSet.flush();
+    }
+
+    void flush() {
+        recordSet.flush();
+    }
+
+    void close() {
+        recordSet.flush();
+        recordSet.close();
+    }
+
+    void abort() {
+        recordSet.abort();
+    }
+
+    RecordSet getRecordSet() {
+        return recordSet;
+    }
+}
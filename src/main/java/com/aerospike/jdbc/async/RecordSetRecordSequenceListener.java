@@ -4,6 +4,7 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.listener.RecordSequenceListener;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.jdbc.model.DriverPolicy;
@@ -15,25 +16,31 @@ public class RecordSetRecordSequenceListener implements RecordSequenceListener {
 
     private static final Logger logger = Logger.getLogger(RecordSetRecordSequenceListener.class.getName());
 
-    private final RecordSet recordSet;
+    private final RecordSetProducer producer;
 
     public RecordSetRecordSequenceListener(DriverPolicy driverPolicy) {
-        recordSet = new RecordSet(
-                driverPolicy.getRecordSetQueueCapacity(),
-                driverPolicy.getRecordSetTimeoutMs()
-        );
+        this(driverPolicy, 1, null);
+    }
+
+    /**
+     * @param driverPolicy the driver policy.
+     * @param fetchSize    the statement fetch size.
+     * @param eventLoop    the event loop the command runs on, or null for a synchronous command.
+     */
+    public RecordSetRecordSequenceListener(DriverPolicy driverPolicy, int fetchSize, EventLoop eventLoop) {
+        producer = new RecordSetProducer(driverPolicy, fetchSize, eventLoop);
     }
 
     @Override
     public void onRecord(Key key, Record rec) throws AerospikeException {
-        if (!recordSet.put(new KeyRecord(key, rec))) {
+        if (!producer.put(new KeyRecord(key, rec))) {
             throw new AerospikeException.QueryTerminated();
         }
     }
 
     @Override
     public void onSuccess() {
-        recordSet.close();
+        producer.close();
     }
 
     @Override
@@ -43,10 +50,10 @@ public class RecordSetRecordSequenceListener implements RecordSequenceListener {
         } else {
             logger.log(Level.SEVERE, "Aerospike listener failure", exception);
         }
-        recordSet.abort();
+        producer.abort();
     }
 
     public RecordSet getRecordSet() {
-        return recordSet;
+        return producer.getRecordSet();
     }
 }
@@ -3,6 +3,7 @@ package com.aerospike.jdbc.async;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
 import com.aerospike.client.ScanCallback;
+import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.cluster.Partition;
 import com.aerospike.client.policy.ScanPolicy;
@@ -15,30 +16,42 @@ import java.util.Objects;
 public class ScanQueryHandler {
 
     private final IAerospikeClient client;
+    private final DriverPolicy driverPolicy;
+    private final int fetchSize;
     private RecordSetRecordSequenceListener listener;
+    private PartitionCursor cursor;
 
     private int currentPartition;
     private int count;
 
+    // the synchronous scan calls back from a thread per node, the record set takes a single producer
     private final ScanCallback callback = ((key, rec) -> {
-        listener.onRecord(key, rec);
-        count++;
+        synchronized (this) {
+            listener.onRecord(key, rec);
+            count++;
+        }
     });
 
-    public ScanQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy) {
+    public ScanQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy, int fetchSize) {
         this.client = client;
-        this.listener = new RecordSetRecordSequenceListener(driverPolicy);
+        this.driverPolicy = driverPolicy;
+        this.fetchSize = fetchSize;
     }
 
-    public static ScanQueryHandler create(IAerospikeClient client, DriverPolicy driverPolicy) {
-        return new ScanQueryHandler(client, driverPolicy);
+    public static ScanQueryHandler create(IAerospikeClient client, DriverPolicy driverPolicy, int fetchSize) {
+        return new ScanQueryHandler(client, driverPolicy, fetchSize);
     }
 
     public RecordSet execute(ScanPolicy scanPolicy, AerospikeQuery query) {
         if (query.isPrimaryKeyOnly()) {
             scanPolicy.includeBinData = false;
         }
+        String cursorToken = query.getCursor();
         if (Objects.nonNull(query.getOffset())) {
+            if (cursorToken != null) {
+                throw new IllegalArgumentException("OFFSET cannot be combined with a cursor");
+            }
+            listener = new RecordSetRecordSequenceListener(driverPolicy, fetchSize, null);
             long maxRecords = scanPolicy.maxRecords;
             PartitionFilter filter = getPartitionFilter(query);
             while (isScanRequired(maxRecords)) {
@@ -48,13 +61,44 @@ public class ScanQueryHandler {
                 filter = PartitionFilter.id(++currentPartition);
             }
             listener.onSuccess();
+        } else if (fetchSize > 0) {
+            cursor = PartitionCursor.of(cursorToken);
+            return executePaged(scanPolicy, query);
+        } else if (driverPolicy.getScanParallelism() > 1 && cursorToken == null) {
+            return new ParallelScanQueryHandler(client, driverPolicy, driverPolicy.getScanParallelism())
+                    .execute(scanPolicy, query);
         } else {
-            client.scanAll(EventLoopProvider.getEventLoop(), listener, scanPolicy, query.getCatalog(),
-                    query.getSetName(), query.columnBins());
+            cursor = PartitionCursor.of(cursorToken);
+            EventLoop eventLoop = EventLoopProvider.getEventLoop();
+            listener = new RecordSetRecordSequenceListener(driverPolicy, fetchSize, eventLoop);
+            client.scanPartitions(eventLoop, listener, scanPolicy, cursor.getPartitionFilter(),
+                    query.getCatalog(), query.getSetName(), query.columnBins());
         }
         return listener.getRecordSet();
     }
 
+    /**
+     * Returns the cursor of the partition scan executed, to resume the scan from once its record set is read
+     * to the end.
+     *
+     * @return the scan cursor, or null if the scan is not resumable.
+     */
+    public PartitionCursor getCursor() {
+        return cursor;
+    }
+
+    private RecordSet executePaged(ScanPolicy scanPolicy, AerospikeQuery query) {
+        EventLoop eventLoop = EventLoopProvider.getEventLoop();
+        PartitionFilter partitionFilter = cursor.getPartitionFilter();
+        PagedRecordSequenceListener pagedListener = new PagedRecordSequenceListener(driverPolicy, fetchSize,
+                eventLoop, partitionFilter, scanPolicy.maxRecords);
+        return pagedListener.start(maxRecords -> {
+            scanPolicy.maxRecords = maxRecords;
+            client.scanPartitions(eventLoop, pagedListener, scanPolicy, partitionFilter, query.getCatalog(),
+                    query.getSetName(), query.columnBins());
+        });
+    }
+
     private PartitionFilter getPartitionFilter(AerospikeQuery query) {
         Key key = new Key(query.getCatalog(), query.getSetName(), query.getOffset());
         currentPartition = Partition.getPartitionId(key.digest);
@@ -1,47 +1,82 @@
 package com.aerospike.jdbc.async;
 
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
 import com.aerospike.jdbc.model.DriverPolicy;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 public class SecondaryIndexQueryHandler {
 
     private final IAerospikeClient client;
-    private final RecordSetRecordSequenceListener listener;
+    private final DriverPolicy driverPolicy;
+    private final int fetchSize;
+    private final int recordsPerSecond;
 
-    public SecondaryIndexQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy) {
+    public SecondaryIndexQueryHandler(IAerospikeClient client, DriverPolicy driverPolicy, int fetchSize,
+                                      int recordsPerSecond) {
         this.client = client;
-        this.listener = new RecordSetRecordSequenceListener(driverPolicy);
+        this.driverPolicy = driverPolicy;
+        this.fetchSize = fetchSize;
+        this.recordsPerSecond = recordsPerSecond;
     }
 
-    public static SecondaryIndexQueryHandler create(IAerospikeClient client, DriverPolicy driverPolicy) {
-        return new SecondaryIndexQueryHandler(client, driverPolicy);
+    public static SecondaryIndexQueryHandler create(IAerospikeClient client, DriverPolicy driverPolicy,
+                                                    int fetchSize, int recordsPerSecond) {
+        return new SecondaryIndexQueryHandler(client, driverPolicy, fetchSize, recordsPerSecond);
     }
 
+    /**
+     * Runs the secondary index query, or a query per filter merged by {@link MultiRangeQueryHandler} if the
+     * predicate selects several values or ranges of the indexed bin.
+     */
     public RecordSet execute(QueryPolicy queryPolicy, AerospikeQuery query,
                              AerospikeSecondaryIndex secondaryIndex) {
+        if (query.isPrimaryKeyOnly()) {
+            queryPolicy.includeBinData = false;
+        }
+        List<Filter> filters = Objects.nonNull(query.getPredicate())
+                ? query.getPredicate().toFilters(secondaryIndex.getBinName())
+                : Collections.emptyList();
+        if (filters.size() > 1) {
+            return new MultiRangeQueryHandler(client, driverPolicy, recordsPerSecond).execute(queryPolicy, query,
+                    secondaryIndex, filters);
+        }
+
         com.aerospike.client.query.Statement statement = new com.aerospike.client.query.Statement();
         Optional.ofNullable(query.getLimit()).ifPresent(statement::setMaxRecords);
-        statement.setRecordsPerSecond(client.getScanPolicyDefault().recordsPerSecond);
+        statement.setRecordsPerSecond(recordsPerSecond);
 
         statement.setIndexName(secondaryIndex.getIndexName());
         statement.setNamespace(query.getCatalog());
         statement.setSetName(query.getTable());
         statement.setBinNames(query.columnBins());
 
-        if (Objects.nonNull(query.getPredicate())) {
-            query.getPredicate().toFilter(secondaryIndex.getBinName()).ifPresent(statement::setFilter);
+        if (!filters.isEmpty()) {
+            statement.setFilter(filters.get(0));
         }
 
-        if (query.isPrimaryKeyOnly()) {
-            queryPolicy.includeBinData = false;
+        EventLoop eventLoop = EventLoopProvider.getEventLoop();
+        if (fetchSize > 0) {
+            PartitionFilter partitionFilter = PartitionFilter.all();
+            PagedRecordSequenceListener pagedListener = new PagedRecordSequenceListener(driverPolicy, fetchSize,
+                    eventLoop, partitionFilter, statement.getMaxRecords());
+            return pagedListener.start(maxRecords -> {
+                statement.setMaxRecords(maxRecords);
+                client.query(eventLoop, pagedListener, queryPolicy, statement, partitionFilter);
+            });
         }
-        client.query(EventLoopProvider.getEventLoop(), listener, queryPolicy, statement);
+        RecordSetRecordSequenceListener listener =
+                new RecordSetRecordSequenceListener(driverPolicy, fetchSize, eventLoop);
+        client.query(eventLoop, listener, queryPolicy, statement);
 
         return listener.getRecordSet();
     }
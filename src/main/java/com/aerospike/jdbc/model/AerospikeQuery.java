@@ -15,9 +15,11 @@ import org.apache.calcite.sql.parser.ddl.SqlDdlParserImpl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.aerospike.jdbc.util.Constants.DEFAULT_SCHEMA_NAME;
 import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
@@ -43,6 +45,10 @@ public class AerospikeQuery {
     private QueryPredicate predicate;
     private List<Object> values;
     private List<String> columns;
+    private String[] binNames;
+    private List<String> groupBy = Collections.emptyList();
+    private List<AggregateColumn> aggregates = Collections.emptyList();
+    private List<OrderColumn> orderBy = Collections.emptyList();
 
     private Txn txn;
 
@@ -51,6 +57,10 @@ public class AerospikeQuery {
     }
 
     public static AerospikeQuery parse(String sql, List<Object> sqlParameters) throws SqlParseException {
+        return parse(sql, sqlParameters != null ? sqlParameters.iterator() : null);
+    }
+
+    public static AerospikeQuery parse(String sql, Iterator<Object> sqlParameters) throws SqlParseException {
         SqlParser parser = SqlParser.create(sql, sqlParserConfig);
         SqlNode parsed = parser.parseQuery();
         return parsed.accept(new AerospikeSqlVisitor(sqlParameters));
@@ -106,7 +116,7 @@ public class AerospikeQuery {
         return offset;
     }
 
-    public void setOffset(int offset) {
+    public void setOffset(Integer offset) {
         this.offset = offset;
     }
 
@@ -114,7 +124,7 @@ public class AerospikeQuery {
         return limit;
     }
 
-    public void setLimit(int limit) {
+    public void setLimit(Integer limit) {
         this.limit = limit;
     }
 
@@ -152,6 +162,49 @@ public class AerospikeQuery {
 
     public void setColumns(List<String> columns) {
         this.columns = columns;
+        this.binNames = null;
+    }
+
+    void setColumns(List<String> columns, String[] binNames) {
+        this.columns = columns;
+        this.binNames = binNames;
+    }
+
+    public List<String> getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(List<String> groupBy) {
+        this.groupBy = groupBy;
+        this.binNames = null;
+    }
+
+    /**
+     * Returns the aggregate functions of the select list, in the select list order.
+     */
+    public List<AggregateColumn> getAggregates() {
+        return aggregates;
+    }
+
+    public void setAggregates(List<AggregateColumn> aggregates) {
+        this.aggregates = aggregates;
+        this.binNames = null;
+    }
+
+    public List<OrderColumn> getOrderBy() {
+        return orderBy;
+    }
+
+    public void setOrderBy(List<OrderColumn> orderBy) {
+        this.orderBy = orderBy;
+        this.binNames = null;
+    }
+
+    /**
+     * Returns true if the query aggregates the records, with aggregate functions or a GROUP BY.
+     */
+    public boolean isAggregate() {
+        return !aggregates.isEmpty() || !groupBy.isEmpty();
     }
 
     public Txn getTxn() {
@@ -163,11 +216,30 @@ public class AerospikeQuery {
     }
 
     public String[] columnBins() {
-        String[] binNames = columns.stream()
+        if (binNames == null) {
+            binNames = resolveBinNames(columns, groupBy, aggregates, orderBy);
+        }
+        return binNames.length == 0 ? null : binNames;
+    }
+
+    static String[] resolveBinNames(List<String> columns, List<String> groupBy,
+                                    List<AggregateColumn> aggregates, List<OrderColumn> orderBy) {
+        if (!aggregates.isEmpty() || !groupBy.isEmpty()) {
+            // an aggregate query reads the grouped and the aggregated bins only
+            columns = Stream.concat(groupBy.stream(), aggregates.stream().map(AggregateColumn::getColumn))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+        } else if (!orderBy.isEmpty() && !columns.contains(ASTERISK)) {
+            // the ORDER BY columns are read even if not selected
+            columns = Stream.concat(columns.stream(), orderBy.stream().map(OrderColumn::getColumn))
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+        return columns.stream()
                 .filter(c -> !Objects.equals(c, ASTERISK))
                 .filter(c -> !Objects.equals(c, PRIMARY_KEY_COLUMN_NAME))
                 .toArray(String[]::new);
-        return binNames.length == 0 ? null : binNames;
     }
 
     public Collection<Object> getPrimaryKeys() {
@@ -177,8 +249,19 @@ public class AerospikeQuery {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns the token of a {@code __cursor = token} pseudo-predicate to resume a scan from, or null if not set.
+     */
+    public String getCursor() {
+        if (predicate != null) {
+            return predicate.getCursor();
+        }
+        return null;
+    }
+
     public boolean isPrimaryKeyOnly() {
-        return columns.size() == 1 && columns.get(0).equals(PRIMARY_KEY_COLUMN_NAME);
+        return columns.size() == 1 && columns.get(0).equals(PRIMARY_KEY_COLUMN_NAME)
+                && orderBy.stream().allMatch(o -> o.getColumn().equals(PRIMARY_KEY_COLUMN_NAME));
     }
 
     public boolean isStar() {
@@ -186,11 +269,12 @@ public class AerospikeQuery {
     }
 
     public boolean isCount() {
-        return columns.size() == 1 && columns.get(0).toLowerCase(Locale.ENGLISH).startsWith("count(");
+        return aggregates.size() == 1 && aggregates.get(0).isCountAll() && groupBy.isEmpty();
     }
 
     public boolean isIndexable() {
-        return Objects.nonNull(predicate) && predicate.isIndexable() && Objects.isNull(offset);
+        return Objects.nonNull(predicate) && predicate.isIndexable() && Objects.isNull(offset)
+                && predicate.getCursor() == null;
     }
 
     public Expression toFilterExpression(boolean withPrimaryKey) {
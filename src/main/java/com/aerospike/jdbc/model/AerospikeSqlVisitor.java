@@ -12,8 +12,13 @@ import org.apache.calcite.sql.util.SqlVisitor;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static com.aerospike.jdbc.util.Constants.UNSUPPORTED_QUERY_TYPE_MESSAGE;
@@ -28,12 +33,16 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
     private final Iterator<Object> sqlParametersIterator;
 
     public AerospikeSqlVisitor() {
-        this(null);
+        this((Iterator<Object>) null);
     }
 
     public AerospikeSqlVisitor(@Nullable List<Object> sqlParameters) {
+        this(sqlParameters != null ? sqlParameters.iterator() : null);
+    }
+
+    public AerospikeSqlVisitor(@Nullable Iterator<Object> sqlParametersIterator) {
         query = new AerospikeQuery();
-        sqlParametersIterator = sqlParameters != null ? sqlParameters.iterator() : null;
+        this.sqlParametersIterator = sqlParametersIterator;
     }
 
     @Override
@@ -48,8 +57,7 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
                 SqlSelect sql = (SqlSelect) sqlCall;
                 query.setQueryType(QueryType.SELECT);
                 query.setTable(requireNonNull(sql.getFrom()).toString());
-                query.setColumns(sql.getSelectList().stream()
-                        .map(SqlNode::toString).collect(Collectors.toList()));
+                parseSelectList(sql);
                 if (sql.hasWhere()) {
                     query.setPredicate(parseWhere((SqlBasicCall) requireNonNull(sql.getWhere())));
                 }
@@ -94,9 +102,6 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
                 query.setQueryType(QueryType.DROP_SCHEMA);
             } else if (sqlCall instanceof SqlOrderBy) {
                 SqlOrderBy sql = (SqlOrderBy) sqlCall;
-                if (!sql.orderList.isEmpty()) {
-                    throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
-                }
                 if (sql.fetch != null) {
                     query.setLimit(requireNonNull((BigDecimal) ((SqlNumericLiteral) sql.fetch)
                             .getValue()).intValue());
@@ -106,6 +111,9 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
                             .getValue()).intValue());
                 }
                 visit((SqlCall) sql.query);
+                // the ORDER BY items may refer to the select list
+                query.setOrderBy(sql.orderList.stream()
+                        .map(this::parseOrderColumn).collect(Collectors.toList()));
             } else {
                 throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
             }
@@ -117,6 +125,125 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
         return query;
     }
 
+    private void parseSelectList(SqlSelect sql) {
+        if (sql.getHaving() != null) {
+            throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
+        }
+        List<String> groupBy = sql.getGroup() == null ? Collections.emptyList()
+                : sql.getGroup().stream().map(this::parseColumnName).collect(Collectors.toList());
+        List<String> columns = new ArrayList<>();
+        List<AggregateColumn> aggregates = new ArrayList<>();
+        for (SqlNode item : sql.getSelectList()) {
+            AggregateColumn aggregate = parseAggregate(item);
+            if (aggregate != null) {
+                aggregates.add(aggregate);
+                columns.add(aggregate.getLabel());
+            } else {
+                columns.add(item.toString());
+            }
+        }
+        if (!aggregates.isEmpty() || !groupBy.isEmpty()) {
+            // the other select list columns of an aggregate query must be grouped
+            for (String column : columns) {
+                if (aggregates.stream().noneMatch(a -> a.getLabel().equals(column)) && !groupBy.contains(column)) {
+                    throw new UnsupportedOperationException(
+                            "Column " + column + " must appear in the GROUP BY clause or an aggregate function");
+                }
+            }
+        }
+        query.setGroupBy(groupBy);
+        query.setAggregates(aggregates);
+        query.setColumns(columns);
+    }
+
+    private AggregateColumn parseAggregate(SqlNode item) {
+        String label = null;
+        SqlNode node = item;
+        if (node.getKind() == SqlKind.AS) {
+            label = unwrapString(((SqlCall) node).operand(1).toString());
+            node = ((SqlCall) node).operand(0);
+        }
+        // the parser leaves the functions unresolved, match them by name
+        if (!(node instanceof SqlCall) || !(((SqlCall) node).getOperator() instanceof SqlFunction)) {
+            return null;
+        }
+        SqlCall call = (SqlCall) node;
+        String name = call.getOperator().getName().toUpperCase(Locale.ENGLISH);
+        AggregateFunction function = Arrays.stream(AggregateFunction.values())
+                .filter(f -> f.name().equals(name))
+                .findFirst()
+                .orElse(null);
+        if (function == null) {
+            return null;
+        }
+        if (call.getFunctionQuantifier() != null || call.operandCount() != 1) {
+            throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
+        }
+        SqlNode operand = call.operand(0);
+        if (operand instanceof SqlIdentifier && ((SqlIdentifier) operand).isStar()) {
+            if (function != AggregateFunction.COUNT) {
+                throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
+            }
+            return new AggregateColumn(function, null, label);
+        }
+        return new AggregateColumn(function, parseColumnName(operand), label);
+    }
+
+    private OrderColumn parseOrderColumn(SqlNode item) {
+        SqlNode node = item;
+        Boolean nullsFirst = null;
+        if (node.getKind() == SqlKind.NULLS_FIRST || node.getKind() == SqlKind.NULLS_LAST) {
+            nullsFirst = node.getKind() == SqlKind.NULLS_FIRST;
+            node = ((SqlCall) node).operand(0);
+        }
+        boolean descending = node.getKind() == SqlKind.DESCENDING;
+        if (descending) {
+            node = ((SqlCall) node).operand(0);
+        }
+        return new OrderColumn(parseOrderColumnName(node), descending, nullsFirst);
+    }
+
+    private String parseOrderColumnName(SqlNode node) {
+        List<String> columns = query.getColumns();
+        String column;
+        if (node instanceof SqlNumericLiteral) {
+            // an ordinal of the select list column
+            int ordinal = ((SqlNumericLiteral) node).intValue(true);
+            if (ordinal < 1 || ordinal > columns.size()) {
+                throw new UnsupportedOperationException("ORDER BY position " + ordinal + " is out of range");
+            }
+            column = columns.get(ordinal - 1);
+        } else {
+            AggregateColumn aggregate = parseAggregate(node);
+            if (aggregate == null) {
+                column = parseColumnName(node);
+            } else {
+                column = query.getAggregates().stream()
+                        .filter(a -> a.getFunction() == aggregate.getFunction()
+                                && Objects.equals(a.getColumn(), aggregate.getColumn()))
+                        .map(AggregateColumn::getLabel)
+                        .findFirst()
+                        .orElseThrow(() -> new UnsupportedOperationException(
+                                "ORDER BY " + aggregate + " must appear in the select list"));
+            }
+        }
+        boolean valid = query.isAggregate()
+                ? query.getGroupBy().contains(column) || columns.contains(column)
+                : !column.equals("*");
+        if (!valid) {
+            throw new UnsupportedOperationException(
+                    "ORDER BY column " + column + " must appear in the GROUP BY clause or the select list");
+        }
+        return column;
+    }
+
+    private String parseColumnName(SqlNode node) {
+        if (node instanceof SqlIdentifier && ((SqlIdentifier) node).isSimple()) {
+            return ((SqlIdentifier) node).getSimple();
+        }
+        throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
+    }
+
     private QueryPredicate parseWhere(SqlBasicCall where) {
         if (where.getOperator() instanceof SqlBinaryOperator) {
             Operator operator = Operator.parsed(where.getOperator());
@@ -156,8 +283,7 @@ public class AerospikeSqlVisitor implements SqlVisitor<AerospikeQuery> {
             }
         } else if (where.getOperator() instanceof SqlLikeOperator) {
             String binName = where.getOperandList().get(0).toString();
-            String expression = parseValue(where.getOperandList().get(1)).toString();
-            return new QueryPredicateLike(binName, expression);
+            return new QueryPredicateLike(binName, parseValue(where.getOperandList().get(1)));
         } else if (where.getOperator() instanceof SqlBetweenOperator) {
             return new QueryPredicateRange(
                     where.getOperandList().get(0).toString(),
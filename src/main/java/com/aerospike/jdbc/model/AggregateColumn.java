@@ -0,0 +1,68 @@
+package com.aerospike.jdbc.model;
+
+import java.util.Objects;
+
+/**
+ * An aggregate function in the select list of a query, such as {@code SUM(score) AS total}.
+ */
+public final class AggregateColumn {
+
+    private static final String ASTERISK = "*";
+
+    private final AggregateFunction function;
+    private final String column;
+    private final String label;
+
+    /**
+     * @param function the aggregate function.
+     * @param column   the column aggregated, null for {@code COUNT(*)}.
+     * @param label    the result column label, null for the default {@code FUNCTION(column)} label.
+     */
+    public AggregateColumn(AggregateFunction function, String column, String label) {
+        this.function = function;
+        this.column = column;
+        this.label = label != null ? label
+                : function.name() + "(" + (column == null ? ASTERISK : column) + ")";
+    }
+
+    public AggregateFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Returns the column aggregated, null for {@code COUNT(*)}.
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isCountAll() {
+        return function == AggregateFunction.COUNT && column == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AggregateColumn that = (AggregateColumn) o;
+        return function == that.function && Objects.equals(column, that.column) && label.equals(that.label);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(function, column, label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
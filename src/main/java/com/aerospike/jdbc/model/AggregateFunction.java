@@ -0,0 +1,9 @@
+package com.aerospike.jdbc.model;
+
+public enum AggregateFunction {
+    COUNT,
+    SUM,
+    MIN,
+    MAX,
+    AVG
+}
@@ -1,27 +1,40 @@
 package com.aerospike.jdbc.model;
 
-import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.Host;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Value;
 import com.aerospike.client.policy.AuthMode;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
 import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.TlsPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.jdbc.async.EventLoopProvider;
 import com.aerospike.jdbc.tls.AerospikeTLSPolicyBuilder;
 import com.aerospike.jdbc.tls.AerospikeTLSPolicyConfig;
+import com.aerospike.jdbc.util.AerospikeClientRegistry;
 import com.google.common.annotations.VisibleForTesting;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -39,12 +52,32 @@ public final class DriverConfiguration {
     private static final Pattern AEROSPIKE_JDBC_URL = Pattern.compile("^jdbc:aerospike:(?://)?([^/?]+)");
     private static final Pattern AEROSPIKE_JDBC_CATALOG = Pattern.compile("/([^?]+)");
     private static final Pattern SENSITIVE_PARAM = Pattern.compile("((?i)[^&;=]*password=)[^&;]*");
+    private static final String TLS_PROPERTY_PREFIX = "tls";
+
+    // Properties applied to the client and its default policies when it is created; these make up the shared
+    // client key. The connection policies are copies of the defaults and never written back to the client.
+    private static final Set<String> CLIENT_PROPERTIES = Collections.unmodifiableSet(
+            Stream.of(ClientPolicy.class, WritePolicy.class, ScanPolicy.class, QueryPolicy.class,
+                            BatchPolicy.class, InfoPolicy.class)
+                    .flatMap(clazz -> Arrays.stream(clazz.getFields()))
+                    .map(Field::getName)
+                    .collect(Collectors.toSet()));
 
     private final Map<Object, Object> clientInfo = new ConcurrentHashMap<>();
     private volatile IAerospikeClient client;
+    private volatile String clientKey;
     private volatile String catalog;
     private volatile ClientPolicy clientPolicy;
     private volatile DriverPolicy driverPolicy;
+    private volatile Integer networkTimeout;
+    private volatile Policy readPolicy;
+    private volatile WritePolicy writePolicy;
+    private volatile ScanPolicy scanPolicy;
+    private volatile QueryPolicy queryPolicy;
+    private volatile BatchPolicy batchPolicy;
+    private volatile BatchWritePolicy batchWritePolicy;
+    private volatile BatchDeletePolicy batchDeletePolicy;
+    private volatile InfoPolicy infoPolicy;
 
     public DriverConfiguration(Properties props) {
         logger.info(() -> format("Init DriverConfiguration with properties: %s", props));
@@ -79,31 +112,85 @@ public final class DriverConfiguration {
         clientPolicy = buildClientPolicy();
         Host[] hosts = parseHosts(url, Optional.ofNullable(clientInfo.get("tlsName"))
                 .map(Object::toString).orElse(null));
-        client = new AerospikeClient(clientPolicy, hosts);
+        String key = buildClientKey(hosts);
+        client = AerospikeClientRegistry.lease(key, () -> AerospikeClientRegistry.newClient(clientPolicy, hosts));
+        // a failed lease has nothing to release
+        clientKey = key;
         resetPolicies();
         return client;
     }
 
+    /**
+     * Releases the client leased by {@link #parse(String)}.
+     * The client is closed when no other connection shares it.
+     */
+    public void releaseClient() {
+        if (clientKey != null) {
+            AerospikeClientRegistry.release(clientKey);
+            clientKey = null;
+        }
+    }
+
+    private String buildClientKey(Host[] hosts) {
+        String hostList = Arrays.stream(hosts)
+                .map(h -> format("%s:%d:%s", h.name.toLowerCase(Locale.ENGLISH), h.port,
+                        Optional.ofNullable(h.tlsName).orElse("")))
+                .sorted()
+                .collect(Collectors.joining(","));
+        Map<String, String> clientProperties = new TreeMap<>();
+        clientInfo.forEach((key, value) -> {
+            String name = key.toString();
+            if (CLIENT_PROPERTIES.contains(name) || name.startsWith(TLS_PROPERTY_PREFIX)) {
+                clientProperties.put(name, String.valueOf(value));
+            }
+        });
+        return hostList + clientProperties;
+    }
+
     private ClientPolicy buildClientPolicy() {
         ClientPolicy policy = copy(new ClientPolicy());
+        policy.readPolicyDefault = copy(new Policy());
+        policy.writePolicyDefault = copy(new WritePolicy());
+        policy.scanPolicyDefault = copy(new ScanPolicy());
+        policy.queryPolicyDefault = copy(new QueryPolicy());
+        policy.batchPolicyDefault = copy(new BatchPolicy());
+        policy.infoPolicyDefault = copy(new InfoPolicy());
         policy.eventLoops = EventLoopProvider.getEventLoops();
         policy.tlsPolicy = buildTlsPolicy();
         return policy;
     }
 
+    /**
+     * Rebuilds the connection policies from the client defaults and the client info properties.
+     * The client may be shared with other connections, so its default policies are left untouched.
+     */
     private void resetPolicies() {
         logger.fine(() -> "resetPolicies call");
         if (client != null) {
-            copy(client.getReadPolicyDefault());
-            copy(client.getWritePolicyDefault());
-            copy(client.getScanPolicyDefault());
-            copy(client.getQueryPolicyDefault());
-            copy(client.getBatchPolicyDefault());
-            copy(client.getInfoPolicyDefault());
+            readPolicy = withNetworkTimeout(copy(new Policy(client.getReadPolicyDefault())));
+            writePolicy = withNetworkTimeout(copy(new WritePolicy(client.getWritePolicyDefault())));
+            scanPolicy = withNetworkTimeout(copy(new ScanPolicy(client.getScanPolicyDefault())));
+            queryPolicy = withNetworkTimeout(copy(new QueryPolicy(client.getQueryPolicyDefault())));
+            batchPolicy = withNetworkTimeout(copy(new BatchPolicy(client.getBatchPolicyDefault())));
+            batchWritePolicy = copy(new BatchWritePolicy(client.getBatchWritePolicyDefault()));
+            batchDeletePolicy = copy(new BatchDeletePolicy(client.getBatchDeletePolicyDefault()));
+            InfoPolicy info = copy(new InfoPolicy(client.getInfoPolicyDefault()));
+            if (networkTimeout != null) {
+                info.timeout = networkTimeout;
+            }
+            infoPolicy = info;
         }
         driverPolicy = new DriverPolicy(getClientInfo());
     }
 
+    private <T extends Policy> T withNetworkTimeout(T policy) {
+        if (networkTimeout != null) {
+            policy.totalTimeout = networkTimeout;
+            policy.connectTimeout = networkTimeout;
+        }
+        return policy;
+    }
+
     private <T> T copy(T object) {
         @SuppressWarnings("unchecked")
         Class<T> clazz = (Class<T>) object.getClass();
@@ -186,6 +273,56 @@ public final class DriverConfiguration {
         resetPolicies();
     }
 
+    /**
+     * Sets the network timeout of the connection policies, overriding the timeout properties.
+     *
+     * @param milliseconds the timeout in milliseconds.
+     */
+    public void setNetworkTimeout(int milliseconds) {
+        networkTimeout = milliseconds;
+        resetPolicies();
+    }
+
+    public Policy getReadPolicy() {
+        requireNonNull(readPolicy, "readPolicy is null");
+        return readPolicy;
+    }
+
+    public WritePolicy getWritePolicy() {
+        requireNonNull(writePolicy, "writePolicy is null");
+        return writePolicy;
+    }
+
+    public ScanPolicy getScanPolicy() {
+        requireNonNull(scanPolicy, "scanPolicy is null");
+        return scanPolicy;
+    }
+
+    public QueryPolicy getQueryPolicy() {
+        requireNonNull(queryPolicy, "queryPolicy is null");
+        return queryPolicy;
+    }
+
+    public BatchPolicy getBatchPolicy() {
+        requireNonNull(batchPolicy, "batchPolicy is null");
+        return batchPolicy;
+    }
+
+    public BatchWritePolicy getBatchWritePolicy() {
+        requireNonNull(batchWritePolicy, "batchWritePolicy is null");
+        return batchWritePolicy;
+    }
+
+    public BatchDeletePolicy getBatchDeletePolicy() {
+        requireNonNull(batchDeletePolicy, "batchDeletePolicy is null");
+        return batchDeletePolicy;
+    }
+
+    public InfoPolicy getInfoPolicy() {
+        requireNonNull(infoPolicy, "infoPolicy is null");
+        return infoPolicy;
+    }
+
     public ClientPolicy getClientPolicy() {
         requireNonNull(clientPolicy, "clientPolicy is null");
         return clientPolicy;
@@ -6,31 +6,64 @@ public class DriverPolicy {
 
     private static final int DEFAULT_RECORD_SET_QUEUE_CAPACITY = 256;
     private static final int DEFAULT_RECORD_SET_TIMEOUT_MS = 1000;
+    private static final int DEFAULT_RECORD_SET_CHUNK_LINGER_MS = 5;
     private static final int DEFAULT_METADATA_CACHE_TTL_SECONDS = 3600;
+    private static final int DEFAULT_STATISTICS_CACHE_TTL_SECONDS = 60;
     private static final int DEFAULT_SCHEMA_BUILDER_MAX_RECORDS = 1000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+    private static final int DEFAULT_AGGREGATION_MAX_GROUPS = 100_000;
+    private static final int DEFAULT_SORT_MEMORY_BUDGET_KB = 64 * 1024;
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 5000;
 
     private final int recordSetQueueCapacity;
     private final int recordSetTimeoutMs;
+    private final int recordSetChunkSize;
+    private final int recordSetChunkLingerMs;
+    private final int scanParallelism;
     private final int metadataCacheTtlSeconds;
+    private final int statisticsCacheTtlSeconds;
     private final int schemaBuilderMaxRecords;
     private final int txnTimeoutSeconds;
     private final int queryLimit;
+    private final int statementCacheSize;
+    private final int aggregationMaxGroups;
+    private final int sortMemoryBudgetKb;
+    private final int batchChunkSize;
+    private final int batchChunksInFlight;
     private final boolean showRecordMetadata;
     private final boolean refuseScan;
+    private final boolean statementCacheRecordStats;
+    private final boolean backgroundWrites;
 
     public DriverPolicy(Properties properties) {
         recordSetQueueCapacity = parseInt(properties.getProperty("recordSetQueueCapacity"),
                 DEFAULT_RECORD_SET_QUEUE_CAPACITY);
         recordSetTimeoutMs = parseInt(properties.getProperty("recordSetTimeoutMs"),
                 DEFAULT_RECORD_SET_TIMEOUT_MS);
+        recordSetChunkSize = parseInt(properties.getProperty("recordSetChunkSize"), 0);
+        recordSetChunkLingerMs = parseInt(properties.getProperty("recordSetChunkLingerMs"),
+                DEFAULT_RECORD_SET_CHUNK_LINGER_MS);
+        scanParallelism = parseInt(properties.getProperty("scanParallelism"), 1);
         metadataCacheTtlSeconds = parseInt(properties.getProperty("metadataCacheTtlSeconds"),
                 DEFAULT_METADATA_CACHE_TTL_SECONDS);
+        statisticsCacheTtlSeconds = parseInt(properties.getProperty("statisticsCacheTtlSeconds"),
+                DEFAULT_STATISTICS_CACHE_TTL_SECONDS);
         schemaBuilderMaxRecords = parseInt(properties.getProperty("schemaBuilderMaxRecords"),
                 DEFAULT_SCHEMA_BUILDER_MAX_RECORDS);
         txnTimeoutSeconds = parseInt(properties.getProperty("txnTimeoutSeconds"), 0);
         queryLimit = parseInt(properties.getProperty("queryLimit"), 0);
         showRecordMetadata = parseBool(properties.getProperty("showRecordMetadata"), false);
         refuseScan = parseBool(properties.getProperty("refuseScan"), true);
+        statementCacheSize = parseInt(properties.getProperty("statementCacheSize"),
+                DEFAULT_STATEMENT_CACHE_SIZE);
+        statementCacheRecordStats = parseBool(properties.getProperty("statementCacheRecordStats"), false);
+        aggregationMaxGroups = parseInt(properties.getProperty("aggregationMaxGroups"),
+                DEFAULT_AGGREGATION_MAX_GROUPS);
+        sortMemoryBudgetKb = parseInt(properties.getProperty("sortMemoryBudgetKb"),
+                DEFAULT_SORT_MEMORY_BUDGET_KB);
+        batchChunkSize = parseInt(properties.getProperty("batchChunkSize"), DEFAULT_BATCH_CHUNK_SIZE);
+        batchChunksInFlight = parseInt(properties.getProperty("batchChunksInFlight"), 0);
+        backgroundWrites = parseBool(properties.getProperty("backgroundWrites"), false);
     }
 
     public int getRecordSetQueueCapacity() {
@@ -41,10 +74,35 @@ public class DriverPolicy {
         return recordSetTimeoutMs;
     }
 
+    /**
+     * Returns the number of records handed over to the result set at once, 0 to follow the statement fetch size.
+     */
+    public int getRecordSetChunkSize() {
+        return recordSetChunkSize;
+    }
+
+    public int getRecordSetChunkLingerMs() {
+        return recordSetChunkLingerMs;
+    }
+
+    /**
+     * Returns the number of partition range slices a scan is split into, 1 for a single scan command.
+     */
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
     public int getMetadataCacheTtlSeconds() {
         return metadataCacheTtlSeconds;
     }
 
+    /**
+     * Returns the time the set record counts used to choose the access path of a query are cached for.
+     */
+    public int getStatisticsCacheTtlSeconds() {
+        return statisticsCacheTtlSeconds;
+    }
+
     public int getSchemaBuilderMaxRecords() {
         return schemaBuilderMaxRecords;
     }
@@ -65,6 +123,50 @@ public class DriverPolicy {
         return refuseScan;
     }
 
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public boolean getStatementCacheRecordStats() {
+        return statementCacheRecordStats;
+    }
+
+    /**
+     * Returns the number of groups an aggregate query keeps in memory before it spills them to disk.
+     */
+    public int getAggregationMaxGroups() {
+        return aggregationMaxGroups;
+    }
+
+    /**
+     * Returns the estimated size in kilobytes of the records an ORDER BY query sorts in memory before it spills
+     * them to disk.
+     */
+    public int getSortMemoryBudgetKb() {
+        return sortMemoryBudgetKb;
+    }
+
+    /**
+     * Returns the number of records sent to the server in a single batch write or delete command.
+     */
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+
+    /**
+     * Returns the number of batch chunks a statement sends concurrently, 0 for one per event loop.
+     */
+    public int getBatchChunksInFlight() {
+        return batchChunksInFlight;
+    }
+
+    /**
+     * Returns true if the UPDATE and DELETE statements without primary keys run as server-side background queries.
+     */
+    public boolean getBackgroundWrites() {
+        return backgroundWrites;
+    }
+
     private int parseInt(String value, int defaultValue) {
         if (value != null) {
             return Integer.parseInt(value);
@@ -0,0 +1,59 @@
+package com.aerospike.jdbc.model;
+
+import java.util.Objects;
+
+/**
+ * A column of the ORDER BY clause of a query, such as {@code score DESC NULLS LAST}.
+ */
+public final class OrderColumn {
+
+    private final String column;
+    private final boolean descending;
+    private final boolean nullsFirst;
+
+    /**
+     * @param column     the column, a bin, the primary key or an aggregate label.
+     * @param descending true for the descending order.
+     * @param nullsFirst true to order the nulls before the values, null for the default order, where the nulls
+     *                   are lower than any value.
+     */
+    public OrderColumn(String column, boolean descending, Boolean nullsFirst) {
+        this.column = column;
+        this.descending = descending;
+        this.nullsFirst = nullsFirst != null ? nullsFirst : !descending;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isNullsFirst() {
+        return nullsFirst;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        OrderColumn that = (OrderColumn) o;
+        return descending == that.descending && nullsFirst == that.nullsFirst && column.equals(that.column);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, descending, nullsFirst);
+    }
+
+    @Override
+    public String toString() {
+        return column + (descending ? " DESC" : " ASC") + (nullsFirst ? " NULLS FIRST" : " NULLS LAST");
+    }
+}
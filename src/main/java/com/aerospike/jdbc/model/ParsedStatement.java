@@ -0,0 +1,111 @@
+package com.aerospike.jdbc.model;
+
+import com.aerospike.jdbc.predicate.QueryParameter;
+import com.aerospike.jdbc.predicate.QueryPredicate;
+import com.aerospike.jdbc.util.AuxStatementParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable template of a parsed SQL statement.
+ * <p>
+ * The template holds {@link QueryParameter} slots in place of the parameter values, so it can be
+ * cached by the SQL text and bound to a fresh {@link AerospikeQuery} on every execution.
+ */
+public final class ParsedStatement {
+
+    private final QueryType queryType;
+    private final String catalog;
+    private final String table;
+    private final Integer offset;
+    private final Integer limit;
+    private final String index;
+    private final QueryPredicate predicate;
+    private final List<Object> values;
+    private final List<String> columns;
+    private final List<String> groupBy;
+    private final List<AggregateColumn> aggregates;
+    private final List<OrderColumn> orderBy;
+    private final String[] binNames;
+    private final int parameterCount;
+
+    public ParsedStatement(AerospikeQuery query, int parameterCount) {
+        this.queryType = query.getQueryType();
+        this.catalog = query.getCatalog();
+        this.table = query.getTable();
+        this.offset = query.getOffset();
+        this.limit = query.getLimit();
+        this.index = query.getIndex();
+        this.predicate = query.getPredicate();
+        this.values = query.getValues() == null ? null
+                : Collections.unmodifiableList(new ArrayList<>(query.getValues()));
+        this.columns = query.getColumns() == null ? null
+                : Collections.unmodifiableList(new ArrayList<>(query.getColumns()));
+        this.groupBy = Collections.unmodifiableList(new ArrayList<>(query.getGroupBy()));
+        this.aggregates = Collections.unmodifiableList(new ArrayList<>(query.getAggregates()));
+        this.orderBy = Collections.unmodifiableList(new ArrayList<>(query.getOrderBy()));
+        this.binNames = columns == null ? null
+                : AerospikeQuery.resolveBinNames(columns, groupBy, aggregates, orderBy);
+        this.parameterCount = parameterCount;
+    }
+
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Binds the SQL parameters to a new {@link AerospikeQuery}.
+     * A list of parameter sets binds the rows of a batch INSERT.
+     *
+     * @param sqlParameters the SQL parameters, may be null for a statement without parameters.
+     * @return a new {@link AerospikeQuery} object.
+     */
+    @SuppressWarnings("unchecked")
+    public AerospikeQuery bind(List<Object> sqlParameters) {
+        if (queryType == QueryType.INSERT && AuxStatementParser.isBatch(sqlParameters)) {
+            AerospikeQuery query = bindParameters((List<Object>) sqlParameters.get(0));
+            query.setValues(new ArrayList<>(sqlParameters));
+            return query;
+        }
+        return bindParameters(sqlParameters);
+    }
+
+    private AerospikeQuery bindParameters(List<Object> sqlParameters) {
+        AerospikeQuery query = new AerospikeQuery();
+        query.setQueryType(queryType);
+        query.setCatalog(catalog);
+        if (table != null) {
+            query.setTable(table);
+        }
+        if (offset != null) {
+            query.setOffset(offset);
+        }
+        if (limit != null) {
+            query.setLimit(limit);
+        }
+        query.setIndex(index);
+        if (predicate != null) {
+            query.setPredicate(parameterCount > 0 ? predicate.bind(sqlParameters) : predicate);
+        }
+        if (values != null) {
+            // the query handlers may modify the values, so always hand out a copy
+            @SuppressWarnings("unchecked")
+            List<Object> boundValues = (List<Object>) QueryParameter.bind(values, sqlParameters);
+            query.setValues(boundValues);
+        }
+        query.setGroupBy(groupBy);
+        query.setAggregates(aggregates);
+        query.setOrderBy(orderBy);
+        if (columns != null) {
+            // the columns are never modified by the query handlers
+            query.setColumns(columns, binNames);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,34 @@
+package com.aerospike.jdbc.model;
+
+/**
+ * The record counts of a set and its namespace, used to estimate the cost of the queries on the set.
+ */
+public class TableStatistics {
+
+    private final long records;
+    private final long namespaceRecords;
+    private final boolean setIndex;
+
+    public TableStatistics(long records, long namespaceRecords, boolean setIndex) {
+        this.records = records;
+        this.namespaceRecords = namespaceRecords;
+        this.setIndex = setIndex;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getNamespaceRecords() {
+        return namespaceRecords;
+    }
+
+    public boolean hasSetIndex() {
+        return setIndex;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%d, %d, %s)", getClass().getSimpleName(), records, namespaceRecords, setIndex);
+    }
+}
@@ -0,0 +1,84 @@
+package com.aerospike.jdbc.predicate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * A parameter slot of a parsed statement template, bound to a value on execution.
+ */
+public final class QueryParameter {
+
+    private final int index;
+
+    private QueryParameter(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Replaces the parameter slots in the value with the SQL parameters.
+     * Lists are copied, so the bound value never shares mutable state with the template.
+     *
+     * @param value         the template value.
+     * @param sqlParameters the SQL parameters.
+     * @return the bound value.
+     */
+    public static Object bind(Object value, List<Object> sqlParameters) {
+        if (value instanceof QueryParameter) {
+            int parameterIndex = ((QueryParameter) value).index;
+            if (sqlParameters == null) {
+                throw new IllegalStateException("SQL parameters is null");
+            }
+            if (parameterIndex >= sqlParameters.size()) {
+                throw new IllegalStateException(format("No value specified for parameter %d", parameterIndex + 1));
+            }
+            return sqlParameters.get(parameterIndex);
+        }
+        if (value instanceof List<?>) {
+            List<?> list = (List<?>) value;
+            List<Object> boundList = new ArrayList<>(list.size());
+            for (Object element : list) {
+                boundList.add(bind(element, sqlParameters));
+            }
+            return boundList;
+        }
+        return value;
+    }
+
+    public static boolean isParameter(Object value) {
+        return value instanceof QueryParameter;
+    }
+
+    @Override
+    public String toString() {
+        return "?" + (index + 1);
+    }
+
+    /**
+     * An unbounded source of parameter slots, numbered in the order they are consumed by the parser.
+     */
+    public static final class Slots implements Iterator<Object> {
+
+        private int count;
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            return new QueryParameter(count++);
+        }
+
+        public int count() {
+            return count;
+        }
+    }
+}
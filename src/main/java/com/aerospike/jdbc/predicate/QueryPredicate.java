@@ -14,6 +14,17 @@ public interface QueryPredicate {
 
     Optional<Filter> toFilter(String binName);
 
+    /**
+     * Returns the secondary index filters whose union selects the records matching the predicate on the bin,
+     * such as a filter per value of an {@code IN} list.
+     *
+     * @param binName the indexed bin name.
+     * @return the filters, or an empty list if the predicate cannot be filtered on the bin.
+     */
+    default List<Filter> toFilters(String binName) {
+        return toFilter(binName).map(Collections::singletonList).orElse(Collections.emptyList());
+    }
+
     boolean isIndexable();
 
     List<String> getBinNames();
@@ -21,4 +32,23 @@ public interface QueryPredicate {
     default Collection<Object> getPrimaryKeys() {
         return Collections.emptyList();
     }
+
+    /**
+     * Returns the scan cursor token of a {@code __cursor = token} pseudo-predicate.
+     *
+     * @return the cursor token, empty string to start a scan from the beginning, or null if not set.
+     */
+    default String getCursor() {
+        return null;
+    }
+
+    /**
+     * Binds the parameter slots of a statement template predicate.
+     *
+     * @param sqlParameters the SQL parameters.
+     * @return the predicate with the parameter values, or this predicate if it has no parameter slots.
+     */
+    default QueryPredicate bind(List<Object> sqlParameters) {
+        return this;
+    }
 }
@@ -5,6 +5,7 @@ import com.aerospike.client.exp.Exp;
 import java.util.Collections;
 import java.util.List;
 
+import static com.aerospike.jdbc.util.Constants.CURSOR_PSEUDO_COLUMN_NAME;
 import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
 
 public abstract class QueryPredicateBase implements QueryPredicate {
@@ -69,6 +70,10 @@ public abstract class QueryPredicateBase implements QueryPredicate {
         return binName.equals(PRIMARY_KEY_COLUMN_NAME);
     }
 
+    protected boolean isCursorPredicate() {
+        return binName.equals(CURSOR_PSEUDO_COLUMN_NAME);
+    }
+
     protected Exp buildLeftExp() {
         return isPrimaryKeyPredicate()
                 ? Exp.key(valueType)
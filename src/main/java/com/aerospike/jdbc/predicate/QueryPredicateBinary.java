@@ -5,6 +5,7 @@ import com.aerospike.client.query.Filter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public class QueryPredicateBinary extends QueryPredicateBase {
@@ -20,24 +21,59 @@ public class QueryPredicateBinary extends QueryPredicateBase {
 
     @Override
     public Exp toFilterExpression(boolean withPrimaryKey) {
-        if (isPrimaryKeyPredicate() && !withPrimaryKey) {
+        if ((isPrimaryKeyPredicate() && !withPrimaryKey) || isCursorPredicate()) {
             return null;
         }
         return operator.exp(buildLeftExp(), getValueExp(value));
     }
 
+    /**
+     * Returns an equality filter for {@code =}, and a range filter for the {@code <}, {@code <=}, {@code >}
+     * and {@code >=} comparisons of an integer value.
+     */
     @Override
     public Optional<Filter> toFilter(String binName) {
-        if (binName.equals(this.binName) && operator == OperatorBinary.EQ) {
-            if (valueType == Exp.Type.INT) {
-                return Optional.of(Filter.equal(binName, (long) value));
-            } else if (valueType == Exp.Type.STRING) {
-                return Optional.of(Filter.equal(binName, (String) value));
-            }
+        if (!binName.equals(this.binName) || !isIndexable()) {
+            return Optional.empty();
+        }
+        if (valueType == Exp.Type.STRING) {
+            return Optional.of(Filter.equal(binName, (String) value));
+        }
+        long longValue = ((Number) value).longValue();
+        if (operator == OperatorBinary.EQ) {
+            return Optional.of(Filter.equal(binName, longValue));
+        } else if (operator == OperatorBinary.GE) {
+            return Optional.of(Filter.range(binName, longValue, Long.MAX_VALUE));
+        } else if (operator == OperatorBinary.LE) {
+            return Optional.of(Filter.range(binName, Long.MIN_VALUE, longValue));
+        } else if (operator == OperatorBinary.GT && longValue < Long.MAX_VALUE) {
+            return Optional.of(Filter.range(binName, longValue + 1, Long.MAX_VALUE));
+        } else if (operator == OperatorBinary.LT && longValue > Long.MIN_VALUE) {
+            return Optional.of(Filter.range(binName, Long.MIN_VALUE, longValue - 1));
         }
         return Optional.empty();
     }
 
+    @Override
+    public boolean isIndexable() {
+        if (isCursorPredicate()) {
+            return false;
+        }
+        if (valueType == Exp.Type.STRING) {
+            return operator == OperatorBinary.EQ && value instanceof String;
+        }
+        return valueType == Exp.Type.INT && (operator == OperatorBinary.EQ || operator == OperatorBinary.LT
+                || operator == OperatorBinary.LE || operator == OperatorBinary.GT || operator == OperatorBinary.GE);
+    }
+
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        if (QueryParameter.isParameter(value)) {
+            return new QueryPredicateBinary(binName, operator, QueryParameter.bind(value, sqlParameters));
+        }
+        return this;
+    }
+
     @Override
     public Collection<Object> getPrimaryKeys() {
         if (isPrimaryKeyPredicate() && operator == OperatorBinary.EQ) {
@@ -45,4 +81,12 @@ public class QueryPredicateBinary extends QueryPredicateBase {
         }
         return Collections.emptyList();
     }
+
+    @Override
+    public String getCursor() {
+        if (isCursorPredicate() && operator == OperatorBinary.EQ) {
+            return value == null ? "" : value.toString();
+        }
+        return null;
+    }
 }
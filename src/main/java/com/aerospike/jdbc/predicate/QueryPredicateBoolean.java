@@ -3,6 +3,7 @@ package com.aerospike.jdbc.predicate;
 import com.aerospike.client.exp.Exp;
 import com.aerospike.client.query.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -26,11 +27,6 @@ public class QueryPredicateBoolean implements QueryPredicate {
         this.right = right;
     }
 
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    private static <T> Optional<T> or(Optional<T> optional, Optional<T> fallback) {
-        return optional.isPresent() ? optional : fallback;
-    }
-
     @Override
     public Exp toFilterExpression(boolean withPrimaryKey) {
         Exp leftExp = left.toFilterExpression(withPrimaryKey);
@@ -41,25 +37,94 @@ public class QueryPredicateBoolean implements QueryPredicate {
         return operator.exp(leftExp, rightExp);
     }
 
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        QueryPredicate boundLeft = left.bind(sqlParameters);
+        QueryPredicate boundRight = right.bind(sqlParameters);
+        if (boundLeft == left && boundRight == right) {
+            return this;
+        }
+        return new QueryPredicateBoolean(boundLeft, operator, boundRight);
+    }
+
     @Override
     public Optional<Filter> toFilter(String binName) {
+        List<Filter> filters = toFilters(binName);
+        return filters.size() == 1 ? Optional.of(filters.get(0)) : Optional.empty();
+    }
+
+    /**
+     * Returns the filters of a conjunct for an AND, narrowed to the bounds of the other conjunct on the same
+     * integer bin, and the filters of both sides for an OR of predicates on the same indexed bin.
+     */
+    @Override
+    public List<Filter> toFilters(String binName) {
+        if (operator == OperatorBinary.OR) {
+            return orFilters(binName);
+        }
         if (isIndexable()) {
-            // TODO: support range filters
-            return or(
-                    left.toFilter(binName),
-                    right.toFilter(binName)
-            );
+            return andFilters(binName);
         }
-        return Optional.empty();
+        return Collections.emptyList();
+    }
+
+    private List<Filter> andFilters(String binName) {
+        List<Filter> leftFilters = left.toFilters(binName);
+        List<Filter> rightFilters = right.toFilters(binName);
+        if (leftFilters.isEmpty() || rightFilters.isEmpty()) {
+            return leftFilters.isEmpty() ? rightFilters : leftFilters;
+        }
+        if (!Stream.concat(leftFilters.stream(), rightFilters.stream()).allMatch(QueryPredicateBoolean::isRange)) {
+            return leftFilters;
+        }
+        List<Filter> filters = new ArrayList<>();
+        for (Filter leftFilter : leftFilters) {
+            for (Filter rightFilter : rightFilters) {
+                long begin = Math.max(leftFilter.getBegin().toLong(), rightFilter.getBegin().toLong());
+                long end = Math.min(leftFilter.getEnd().toLong(), rightFilter.getEnd().toLong());
+                if (begin <= end) {
+                    filters.add(begin == end ? Filter.equal(binName, begin) : Filter.range(binName, begin, end));
+                }
+            }
+        }
+        // the bounds are disjoint, so the filter expression selects no record with either filter
+        return filters.isEmpty() ? leftFilters : filters;
+    }
+
+    private static boolean isRange(Filter filter) {
+        return filter.getBegin().getObject() instanceof Long && filter.getEnd().getObject() instanceof Long;
+    }
+
+    private List<Filter> orFilters(String binName) {
+        List<Filter> leftFilters = left.toFilters(binName);
+        List<Filter> rightFilters = right.toFilters(binName);
+        if (leftFilters.isEmpty() || rightFilters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Stream.concat(leftFilters.stream(), rightFilters.stream()).collect(Collectors.toList());
     }
 
     @Override
     public boolean isIndexable() {
+        if (operator == OperatorBinary.OR) {
+            return !getBinNames().isEmpty();
+        }
         return operator == OperatorBinary.AND && (left.isIndexable() || right.isIndexable());
     }
 
+    /**
+     * Returns the bin names of both sides for an AND, and for an OR the bin names both sides can be filtered on.
+     */
     @Override
     public List<String> getBinNames() {
+        if (operator == OperatorBinary.OR) {
+            List<String> rightBinNames = right.getBinNames();
+            return left.getBinNames().stream()
+                    .filter(rightBinNames::contains)
+                    .distinct()
+                    .filter(binName -> !orFilters(binName).isEmpty())
+                    .collect(Collectors.toList());
+        }
         if (isIndexable()) {
             return Stream.concat(left.getBinNames().stream(), right.getBinNames().stream())
                     .collect(Collectors.toList());
@@ -75,4 +140,13 @@ public class QueryPredicateBoolean implements QueryPredicate {
         }
         return Collections.emptyList();
     }
+
+    @Override
+    public String getCursor() {
+        if (operator == OperatorBinary.AND) {
+            String cursor = left.getCursor();
+            return cursor != null ? cursor : right.getCursor();
+        }
+        return null;
+    }
 }
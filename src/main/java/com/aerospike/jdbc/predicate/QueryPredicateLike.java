@@ -10,11 +10,13 @@ import java.util.Optional;
 
 public class QueryPredicateLike extends QueryPredicateBase {
 
+    private final Object pattern;
     private final String expression;
 
-    public QueryPredicateLike(String binName, String expression) {
+    public QueryPredicateLike(String binName, Object pattern) {
         super(binName, Exp.Type.STRING);
-        this.expression = expression.replace("%", ".*");
+        this.pattern = pattern;
+        this.expression = pattern.toString().replace("%", ".*");
     }
 
     @Override
@@ -26,6 +28,14 @@ public class QueryPredicateLike extends QueryPredicateBase {
         );
     }
 
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        if (QueryParameter.isParameter(pattern)) {
+            return new QueryPredicateLike(binName, QueryParameter.bind(pattern, sqlParameters));
+        }
+        return this;
+    }
+
     @Override
     public Optional<Filter> toFilter(String binName) {
         return Optional.empty();
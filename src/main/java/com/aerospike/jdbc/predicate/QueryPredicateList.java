@@ -6,7 +6,9 @@ import com.aerospike.client.query.Filter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class QueryPredicateList extends QueryPredicateBase {
 
@@ -33,12 +35,39 @@ public class QueryPredicateList extends QueryPredicateBase {
 
     @Override
     public Optional<Filter> toFilter(String binName) {
-        return Optional.empty();
+        List<Filter> filters = toFilters(binName);
+        return filters.size() == 1 ? Optional.of(filters.get(0)) : Optional.empty();
+    }
+
+    /**
+     * Returns an equality filter per value of an {@code IN} list of integer or string values.
+     */
+    @Override
+    public List<Filter> toFilters(String binName) {
+        if (binName.equals(this.binName) && isIndexable()) {
+            return Arrays.stream(values)
+                    .map(v -> v instanceof String
+                            ? Filter.equal(binName, (String) v)
+                            : Filter.equal(binName, ((Number) v).longValue()))
+                    .collect(Collectors.toList());
+        }
+        return Collections.emptyList();
     }
 
     @Override
     public boolean isIndexable() {
-        return false;
+        return operator == OperatorVarArgs.IN && !isPrimaryKeyPredicate()
+                && (Arrays.stream(values).allMatch(v -> v instanceof String)
+                || Arrays.stream(values).allMatch(v -> getValueType(v) == Exp.Type.INT));
+    }
+
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        if (Arrays.stream(values).anyMatch(QueryParameter::isParameter)) {
+            return new QueryPredicateList(binName, operator, Arrays.stream(values)
+                    .map(v -> QueryParameter.bind(v, sqlParameters)).distinct().toArray());
+        }
+        return this;
     }
 
     @Override
@@ -29,6 +29,12 @@ public class QueryPredicatePrefix implements QueryPredicate {
         return operator.exp(rightExp);
     }
 
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        QueryPredicate boundRight = right.bind(sqlParameters);
+        return boundRight == right ? this : new QueryPredicatePrefix(operator, boundRight);
+    }
+
     @Override
     public Optional<Filter> toFilter(String binName) {
         return Optional.empty();
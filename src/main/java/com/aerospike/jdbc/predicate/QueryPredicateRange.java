@@ -4,6 +4,7 @@ import com.aerospike.client.exp.Exp;
 import com.aerospike.client.query.Filter;
 import com.google.common.base.Preconditions;
 
+import java.util.List;
 import java.util.Optional;
 
 public class QueryPredicateRange extends QueryPredicateBase {
@@ -17,7 +18,8 @@ public class QueryPredicateRange extends QueryPredicateBase {
             Object highValue
     ) {
         super(binName, getValueType(lowValue));
-        Preconditions.checkState(getValueType(lowValue) == getValueType(highValue));
+        Preconditions.checkState(QueryParameter.isParameter(lowValue) || QueryParameter.isParameter(highValue)
+                || getValueType(lowValue) == getValueType(highValue));
         this.lowValue = lowValue;
         this.highValue = highValue;
     }
@@ -32,11 +34,29 @@ public class QueryPredicateRange extends QueryPredicateBase {
         );
     }
 
+    @Override
+    public QueryPredicate bind(List<Object> sqlParameters) {
+        if (QueryParameter.isParameter(lowValue) || QueryParameter.isParameter(highValue)) {
+            return new QueryPredicateRange(
+                    binName,
+                    QueryParameter.bind(lowValue, sqlParameters),
+                    QueryParameter.bind(highValue, sqlParameters)
+            );
+        }
+        return this;
+    }
+
     @Override
     public Optional<Filter> toFilter(String binName) {
-        if (binName.equals(this.binName) && valueType == Exp.Type.INT) {
-            return Optional.of(Filter.range(binName, (long) lowValue, (long) highValue));
+        if (binName.equals(this.binName) && isIndexable()) {
+            return Optional.of(Filter.range(binName, ((Number) lowValue).longValue(),
+                    ((Number) highValue).longValue()));
         }
         return Optional.empty();
     }
+
+    @Override
+    public boolean isIndexable() {
+        return valueType == Exp.Type.INT;
+    }
 }
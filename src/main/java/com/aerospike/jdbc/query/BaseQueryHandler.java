@@ -3,10 +3,15 @@ package com.aerospike.jdbc.query;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Bin;
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.jdbc.AerospikeConnection;
 import com.aerospike.jdbc.AerospikeDatabaseMetadata;
 import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
 import com.aerospike.jdbc.model.DriverConfiguration;
 import com.aerospike.jdbc.sql.ListRecordSet;
 import com.aerospike.jdbc.util.AerospikeVersion;
@@ -14,17 +19,21 @@ import com.aerospike.jdbc.util.AerospikeVersion;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static com.aerospike.jdbc.util.AerospikeUtils.hasSetIndex;
 import static java.util.Collections.emptyList;
 
 public abstract class BaseQueryHandler implements QueryHandler {
 
     private static final Logger logger = Logger.getLogger(BaseQueryHandler.class.getName());
 
+    private static final int BACKGROUND_TASK_POLL_INTERVAL_MS = 100;
+
     protected final IAerospikeClient client;
     protected final Statement statement;
     protected final PolicyBuilder policyBuilder;
@@ -35,8 +44,8 @@ public abstract class BaseQueryHandler implements QueryHandler {
     protected BaseQueryHandler(IAerospikeClient client, Statement statement) {
         this.client = client;
         this.statement = statement;
-        policyBuilder = new PolicyBuilder(client);
         config = getConfiguration();
+        policyBuilder = new PolicyBuilder(client, config);
         aerospikeVersion = getAerospikeVersion();
         databaseMetadata = getDatabaseMetadata();
     }
@@ -66,6 +75,87 @@ public abstract class BaseQueryHandler implements QueryHandler {
         return 0;
     }
 
+    protected int getFetchSize() {
+        try {
+            return statement.getFetchSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to get fetch size", e);
+        }
+    }
+
+    protected int getQueryTimeoutMs() {
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, statement.getQueryTimeout() * 1000L);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to get query timeout", e);
+        }
+    }
+
+    /**
+     * Chooses the access path of the query with the {@link QueryPlanner} cost model.
+     */
+    protected QueryPlan queryPlan(AerospikeQuery query) {
+        QueryPlan queryPlan = new QueryPlanner(config.getDriverPolicy(), aerospikeVersion, databaseMetadata)
+                .plan(query);
+        logger.fine(() -> "Query plan: " + queryPlan);
+        return queryPlan;
+    }
+
+    protected Optional<AerospikeSecondaryIndex> secondaryIndex(AerospikeQuery query) {
+        return queryPlan(query).getSecondaryIndex();
+    }
+
+    /**
+     * Runs the operations on the records matching the query as a server-side background query, filtered by the
+     * query predicate and by a secondary index if one applies, and waits for the background query to complete,
+     * up to the statement query timeout, or the write policy total timeout, or {@code recordSetTimeoutMs} when
+     * the ones before are 0. A query that would scan the set is refused as a select is.
+     *
+     * @return {@link Statement#SUCCESS_NO_INFO}, as the number of records written is not known.
+     */
+    protected int executeBackground(AerospikeQuery query, WritePolicy writePolicy, Operation... operations) {
+        com.aerospike.client.query.Statement backgroundStatement = new com.aerospike.client.query.Statement();
+        backgroundStatement.setNamespace(query.getCatalog());
+        backgroundStatement.setSetName(query.getSetName());
+        Optional<AerospikeSecondaryIndex> sIndex = secondaryIndex(query);
+        if (sIndex.isPresent()) {
+            AerospikeSecondaryIndex secondaryIndex = sIndex.get();
+            logger.info(() -> "Background query secondary index for column: " + secondaryIndex.getBinName());
+            backgroundStatement.setIndexName(secondaryIndex.getIndexName());
+            query.getPredicate().toFilter(secondaryIndex.getBinName()).ifPresent(backgroundStatement::setFilter);
+        } else if (config.getDriverPolicy().getRefuseScan()
+                && !hasSetIndex(client, config.getInfoPolicy(), query.getCatalog(), query.getTable())) {
+            throw new AerospikeException(ResultCode.INDEX_NOTFOUND, "No secondary index for this query to use");
+        }
+        writePolicy.filterExp = query.toFilterExpression(true);
+
+        ExecuteTask task = client.execute(writePolicy, backgroundStatement, operations);
+        task.waitTillComplete(BACKGROUND_TASK_POLL_INTERVAL_MS, getBackgroundTimeoutMs(writePolicy));
+        return Statement.SUCCESS_NO_INFO;
+    }
+
+    /**
+     * Returns the time to wait for a background query, so the wait without a query timeout doesn't poll forever;
+     * 0 only if every fallback is 0 as well.
+     */
+    private int getBackgroundTimeoutMs(WritePolicy writePolicy) {
+        int queryTimeoutMs = getQueryTimeoutMs();
+        if (queryTimeoutMs > 0) {
+            return queryTimeoutMs;
+        }
+        return writePolicy.totalTimeout > 0
+                ? writePolicy.totalTimeout
+                : config.getDriverPolicy().getRecordSetTimeoutMs();
+    }
+
+    /**
+     * Returns true if the statement without primary keys should run as a server-side background query,
+     * which cannot be part of a transaction.
+     */
+    protected boolean isBackground(AerospikeQuery query) {
+        return config.getDriverPolicy().getBackgroundWrites() && query.getTxn() == null;
+    }
+
     protected void logAerospikeException(AerospikeException e) {
         logger.log(Level.SEVERE, "Aerospike operation failure", e);
     }
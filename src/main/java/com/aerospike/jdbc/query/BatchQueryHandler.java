@@ -0,0 +1,23 @@
+package com.aerospike.jdbc.query;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.jdbc.model.AerospikeQuery;
+
+import java.util.List;
+
+/**
+ * A handler of the statements which can run as records of a batch command, such as an INSERT or a primary key
+ * UPDATE or DELETE.
+ */
+public interface BatchQueryHandler extends QueryHandler {
+
+    /**
+     * Returns true if the query can run as batch records, false if it has to be executed on its own.
+     */
+    boolean isBatchable(AerospikeQuery query);
+
+    /**
+     * Returns the batch records writing or deleting the records of the query, a record per row or primary key.
+     */
+    List<BatchRecord> batchRecords(AerospikeQuery query);
+}
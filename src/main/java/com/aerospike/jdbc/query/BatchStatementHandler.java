@@ -0,0 +1,120 @@
+package com.aerospike.jdbc.query;
+
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.jdbc.async.BatchOperateHandler;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.DriverConfiguration;
+import com.aerospike.jdbc.model.DriverPolicy;
+import com.aerospike.jdbc.model.QueryType;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Executes a batch of INSERT, UPDATE and DELETE statements, such as the parameter sets of a prepared statement
+ * or the statements added to a {@link Statement}.
+ * <p>
+ * The batch records of consecutive batchable statements, the inserts and the primary key updates and deletes, are
+ * sent together as {@code client.operate} batch commands of {@code batchChunkSize} records. A statement that cannot
+ * run as batch records, or one writing a key already pending, first sends the pending records, so the statements
+ * apply in their batch order.
+ */
+public class BatchStatementHandler {
+
+    private static final Logger logger = Logger.getLogger(BatchStatementHandler.class.getName());
+
+    private final IAerospikeClient client;
+    private final Statement statement;
+    private final DriverPolicy driverPolicy;
+    private final PolicyBuilder policyBuilder;
+    private final Map<QueryType, BatchQueryHandler> handlers = new EnumMap<>(QueryType.class);
+
+    private final List<BatchRecord> pendingRecords = new ArrayList<>();
+    private final List<Integer> pendingStatements = new ArrayList<>();
+    private final Set<Key> pendingKeys = new HashSet<>();
+    private AerospikeQuery pendingQuery;
+
+    public BatchStatementHandler(IAerospikeClient client, Statement statement, DriverConfiguration config) {
+        this.client = client;
+        this.statement = statement;
+        driverPolicy = config.getDriverPolicy();
+        policyBuilder = new PolicyBuilder(client, config);
+    }
+
+    /**
+     * Executes the statements and returns the update count of each: the number of records it wrote or deleted,
+     * or {@link Statement#EXECUTE_FAILED} if one of its records failed.
+     */
+    public int[] execute(List<AerospikeQuery> queries) {
+        int[] updateCounts = new int[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            AerospikeQuery query = queries.get(i);
+            BatchQueryHandler handler = handler(query.getQueryType());
+            if (handler == null) {
+                throw new IllegalArgumentException(String.format("%s statements cannot be batched",
+                        query.getQueryType()));
+            }
+            if (!handler.isBatchable(query)) {
+                flush(updateCounts);
+                updateCounts[i] = handler.execute(query).getRight();
+                continue;
+            }
+            List<BatchRecord> batchRecords = handler.batchRecords(query);
+            if (batchRecords.stream().anyMatch(r -> pendingKeys.contains(r.key))) {
+                flush(updateCounts);
+            }
+            for (BatchRecord batchRecord : batchRecords) {
+                pendingRecords.add(batchRecord);
+                pendingStatements.add(i);
+                pendingKeys.add(batchRecord.key);
+            }
+            if (pendingQuery == null) {
+                pendingQuery = query;
+            }
+        }
+        flush(updateCounts);
+        return updateCounts;
+    }
+
+    private void flush(int[] updateCounts) {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        logger.info(() -> String.format("Batch of %d records", pendingRecords.size()));
+        int[] recordCounts = BatchOperateHandler.create(client, driverPolicy)
+                .execute(policyBuilder.buildBatchPolicyDefault(pendingQuery), pendingRecords);
+        for (int i = 0; i < recordCounts.length; i++) {
+            int index = pendingStatements.get(i);
+            if (recordCounts[i] == Statement.EXECUTE_FAILED || updateCounts[index] == Statement.EXECUTE_FAILED) {
+                updateCounts[index] = Statement.EXECUTE_FAILED;
+            } else {
+                updateCounts[index] += recordCounts[i];
+            }
+        }
+        pendingRecords.clear();
+        pendingStatements.clear();
+        pendingKeys.clear();
+        pendingQuery = null;
+    }
+
+    private BatchQueryHandler handler(QueryType queryType) {
+        switch (queryType) {
+            case INSERT:
+                return handlers.computeIfAbsent(queryType, t -> new InsertQueryHandler(client, statement));
+            case UPDATE:
+                return handlers.computeIfAbsent(queryType, t -> new UpdateQueryHandler(client, statement));
+            case DELETE:
+                return handlers.computeIfAbsent(queryType, t -> new DeleteQueryHandler(client, statement));
+            default:
+                return null;
+        }
+    }
+}
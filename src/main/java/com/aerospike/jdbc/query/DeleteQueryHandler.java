@@ -1,24 +1,32 @@
 package com.aerospike.jdbc.query;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRecord;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Value;
+import com.aerospike.client.policy.BatchDeletePolicy;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.jdbc.async.BatchOperateHandler;
 import com.aerospike.jdbc.async.EventLoopProvider;
 import com.aerospike.jdbc.async.FutureDeleteListener;
-import com.aerospike.jdbc.async.RecordSetRecordSequenceListener;
+import com.aerospike.jdbc.async.RecordSet;
+import com.aerospike.jdbc.async.ScanQueryHandler;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.Pair;
 
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
-public class DeleteQueryHandler extends BaseQueryHandler {
+public class DeleteQueryHandler extends BaseQueryHandler implements BatchQueryHandler {
 
     private static final Logger logger = Logger.getLogger(DeleteQueryHandler.class.getName());
 
@@ -30,7 +38,10 @@ public class DeleteQueryHandler extends BaseQueryHandler {
     public Pair<ResultSet, Integer> execute(AerospikeQuery query) {
         Collection<Object> keyObjects = query.getPrimaryKeys();
         final WritePolicy writePolicy = policyBuilder.buildWritePolicy(query);
-        if (!keyObjects.isEmpty()) {
+        if (isBatchable(query)) {
+            logger.info("DELETE primary key batch");
+            return new Pair<>(emptyRecordSet(query), BatchOperateHandler.total(deleteBatch(query)));
+        } else if (!keyObjects.isEmpty()) {
             logger.info("DELETE primary key");
             FutureDeleteListener listener = new FutureDeleteListener(keyObjects.size());
             for (Object keyObject : keyObjects) {
@@ -43,18 +54,20 @@ public class DeleteQueryHandler extends BaseQueryHandler {
                 }
             }
             return new Pair<>(emptyRecordSet(query), getUpdateCount(listener.getTotal()));
+        } else if (isBackground(query)) {
+            logger.info("DELETE background query");
+            return new Pair<>(emptyRecordSet(query), executeBackground(query,
+                    policyBuilder.buildDeleteWritePolicy(query), Operation.delete()));
         } else {
             logger.info("DELETE scan");
-            RecordSetRecordSequenceListener listener = new RecordSetRecordSequenceListener(config.getDriverPolicy());
             ScanPolicy scanPolicy = policyBuilder.buildScanPolicy(query);
             scanPolicy.includeBinData = false;
-
-            client.scanAll(EventLoopProvider.getEventLoop(), listener, scanPolicy, query.getCatalog(),
-                    query.getSetName());
+            RecordSet recordSet = ScanQueryHandler.create(client, config.getDriverPolicy(), getFetchSize())
+                    .execute(scanPolicy, query);
 
             final WritePolicy deletePolicy = policyBuilder.buildDeleteWritePolicy(query);
             final AtomicInteger count = new AtomicInteger();
-            listener.getRecordSet().forEach(r -> {
+            recordSet.forEach(r -> {
                 try {
                     if (client.delete(deletePolicy, r.key))
                         count.incrementAndGet();
@@ -66,4 +79,35 @@ public class DeleteQueryHandler extends BaseQueryHandler {
             return new Pair<>(emptyRecordSet(query), count.get());
         }
     }
+
+    @Override
+    public boolean isBatchable(AerospikeQuery query) {
+        return !query.getPrimaryKeys().isEmpty() && aerospikeVersion.isBatchOpsSupported();
+    }
+
+    /**
+     * Returns the batch deletes of the primary keys.
+     */
+    @Override
+    public List<BatchRecord> batchRecords(AerospikeQuery query) {
+        BatchDeletePolicy batchDeletePolicy = policyBuilder.buildBatchDeletePolicy(query);
+        return query.getPrimaryKeys().stream()
+                .map(keyObject -> new BatchDelete(batchDeletePolicy,
+                        new Key(query.getCatalog(), query.getSetName(), Value.get(keyObject))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes the records of the primary keys in batch commands of {@code batchChunkSize} keys.
+     *
+     * @return the update count of each primary key.
+     */
+    public int[] deleteBatch(AerospikeQuery query) {
+        Key[] keys = query.getPrimaryKeys().stream()
+                .map(keyObject -> new Key(query.getCatalog(), query.getSetName(), Value.get(keyObject)))
+                .toArray(Key[]::new);
+        BatchDeletePolicy batchDeletePolicy = policyBuilder.buildBatchDeletePolicy(query);
+        return BatchOperateHandler.create(client, config.getDriverPolicy())
+                .delete(policyBuilder.buildBatchPolicyDefault(query), batchDeletePolicy, keys);
+    }
 }
@@ -6,6 +6,7 @@ import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
 import com.aerospike.jdbc.model.DataColumn;
 import com.aerospike.jdbc.model.DriverPolicy;
 import com.aerospike.jdbc.model.Pair;
+import com.aerospike.jdbc.query.QueryPlan.AccessType;
 import com.aerospike.jdbc.sql.ListRecordSet;
 
 import java.sql.ResultSet;
@@ -13,11 +14,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.logging.Logger;
 
-import static com.aerospike.jdbc.util.AerospikeUtils.getRecordsNumber;
-import static com.aerospike.jdbc.util.AerospikeUtils.hasSetIndex;
 import static java.sql.Types.INTEGER;
 import static java.sql.Types.VARCHAR;
 import static java.util.Arrays.asList;
@@ -34,8 +32,8 @@ public class ExplainQueryHandler extends SelectQueryHandler {
 
     static {
         String[] columnNames = new String[]{"COMMAND_TYPE", "SET_NAME", "INDEX_TYPE", "INDEX_NAME",
-                "BIN_NAME", "COUNT", "ENTRIES_PER_VALUE"};
-        int[] columnTypes = new int[]{VARCHAR, VARCHAR, VARCHAR, VARCHAR, VARCHAR, INTEGER, INTEGER};
+                "BIN_NAME", "COUNT", "ENTRIES_PER_VALUE", "COST"};
+        int[] columnTypes = new int[]{VARCHAR, VARCHAR, VARCHAR, VARCHAR, VARCHAR, INTEGER, INTEGER, INTEGER};
 
         explainColumns = range(0, columnNames.length).boxed()
                 .map(i -> new DataColumn(EXPLAIN_CATALOG, EXPLAIN_TABLE,
@@ -52,22 +50,19 @@ public class ExplainQueryHandler extends SelectQueryHandler {
         logger.info("EXPLAIN statement");
 
         final List<List<?>> explainResult = new ArrayList<>();
-        Optional<AerospikeSecondaryIndex> indexOptional = secondaryIndex(query);
-        if (indexOptional.isPresent()) {
-            AerospikeSecondaryIndex idx = indexOptional.get();
-            explainResult.add(asList("si_query", idx.getSet(), "bin_index", idx.getIndexName(),
-                    idx.getBinName(), 0, idx.getBinValuesRatio()));
-        } else if (!query.getPrimaryKeys().isEmpty()) {
-            explainResult.add(asList("key_query", query.getTable(), "primary_index", null, null,
-                    query.getPrimaryKeys().size(), 1));
-        } else if (query.isCount() && Objects.isNull(query.getPredicate())) {
-            explainResult.add(asList("info_query", query.getTable(), null, null, null, 0, 0));
-        } else if (hasSetIndex(client, query.getCatalog(), query.getTable())) {
-            explainResult.add(asList("set_query", query.getTable(), "set_index", null, null,
-                    getRecordsNumber(client, query.getCatalog(), query.getTable()), 1));
+        QueryPlan plan = queryPlan(query);
+        if (plan.getAccessType() != AccessType.PRIMARY_KEY && query.isCount()
+                && Objects.isNull(query.getPredicate())) {
+            explainResult.add(asList("info_query", query.getTable(), null, null, null, 0, 0, 0));
         } else {
-            explainResult.add(asList("pi_query", query.getTable(), "primary_index", null, null,
-                    getRecordsNumber(client, query.getCatalog(), null), 1));
+            AerospikeSecondaryIndex idx = plan.getSecondaryIndex().orElse(null);
+            explainResult.add(asList(plan.getAccessType().getCommandType(), query.getTable(),
+                    plan.getAccessType().getIndexType(),
+                    idx == null ? null : idx.getIndexName(),
+                    idx == null ? null : idx.getBinName(),
+                    plan.getEstimatedRecords(),
+                    idx == null ? Integer.valueOf(1) : idx.getBinValuesRatio(),
+                    plan.getCost() == null ? null : Math.round(plan.getCost())));
         }
 
         ResultSet resultSet = new ListRecordSet(null, EXPLAIN_CATALOG, EXPLAIN_TABLE,
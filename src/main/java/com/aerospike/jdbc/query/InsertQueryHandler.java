@@ -4,8 +4,8 @@ import com.aerospike.client.*;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.BatchWritePolicy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.jdbc.async.BatchOperateHandler;
 import com.aerospike.jdbc.async.EventLoopProvider;
-import com.aerospike.jdbc.async.FutureBatchOperateListListener;
 import com.aerospike.jdbc.async.FutureWriteListener;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.Pair;
@@ -15,6 +15,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -22,7 +23,7 @@ import java.util.stream.Collectors;
 
 import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
 
-public class InsertQueryHandler extends BaseQueryHandler {
+public class InsertQueryHandler extends BaseQueryHandler implements BatchQueryHandler {
 
     private static final Logger logger = Logger.getLogger(InsertQueryHandler.class.getName());
 
@@ -34,12 +35,43 @@ public class InsertQueryHandler extends BaseQueryHandler {
     public Pair<ResultSet, Integer> execute(AerospikeQuery query) {
         if (aerospikeVersion.isBatchOpsSupported()) {
             logger.info("INSERT batch");
-            return putBatch(query);
+            return new Pair<>(emptyRecordSet(query), BatchOperateHandler.total(putBatch(query)));
         }
         logger.info("INSERT individual");
         return putConsecutively(query);
     }
 
+    /**
+     * Executes the rows of a batch and returns the update count of each row.
+     */
+    public int[] executeBatch(AerospikeQuery query) {
+        if (aerospikeVersion.isBatchOpsSupported()) {
+            logger.info("INSERT batch");
+            return putBatch(query);
+        }
+        logger.info("INSERT individual");
+        putConsecutively(query);
+        // the individual writes are counted in total only
+        int[] updateCounts = new int[getRows(query).size()];
+        Arrays.fill(updateCounts, Statement.SUCCESS_NO_INFO);
+        return updateCounts;
+    }
+
+    @Override
+    public boolean isBatchable(AerospikeQuery query) {
+        return aerospikeVersion.isBatchOpsSupported();
+    }
+
+    /**
+     * Returns the create-only batch writes of the rows.
+     */
+    @Override
+    public List<BatchRecord> batchRecords(AerospikeQuery query) {
+        List<BatchRecord> batchRecords = new ArrayList<>();
+        batchRecords(query, getBinNames(query), getRows(query)).forEachRemaining(batchRecords::add);
+        return batchRecords;
+    }
+
     public Pair<ResultSet, Integer> putConsecutively(AerospikeQuery query) {
         List<String> binNames = getBinNames(query);
 
@@ -63,37 +95,37 @@ public class InsertQueryHandler extends BaseQueryHandler {
         return new Pair<>(emptyRecordSet(query), getUpdateCount(listener.getTotal()));
     }
 
-    public Pair<ResultSet, Integer> putBatch(AerospikeQuery query) {
+    /**
+     * Inserts the rows in batch commands of {@code batchChunkSize} records, building the records of each batch
+     * command only when it is sent.
+     *
+     * @return the update count of each row.
+     */
+    public int[] putBatch(AerospikeQuery query) {
         List<String> binNames = getBinNames(query);
-
-        FutureBatchOperateListListener listener = new FutureBatchOperateListListener();
-        List<BatchRecord> batchRecords = new ArrayList<>();
-        BatchWritePolicy batchWritePolicy = policyBuilder.buildBatchCreateOnlyPolicy();
-
-        for (Object aerospikeRecord : query.getValues()) {
-            for (List<Object> values : toObjectList(aerospikeRecord)) {
-                Value recordKey = extractInsertKey(query, values);
-                Key key = new Key(query.getCatalog(), query.getSetName(), recordKey);
-                batchRecords.add(
-                        new BatchWrite(
-                                batchWritePolicy,
-                                key,
-                                Arrays.stream(buildBinArray(binNames, values))
-                                        .map(Operation::put)
-                                        .toArray(Operation[]::new)
-                        )
-                );
-            }
-        }
+        List<List<Object>> rows = getRows(query);
+        Iterator<BatchRecord> batchRecords = batchRecords(query, binNames, rows);
         BatchPolicy batchPolicy = policyBuilder.buildBatchPolicyDefault(query);
-        try {
-            client.operate(EventLoopProvider.getEventLoop(), listener, batchPolicy, batchRecords);
-        } catch (AerospikeException e) {
-            // no error log as this completes the future exceptionally
-            listener.onFailure(e);
-        }
+        return BatchOperateHandler.create(client, config.getDriverPolicy())
+                .execute(batchPolicy, rows.size(), batchRecords);
+    }
 
-        return new Pair<>(emptyRecordSet(query), getUpdateCount(listener.getTotal()));
+    private Iterator<BatchRecord> batchRecords(AerospikeQuery query, List<String> binNames,
+                                               List<List<Object>> rows) {
+        BatchWritePolicy batchWritePolicy = policyBuilder.buildBatchCreateOnlyPolicy();
+        return rows.stream()
+                .map(values -> {
+                    Value recordKey = extractInsertKey(query, values);
+                    Key key = new Key(query.getCatalog(), query.getSetName(), recordKey);
+                    return (BatchRecord) new BatchWrite(
+                            batchWritePolicy,
+                            key,
+                            Arrays.stream(buildBinArray(binNames, values))
+                                    .map(Operation::put)
+                                    .toArray(Operation[]::new)
+                    );
+                })
+                .iterator();
     }
 
     protected Bin[] buildBinArray(List<String> binNames, List<Object> values) {
@@ -123,6 +155,12 @@ public class InsertQueryHandler extends BaseQueryHandler {
         return Value.get(UUID.randomUUID().toString());
     }
 
+    private List<List<Object>> getRows(AerospikeQuery query) {
+        return query.getValues().stream()
+                .flatMap(aerospikeRecord -> toObjectList(aerospikeRecord).stream())
+                .collect(Collectors.toList());
+    }
+
     @SuppressWarnings("unchecked")
     private List<List<Object>> toObjectList(Object aerospikeRecord) {
         if (aerospikeRecord instanceof List<?>) {
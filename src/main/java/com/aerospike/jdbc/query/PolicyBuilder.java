@@ -1,6 +1,7 @@
 package com.aerospike.jdbc.query;
 
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.BatchDeletePolicy;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.BatchReadPolicy;
 import com.aerospike.client.policy.BatchWritePolicy;
@@ -9,30 +10,44 @@ import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.DriverConfiguration;
 
 import java.util.Objects;
 
+/**
+ * Builds the command policies from the connection policies of the {@link DriverConfiguration}, as the default
+ * policies of the client are shared by all the connections leasing it.
+ */
 public class PolicyBuilder {
 
     protected final IAerospikeClient client;
+    protected final DriverConfiguration config;
 
-    public PolicyBuilder(IAerospikeClient client) {
+    public PolicyBuilder(IAerospikeClient client, DriverConfiguration config) {
         this.client = client;
+        this.config = config;
     }
 
     public ScanPolicy buildScanPolicy(AerospikeQuery query) {
-        ScanPolicy scanPolicy = new ScanPolicy(client.getScanPolicyDefault());
+        ScanPolicy scanPolicy = new ScanPolicy(config.getScanPolicy());
         scanPolicy.maxRecords = Objects.isNull(query.getLimit()) ? 0 : query.getLimit();
         scanPolicy.filterExp = query.toFilterExpression(true);
         return scanPolicy;
     }
 
     public QueryPolicy buildQueryPolicy(AerospikeQuery query) {
-        QueryPolicy queryPolicy = new QueryPolicy(client.getQueryPolicyDefault());
+        QueryPolicy queryPolicy = new QueryPolicy(config.getQueryPolicy());
         queryPolicy.filterExp = query.toFilterExpression(true);
         return queryPolicy;
     }
 
+    /**
+     * Returns the scan rate limit of the connection, which the secondary index queries take on their statement.
+     */
+    public int getRecordsPerSecond() {
+        return config.getScanPolicy().recordsPerSecond;
+    }
+
     public ScanPolicy buildScanNoBinDataPolicy(AerospikeQuery query) {
         ScanPolicy scanPolicy = buildScanPolicy(query);
         scanPolicy.includeBinData = false;
@@ -40,21 +55,21 @@ public class PolicyBuilder {
     }
 
     public WritePolicy buildWritePolicy(AerospikeQuery query) {
-        WritePolicy writePolicy = new WritePolicy(client.getWritePolicyDefault());
+        WritePolicy writePolicy = new WritePolicy(config.getWritePolicy());
         writePolicy.filterExp = query.toFilterExpression(true);
         writePolicy.txn = query.getTxn();
         return writePolicy;
     }
 
     public WritePolicy buildDeleteWritePolicy(AerospikeQuery query) {
-        WritePolicy writePolicy = new WritePolicy(client.getWritePolicyDefault());
+        WritePolicy writePolicy = new WritePolicy(config.getWritePolicy());
         writePolicy.sendKey = false;
         writePolicy.txn = query.getTxn();
         return writePolicy;
     }
 
     public BatchPolicy buildBatchPolicyDefault(AerospikeQuery query) {
-        BatchPolicy batchPolicy = new BatchPolicy(client.getBatchPolicyDefault());
+        BatchPolicy batchPolicy = new BatchPolicy(config.getBatchPolicy());
         batchPolicy.txn = query.getTxn();
         return batchPolicy;
     }
@@ -66,22 +81,36 @@ public class PolicyBuilder {
     }
 
     public BatchWritePolicy buildBatchCreateOnlyPolicy() {
-        BatchWritePolicy batchWritePolicy = new BatchWritePolicy();
+        BatchWritePolicy batchWritePolicy = new BatchWritePolicy(config.getBatchWritePolicy());
         batchWritePolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
-        batchWritePolicy.sendKey = client.getBatchPolicyDefault().sendKey;
-        batchWritePolicy.expiration = client.getBatchWritePolicyDefault().expiration;
+        batchWritePolicy.sendKey = config.getBatchPolicy().sendKey;
         return batchWritePolicy;
     }
 
+    public BatchWritePolicy buildBatchUpdateOnlyPolicy(AerospikeQuery query) {
+        BatchWritePolicy batchWritePolicy = new BatchWritePolicy(config.getBatchWritePolicy());
+        batchWritePolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+        batchWritePolicy.sendKey = config.getBatchPolicy().sendKey;
+        batchWritePolicy.filterExp = query.toFilterExpression(false);
+        return batchWritePolicy;
+    }
+
+    public BatchDeletePolicy buildBatchDeletePolicy(AerospikeQuery query) {
+        BatchDeletePolicy batchDeletePolicy = new BatchDeletePolicy(config.getBatchDeletePolicy());
+        batchDeletePolicy.sendKey = config.getBatchPolicy().sendKey;
+        batchDeletePolicy.filterExp = query.toFilterExpression(false);
+        return batchDeletePolicy;
+    }
+
     public WritePolicy buildCreateOnlyPolicy(AerospikeQuery query) {
-        WritePolicy writePolicy = new WritePolicy(client.getWritePolicyDefault());
+        WritePolicy writePolicy = new WritePolicy(config.getWritePolicy());
         writePolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
         writePolicy.txn = query.getTxn();
         return writePolicy;
     }
 
     public WritePolicy buildUpdateOnlyPolicy(AerospikeQuery query) {
-        WritePolicy writePolicy = new WritePolicy(client.getWritePolicyDefault());
+        WritePolicy writePolicy = new WritePolicy(config.getWritePolicy());
         writePolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
         writePolicy.txn = query.getTxn();
         return writePolicy;
@@ -2,11 +2,14 @@ package com.aerospike.jdbc.query;
 
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.DriverConfiguration;
 import com.aerospike.jdbc.model.DriverPolicy;
 import com.aerospike.jdbc.model.Pair;
+import com.aerospike.jdbc.model.QueryType;
 
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.List;
 
 import static com.aerospike.jdbc.util.Constants.UNSUPPORTED_QUERY_TYPE_MESSAGE;
 
@@ -59,4 +62,30 @@ public final class QueryPerformer {
                 throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
         }
     }
+
+    /**
+     * Executes the rows of a prepared INSERT batch and returns the update count of each row.
+     */
+    public static int[] executeBatch(
+            IAerospikeClient client,
+            Statement statement,
+            AerospikeQuery query
+    ) {
+        if (query.getQueryType() != QueryType.INSERT) {
+            throw new UnsupportedOperationException(UNSUPPORTED_QUERY_TYPE_MESSAGE);
+        }
+        return new InsertQueryHandler(client, statement).executeBatch(query);
+    }
+
+    /**
+     * Executes a batch of statements and returns the update count of each statement.
+     */
+    public static int[] executeBatch(
+            IAerospikeClient client,
+            Statement statement,
+            List<AerospikeQuery> queries,
+            DriverConfiguration config
+    ) {
+        return new BatchStatementHandler(client, statement, config).execute(queries);
+    }
 }
@@ -0,0 +1,75 @@
+package com.aerospike.jdbc.query;
+
+import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+
+import java.util.Optional;
+
+/**
+ * The access path chosen to read the records of a query, with its estimated number of records and cost.
+ */
+public final class QueryPlan {
+
+    public enum AccessType {
+        PRIMARY_KEY("key_query", "primary_index"),
+        SECONDARY_INDEX("si_query", "bin_index"),
+        SET_INDEX("set_query", "set_index"),
+        SCAN("pi_query", "primary_index");
+
+        private final String commandType;
+        private final String indexType;
+
+        AccessType(String commandType, String indexType) {
+            this.commandType = commandType;
+            this.indexType = indexType;
+        }
+
+        public String getCommandType() {
+            return commandType;
+        }
+
+        public String getIndexType() {
+            return indexType;
+        }
+    }
+
+    private final AccessType accessType;
+    private final AerospikeSecondaryIndex secondaryIndex;
+    private final Long estimatedRecords;
+    private final Double cost;
+
+    /**
+     * @param accessType       the access path type.
+     * @param secondaryIndex   the secondary index of a secondary index query, or null.
+     * @param estimatedRecords the estimated number of records read, or null if not known.
+     * @param cost             the estimated cost, or null if not known.
+     */
+    public QueryPlan(AccessType accessType, AerospikeSecondaryIndex secondaryIndex, Long estimatedRecords,
+                     Double cost) {
+        this.accessType = accessType;
+        this.secondaryIndex = secondaryIndex;
+        this.estimatedRecords = estimatedRecords;
+        this.cost = cost;
+    }
+
+    public AccessType getAccessType() {
+        return accessType;
+    }
+
+    public Optional<AerospikeSecondaryIndex> getSecondaryIndex() {
+        return Optional.ofNullable(secondaryIndex);
+    }
+
+    public Long getEstimatedRecords() {
+        return estimatedRecords;
+    }
+
+    public Double getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s, %s, %s, %s)", getClass().getSimpleName(), accessType,
+                secondaryIndex == null ? null : secondaryIndex.getIndexName(), estimatedRecords, cost);
+    }
+}
@@ -0,0 +1,139 @@
+package com.aerospike.jdbc.query;
+
+import com.aerospike.client.query.Filter;
+import com.aerospike.jdbc.AerospikeDatabaseMetadata;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+import com.aerospike.jdbc.model.DriverPolicy;
+import com.aerospike.jdbc.model.TableStatistics;
+import com.aerospike.jdbc.query.QueryPlan.AccessType;
+import com.aerospike.jdbc.util.AerospikeVersion;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Chooses the access path of a query with a small cost model, counting the cost in records read.
+ * <p>
+ * A secondary index query costs the records its filters match plus {@link #FILTER_QUERY_COST} per filter, as each
+ * filter runs as a query on every node. The records an equality filter matches are the cached
+ * {@code entries_per_bval} of the index, and a range filter matches a fixed fraction of the set. A scan costs the
+ * records of the set, plus {@link #PRIMARY_INDEX_ENTRY_COST} per namespace record if the set has no set index and
+ * the scan walks the namespace primary index. The set and namespace record counts are cached for
+ * {@code statisticsCacheTtlSeconds}.
+ * <p>
+ * A query with primary keys always reads them as a batch, as the other access paths only match a key stored with
+ * its record. A scan is not chosen over an index if {@code refuseScan} would fail it. Without the set statistics,
+ * the index with the fewest entries per value is chosen, and the cost is not estimated.
+ */
+public class QueryPlanner {
+
+    private static final double FILTER_QUERY_COST = 10;
+    private static final double PRIMARY_INDEX_ENTRY_COST = 0.1;
+    private static final double EQUALITY_SELECTIVITY = 0.01;
+    private static final double RANGE_SELECTIVITY = 1.0 / 3;
+    private static final double BOUNDED_RANGE_SELECTIVITY = 1.0 / 4;
+
+    private final DriverPolicy driverPolicy;
+    private final AerospikeVersion aerospikeVersion;
+    private final AerospikeDatabaseMetadata databaseMetadata;
+
+    public QueryPlanner(DriverPolicy driverPolicy, AerospikeVersion aerospikeVersion,
+                        AerospikeDatabaseMetadata databaseMetadata) {
+        this.driverPolicy = driverPolicy;
+        this.aerospikeVersion = aerospikeVersion;
+        this.databaseMetadata = databaseMetadata;
+    }
+
+    public QueryPlan plan(AerospikeQuery query) {
+        Collection<Object> primaryKeys = query.getPrimaryKeys();
+        if (!primaryKeys.isEmpty()) {
+            return new QueryPlan(AccessType.PRIMARY_KEY, null, (long) primaryKeys.size(),
+                    (double) primaryKeys.size());
+        }
+        List<AerospikeSecondaryIndex> indexes = candidateIndexes(query);
+        TableStatistics statistics = databaseMetadata.getTableStatistics(query.getCatalog(), query.getTable());
+        if (statistics == null) {
+            return indexes.stream().findFirst()
+                    .map(index -> new QueryPlan(AccessType.SECONDARY_INDEX, index, null, null))
+                    .orElseGet(() -> new QueryPlan(AccessType.SCAN, null, null, null));
+        }
+
+        QueryPlan indexPlan = null;
+        for (AerospikeSecondaryIndex index : indexes) {
+            QueryPlan plan = indexPlan(query, index, statistics);
+            if (indexPlan == null || plan.getCost() < indexPlan.getCost()) {
+                indexPlan = plan;
+            }
+        }
+        QueryPlan scanPlan = scanPlan(statistics);
+        if (indexPlan == null) {
+            return scanPlan;
+        }
+        boolean scanRefused = driverPolicy.getRefuseScan() && !statistics.hasSetIndex() && !query.hasLimit(1);
+        return !scanRefused && scanPlan.getCost() < indexPlan.getCost() ? scanPlan : indexPlan;
+    }
+
+    /**
+     * Returns the indexes of the query set with a filter for the query predicate, the fewest entries per value
+     * first.
+     */
+    private List<AerospikeSecondaryIndex> candidateIndexes(AerospikeQuery query) {
+        if (!aerospikeVersion.isSIndexSupported() || !query.isIndexable()) {
+            return Collections.emptyList();
+        }
+        Collection<AerospikeSecondaryIndex> indexes = databaseMetadata.getSecondaryIndexes(query.getCatalog());
+        List<String> binNames = query.getPredicate().getBinNames();
+        if (binNames.isEmpty() || indexes == null || indexes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indexes.stream()
+                .filter(i -> i.getSet().equals(query.getTable()))
+                .filter(i -> binNames.contains(i.getBinName()))
+                .filter(i -> !query.getPredicate().toFilters(i.getBinName()).isEmpty())
+                .sorted(secondaryIndexComparator())
+                .collect(Collectors.toList());
+    }
+
+    private Comparator<AerospikeSecondaryIndex> secondaryIndexComparator() {
+        if (aerospikeVersion.isSIndexCardinalitySupported()) {
+            return Comparator.comparing(AerospikeSecondaryIndex::getBinValuesRatio,
+                    Comparator.nullsLast(Comparator.<Integer>naturalOrder()));
+        }
+        return Comparator.comparing(AerospikeSecondaryIndex::getBinName);
+    }
+
+    private QueryPlan indexPlan(AerospikeQuery query, AerospikeSecondaryIndex index, TableStatistics statistics) {
+        List<Filter> filters = query.getPredicate().toFilters(index.getBinName());
+        double records = 0;
+        for (Filter filter : filters) {
+            records += filterRecords(filter, index, statistics.getRecords());
+        }
+        records = Math.min(records, statistics.getRecords());
+        return new QueryPlan(AccessType.SECONDARY_INDEX, index, Math.round(records),
+                FILTER_QUERY_COST * filters.size() + records);
+    }
+
+    private static double filterRecords(Filter filter, AerospikeSecondaryIndex index, long records) {
+        if (Objects.equals(filter.getBegin().getObject(), filter.getEnd().getObject())) {
+            return index.getBinValuesRatio() != null
+                    ? index.getBinValuesRatio()
+                    : Math.max(1, records * EQUALITY_SELECTIVITY);
+        }
+        boolean bounded = filter.getBegin().toLong() != Long.MIN_VALUE && filter.getEnd().toLong() != Long.MAX_VALUE;
+        return records * (bounded ? BOUNDED_RANGE_SELECTIVITY : RANGE_SELECTIVITY);
+    }
+
+    private static QueryPlan scanPlan(TableStatistics statistics) {
+        if (statistics.hasSetIndex()) {
+            return new QueryPlan(AccessType.SET_INDEX, null, statistics.getRecords(),
+                    (double) statistics.getRecords());
+        }
+        return new QueryPlan(AccessType.SCAN, null, statistics.getNamespaceRecords(),
+                statistics.getRecords() + PRIMARY_INDEX_ENTRY_COST * statistics.getNamespaceRecords());
+    }
+}
@@ -6,37 +6,50 @@ import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
+import com.aerospike.client.async.EventLoop;
 import com.aerospike.client.policy.BatchReadPolicy;
 import com.aerospike.client.policy.QueryPolicy;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.aggregate.Aggregator;
+import com.aerospike.jdbc.async.CountQueryHandler;
 import com.aerospike.jdbc.async.EventLoopProvider;
+import com.aerospike.jdbc.async.IteratorRecordSetProducer;
+import com.aerospike.jdbc.async.PartitionCursor;
 import com.aerospike.jdbc.async.RecordSet;
 import com.aerospike.jdbc.async.RecordSetBatchSequenceListener;
 import com.aerospike.jdbc.async.ScanQueryHandler;
 import com.aerospike.jdbc.async.SecondaryIndexQueryHandler;
 import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.AggregateColumn;
 import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
 import com.aerospike.jdbc.model.DataColumn;
 import com.aerospike.jdbc.model.DriverPolicy;
 import com.aerospike.jdbc.model.Pair;
+import com.aerospike.jdbc.sort.RecordSorter;
 import com.aerospike.jdbc.sql.AerospikeRecordResultSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 
+import java.io.Closeable;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import static com.aerospike.jdbc.util.AerospikeUtils.getRecordsNumber;
 import static com.aerospike.jdbc.util.AerospikeUtils.hasSetIndex;
+import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
 
 public class SelectQueryHandler extends BaseQueryHandler {
 
@@ -57,7 +70,11 @@ public class SelectQueryHandler extends BaseQueryHandler {
         Optional<AerospikeSecondaryIndex> sIndex = secondaryIndex(query);
         Pair<ResultSet, Integer> result;
         if (query.isCount()) {
-            result = executeCountQuery(query);
+            result = executeCountQuery(query, keyObjects, sIndex);
+        } else if (query.isAggregate()) {
+            result = executeAggregateQuery(query, keyObjects, sIndex);
+        } else if (!query.getOrderBy().isEmpty()) {
+            result = executeSortedQuery(query, keyObjects, sIndex);
         } else if (!keyObjects.isEmpty()) {
             result = executeSelectByPrimaryKey(query, keyObjects);
         } else {
@@ -70,20 +87,24 @@ public class SelectQueryHandler extends BaseQueryHandler {
         return result;
     }
 
-    private Pair<ResultSet, Integer> executeCountQuery(AerospikeQuery query) {
+    private Pair<ResultSet, Integer> executeCountQuery(AerospikeQuery query, Collection<Object> keyObjects,
+                                                       Optional<AerospikeSecondaryIndex> sIndex) {
+        if (!keyObjects.isEmpty()) {
+            // a batch read of the keys
+            return executeAggregateQuery(query, keyObjects, sIndex);
+        }
         logger.info(() -> "SELECT count");
         String countLabel = query.getColumns().get(0);
-        int recordNumber;
+        long recordNumber;
         if (Objects.isNull(query.getPredicate())) {
-            recordNumber = getRecordsNumber(client, query.getCatalog(), query.getTable());
+            recordNumber = getRecordsNumber(client, config.getInfoPolicy(), query.getCatalog(), query.getTable());
         } else {
-            ScanPolicy policy = policyBuilder.buildScanNoBinDataPolicy(query);
-            RecordSet recordSet = ScanQueryHandler.create(client, config.getDriverPolicy())
-                    .execute(policy, query);
-
-            final AtomicInteger count = new AtomicInteger();
-            recordSet.forEach(r -> count.incrementAndGet());
-            recordNumber = count.get();
+            CountQueryHandler countHandler = CountQueryHandler.create(client, config.getDriverPolicy(),
+                    policyBuilder.getRecordsPerSecond());
+            recordNumber = sIndex
+                    .map(secondaryIndex -> countHandler.countQuery(policyBuilder.buildQueryPolicy(query), query,
+                            secondaryIndex))
+                    .orElseGet(() -> countHandler.countScan(policyBuilder.buildScanNoBinDataPolicy(query), query));
         }
         com.aerospike.client.Record aeroRecord = new com.aerospike.client.Record(Collections.singletonMap(
                 countLabel, recordNumber), 1, 0);
@@ -93,13 +114,173 @@ public class SelectQueryHandler extends BaseQueryHandler {
         recordSet.close();
 
         columns = Collections.singletonList(new DataColumn(query.getCatalog(), query.getTable(),
-                Types.INTEGER, countLabel, countLabel));
+                Types.BIGINT, countLabel, countLabel));
 
         return queryResult(recordSet, query);
     }
 
+    private Pair<ResultSet, Integer> executeAggregateQuery(AerospikeQuery query, Collection<Object> keyObjects,
+                                                           Optional<AerospikeSecondaryIndex> sIndex) {
+        logger.info(() -> "SELECT aggregate, GROUP BY " + query.getGroupBy());
+        // the offset and limit apply to the groups rather than to the records aggregated
+        Integer offset = query.getOffset();
+        Integer limit = outputLimit(query);
+        query.setOffset(null);
+        query.setLimit(null);
+        RecordSet records = selectRecords(query, keyObjects, sIndex);
+
+        Aggregator aggregator = new Aggregator(query.getGroupBy(), query.getAggregates(),
+                driverPolicy.getAggregationMaxGroups());
+        try {
+            for (KeyRecord keyRecord : records) {
+                aggregator.add(keyRecord);
+            }
+        } catch (RuntimeException e) {
+            records.invalidate();
+            aggregator.close();
+            throw e;
+        }
+        Iterator<KeyRecord> rows = Iterators.transform(aggregator.results(), row -> aggregateRecord(query, row));
+        Closeable resource = aggregator;
+        if (!query.getOrderBy().isEmpty()) {
+            RecordSorter sorter;
+            try {
+                sorter = sort(rows, query, offset, limit);
+            } finally {
+                aggregator.close();
+            }
+            rows = sorter.results();
+            resource = sorter;
+        }
+        RecordSet recordSet = IteratorRecordSetProducer.start(page(rows, offset, limit), resource,
+                config.getDriverPolicy());
+
+        columns = aggregateColumns(query);
+        return new Pair<>(new AerospikeRecordResultSet(recordSet, statement, query.getCatalog(),
+                query.getTable(), columns), -1);
+    }
+
+    private Pair<ResultSet, Integer> executeSortedQuery(AerospikeQuery query, Collection<Object> keyObjects,
+                                                        Optional<AerospikeSecondaryIndex> sIndex) {
+        logger.info(() -> "SELECT ORDER BY " + query.getOrderBy());
+        if (query.getCursor() != null) {
+            throw new IllegalArgumentException("ORDER BY cannot be combined with a cursor");
+        }
+        // the offset and limit apply to the sorted records
+        Integer offset = query.getOffset();
+        Integer limit = outputLimit(query);
+        query.setOffset(null);
+        query.setLimit(null);
+        RecordSet records = selectRecords(query, keyObjects, sIndex);
+
+        RecordSorter sorter;
+        try {
+            sorter = sort(records.iterator(), query, offset, limit);
+        } catch (RuntimeException e) {
+            records.invalidate();
+            throw e;
+        }
+        RecordSet recordSet = IteratorRecordSetProducer.start(page(sorter.results(), offset, limit), sorter,
+                config.getDriverPolicy());
+
+        return queryResult(recordSet, query);
+    }
+
+    /**
+     * Sorts the records, keeping the top offset + limit of them when limited.
+     */
+    private RecordSorter sort(Iterator<KeyRecord> records, AerospikeQuery query, Integer offset, Integer limit) {
+        Integer maxRecords = limit == null ? null
+                : (int) Math.min(Integer.MAX_VALUE, (long) limit + (offset == null ? 0 : offset));
+        RecordSorter sorter = new RecordSorter(query.getOrderBy(), maxRecords,
+                driverPolicy.getSortMemoryBudgetKb() * 1024L);
+        try {
+            while (records.hasNext()) {
+                sorter.add(records.next());
+            }
+        } catch (RuntimeException e) {
+            sorter.close();
+            throw e;
+        }
+        return sorter;
+    }
+
+    private static Iterator<KeyRecord> page(Iterator<KeyRecord> records, Integer offset, Integer limit) {
+        Iterator<KeyRecord> page = offset == null ? records : Iterables.skip(() -> records, offset).iterator();
+        return limit == null ? page : Iterators.limit(page, limit);
+    }
+
+    private Integer outputLimit(AerospikeQuery query) {
+        if (query.getLimit() == null && driverPolicy.getQueryLimit() > 0) {
+            return driverPolicy.getQueryLimit();
+        }
+        return query.getLimit();
+    }
+
+    private RecordSet selectRecords(AerospikeQuery query, Collection<Object> keyObjects,
+                                    Optional<AerospikeSecondaryIndex> sIndex) {
+        if (!keyObjects.isEmpty()) {
+            return selectByPrimaryKey(query, keyObjects);
+        }
+        return sIndex.map(secondaryIndex -> queryRecordSet(query, secondaryIndex))
+                .orElseGet(() -> scanRecordSet(query));
+    }
+
+    private KeyRecord aggregateRecord(AerospikeQuery query, Object[] row) {
+        List<String> groupBy = query.getGroupBy();
+        Map<String, Object> bins = new HashMap<>();
+        Key key = null;
+        for (int i = 0; i < groupBy.size(); i++) {
+            if (groupBy.get(i).equals(PRIMARY_KEY_COLUMN_NAME)) {
+                key = row[i] == null ? null
+                        : new Key(query.getCatalog(), query.getSetName(), Value.get(row[i]));
+            } else {
+                bins.put(groupBy.get(i), row[i]);
+            }
+        }
+        List<AggregateColumn> aggregates = query.getAggregates();
+        for (int i = 0; i < aggregates.size(); i++) {
+            bins.put(aggregates.get(i).getLabel(), row[groupBy.size() + i]);
+        }
+        return new KeyRecord(key, new com.aerospike.client.Record(bins, 0, 0));
+    }
+
+    private List<DataColumn> aggregateColumns(AerospikeQuery query) {
+        Map<String, Integer> columnTypes = columns.stream()
+                .collect(Collectors.toMap(DataColumn::getName, DataColumn::getType, (t1, t2) -> t1));
+        Map<String, AggregateColumn> aggregates = query.getAggregates().stream()
+                .collect(Collectors.toMap(AggregateColumn::getLabel, a -> a, (a1, a2) -> a1));
+        return query.getColumns().stream()
+                .map(label -> {
+                    AggregateColumn aggregate = aggregates.get(label);
+                    int type = aggregate == null
+                            ? columnTypes.getOrDefault(label, Types.OTHER)
+                            : aggregateType(aggregate, columnTypes.getOrDefault(aggregate.getColumn(), Types.OTHER));
+                    return new DataColumn(query.getCatalog(), query.getTable(), type, label, label);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static int aggregateType(AggregateColumn aggregate, int columnType) {
+        switch (aggregate.getFunction()) {
+            case COUNT:
+                return Types.BIGINT;
+            case AVG:
+                return Types.DOUBLE;
+            case SUM:
+                return columnType == Types.DOUBLE || columnType == Types.FLOAT || columnType == Types.REAL
+                        ? Types.DOUBLE : Types.BIGINT;
+            default:
+                return columnType;
+        }
+    }
+
     private Pair<ResultSet, Integer> executeSelectByPrimaryKey(AerospikeQuery query, Collection<Object> keyObjects) {
         logger.info(() -> "SELECT primary key");
+        return queryResult(selectByPrimaryKey(query, keyObjects), query);
+    }
+
+    private RecordSet selectByPrimaryKey(AerospikeQuery query, Collection<Object> keyObjects) {
         final BatchReadPolicy policy = policyBuilder.buildBatchReadPolicy(query);
         List<BatchRead> batchReadList = keyObjects.stream()
                 .map(k -> {
@@ -108,68 +289,65 @@ public class SelectQueryHandler extends BaseQueryHandler {
                 })
                 .collect(Collectors.toList());
 
-        RecordSetBatchSequenceListener listener = new RecordSetBatchSequenceListener(config.getDriverPolicy());
-        client.get(EventLoopProvider.getEventLoop(), listener, null, batchReadList);
+        EventLoop eventLoop = EventLoopProvider.getEventLoop();
+        RecordSetBatchSequenceListener listener =
+                new RecordSetBatchSequenceListener(config.getDriverPolicy(), getFetchSize(), eventLoop);
+        client.get(eventLoop, listener, null, batchReadList);
 
-        return queryResult(listener.getRecordSet(), query);
+        return listener.getRecordSet();
     }
 
     private Pair<ResultSet, Integer> executeScan(AerospikeQuery query) {
+        ScanQueryHandler scanHandler = ScanQueryHandler.create(client, config.getDriverPolicy(), getFetchSize());
+        RecordSet recordSet = scanRecordSet(query, scanHandler);
+
+        return queryResult(recordSet, query, scanHandler.getCursor());
+    }
+
+    private RecordSet scanRecordSet(AerospikeQuery query) {
+        return scanRecordSet(query, ScanQueryHandler.create(client, config.getDriverPolicy(), getFetchSize()));
+    }
+
+    private RecordSet scanRecordSet(AerospikeQuery query, ScanQueryHandler scanHandler) {
         if (driverPolicy.getRefuseScan()
                 && !query.hasLimit(1) // For metadata queries
-                && !hasSetIndex(client, query.getCatalog(), query.getTable())) {
+                && !hasSetIndex(client, config.getInfoPolicy(), query.getCatalog(), query.getTable())) {
             throw new AerospikeException(ResultCode.INDEX_NOTFOUND, "No secondary index for this query to use");
         }
 
         logger.info(() -> "SELECT scan " + (Objects.nonNull(query.getOffset()) ? "partition" : "all"));
 
         ScanPolicy policy = policyBuilder.buildScanPolicy(query);
-        RecordSet recordSet = ScanQueryHandler.create(client, config.getDriverPolicy()).execute(policy, query);
-
-        return queryResult(recordSet, query);
+        if (query.isAggregate() && query.columnBins() == null) {
+            policy.includeBinData = false;
+        }
+        return scanHandler.execute(policy, query);
     }
 
     private Pair<ResultSet, Integer> executeQuery(AerospikeQuery query,
                                                   AerospikeSecondaryIndex secondaryIndex) {
+        return queryResult(queryRecordSet(query, secondaryIndex), query);
+    }
+
+    private RecordSet queryRecordSet(AerospikeQuery query, AerospikeSecondaryIndex secondaryIndex) {
         logger.info(() -> "SELECT secondary index query for column: " + secondaryIndex.getBinName());
 
         QueryPolicy policy = policyBuilder.buildQueryPolicy(query);
-        RecordSet recordSet = SecondaryIndexQueryHandler.create(client, config.getDriverPolicy())
-                .execute(policy, query, secondaryIndex);
-
-        return queryResult(recordSet, query);
-    }
-
-    protected Optional<AerospikeSecondaryIndex> secondaryIndex(AerospikeQuery query) {
-        if (aerospikeVersion.isSIndexSupported() && query.isIndexable()) {
-            Collection<AerospikeSecondaryIndex> indexes = databaseMetadata.getSecondaryIndexes(query.getCatalog());
-            List<String> binNames = query.getPredicate().getBinNames();
-            if (!binNames.isEmpty() && indexes != null && !indexes.isEmpty()) {
-                List<AerospikeSecondaryIndex> indexList = indexes.stream()
-                        .filter(i -> i.getSet().equals(query.getTable()))
-                        .sorted(secondaryIndexComparator())
-                        .collect(Collectors.toList());
-
-                for (AerospikeSecondaryIndex index : indexList) {
-                    if (binNames.contains(index.getBinName())) {
-                        return Optional.of(index);
-                    }
-                }
-            }
+        if (query.isAggregate() && query.columnBins() == null) {
+            policy.includeBinData = false;
         }
-        return Optional.empty();
+        return SecondaryIndexQueryHandler.create(client, config.getDriverPolicy(), getFetchSize(),
+                policyBuilder.getRecordsPerSecond()).execute(policy, query, secondaryIndex);
     }
 
     private Pair<ResultSet, Integer> queryResult(RecordSet recordSet, AerospikeQuery query) {
-        return new Pair<>(new AerospikeRecordResultSet(recordSet, statement, query.getCatalog(),
-                query.getTable(), filterColumns(query)), -1);
+        return queryResult(recordSet, query, null);
     }
 
-    private Comparator<AerospikeSecondaryIndex> secondaryIndexComparator() {
-        if (aerospikeVersion.isSIndexCardinalitySupported()) {
-            return Comparator.comparingInt(AerospikeSecondaryIndex::getBinValuesRatio);
-        }
-        return Comparator.comparing(AerospikeSecondaryIndex::getBinName);
+    private Pair<ResultSet, Integer> queryResult(RecordSet recordSet, AerospikeQuery query,
+                                                 PartitionCursor cursor) {
+        return new Pair<>(new AerospikeRecordResultSet(recordSet, statement, query.getCatalog(),
+                query.getTable(), filterColumns(query), cursor), -1);
     }
 
     private List<DataColumn> filterColumns(AerospikeQuery query) {
@@ -1,25 +1,34 @@
 package com.aerospike.jdbc.query;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
 import com.aerospike.client.Bin;
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Value;
+import com.aerospike.client.policy.BatchWritePolicy;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.jdbc.async.BatchOperateHandler;
 import com.aerospike.jdbc.async.EventLoopProvider;
 import com.aerospike.jdbc.async.FutureWriteListener;
-import com.aerospike.jdbc.async.RecordSetRecordSequenceListener;
+import com.aerospike.jdbc.async.RecordSet;
+import com.aerospike.jdbc.async.ScanQueryHandler;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.Pair;
 
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
-public class UpdateQueryHandler extends BaseQueryHandler {
+public class UpdateQueryHandler extends BaseQueryHandler implements BatchQueryHandler {
 
     private static final Logger logger = Logger.getLogger(UpdateQueryHandler.class.getName());
 
@@ -32,7 +41,12 @@ public class UpdateQueryHandler extends BaseQueryHandler {
         Collection<Object> keyObjects = query.getPrimaryKeys();
         final Bin[] bins = getBins(query);
         final WritePolicy writePolicy = policyBuilder.buildUpdateOnlyPolicy(query);
-        if (!keyObjects.isEmpty()) {
+        if (isBatchable(query)) {
+            logger.info("UPDATE primary key batch");
+            int[] updateCounts = BatchOperateHandler.create(client, config.getDriverPolicy())
+                    .execute(policyBuilder.buildBatchPolicyDefault(query), batchRecords(query));
+            return new Pair<>(emptyRecordSet(query), BatchOperateHandler.total(updateCounts));
+        } else if (!keyObjects.isEmpty()) {
             logger.info("UPDATE primary key");
             FutureWriteListener listener = new FutureWriteListener(keyObjects.size());
             for (Object keyObject : keyObjects) {
@@ -45,16 +59,21 @@ public class UpdateQueryHandler extends BaseQueryHandler {
                 }
             }
             return new Pair<>(emptyRecordSet(query), getUpdateCount(listener.getTotal()));
+        } else if (isBackground(query)) {
+            logger.info("UPDATE background query");
+            Operation[] operations = Arrays.stream(bins)
+                    .map(Operation::put)
+                    .toArray(Operation[]::new);
+            return new Pair<>(emptyRecordSet(query), executeBackground(query, writePolicy, operations));
         } else {
             logger.info("UPDATE scan");
-            RecordSetRecordSequenceListener listener = new RecordSetRecordSequenceListener(config.getDriverPolicy());
             ScanPolicy scanPolicy = policyBuilder.buildScanPolicy(query);
             scanPolicy.includeBinData = false;
-            client.scanAll(EventLoopProvider.getEventLoop(), listener, scanPolicy, query.getCatalog(),
-                    query.getSetName());
+            RecordSet recordSet = ScanQueryHandler.create(client, config.getDriverPolicy(), getFetchSize())
+                    .execute(scanPolicy, query);
 
             final AtomicInteger count = new AtomicInteger();
-            listener.getRecordSet().forEach(r -> {
+            recordSet.forEach(r -> {
                 try {
                     client.put(writePolicy, r.key, bins);
                     count.incrementAndGet();
@@ -66,4 +85,26 @@ public class UpdateQueryHandler extends BaseQueryHandler {
             return new Pair<>(emptyRecordSet(query), count.get());
         }
     }
+
+    @Override
+    public boolean isBatchable(AerospikeQuery query) {
+        return !query.getPrimaryKeys().isEmpty() && aerospikeVersion.isBatchOpsSupported();
+    }
+
+    /**
+     * Returns the update-only batch writes of the primary keys.
+     */
+    @Override
+    public List<BatchRecord> batchRecords(AerospikeQuery query) {
+        BatchWritePolicy batchWritePolicy = policyBuilder.buildBatchUpdateOnlyPolicy(query);
+        Operation[] operations = Arrays.stream(getBins(query))
+                .map(Operation::put)
+                .toArray(Operation[]::new);
+        List<BatchRecord> batchRecords = new ArrayList<>();
+        for (Object keyObject : query.getPrimaryKeys()) {
+            Key key = new Key(query.getCatalog(), query.getSetName(), Value.get(keyObject));
+            batchRecords.add(new BatchWrite(batchWritePolicy, key, operations));
+        }
+        return batchRecords;
+    }
 }
@@ -5,6 +5,7 @@ import com.aerospike.client.Value;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.jdbc.model.CatalogTableName;
 import com.aerospike.jdbc.model.DataColumn;
+import com.aerospike.jdbc.model.DriverConfiguration;
 import com.aerospike.jdbc.model.DriverPolicy;
 import com.aerospike.jdbc.model.Pair;
 
@@ -28,12 +29,14 @@ public final class AerospikeSchemaBuilder {
     private static final Logger logger = Logger.getLogger(AerospikeSchemaBuilder.class.getName());
 
     private final IAerospikeClient client;
+    private final DriverConfiguration config;
     private final DriverPolicy driverPolicy;
     private final AerospikeSchemaCache schemaCache;
 
-    public AerospikeSchemaBuilder(IAerospikeClient client, DriverPolicy driverPolicy) {
+    public AerospikeSchemaBuilder(IAerospikeClient client, DriverConfiguration config) {
         this.client = client;
-        this.driverPolicy = driverPolicy;
+        this.config = config;
+        this.driverPolicy = config.getDriverPolicy();
         schemaCache = new AerospikeSchemaCache(Duration.ofSeconds(driverPolicy.getMetadataCacheTtlSeconds()));
     }
 
@@ -42,7 +45,7 @@ public final class AerospikeSchemaBuilder {
             logger.info(() -> "Fetching CatalogTableName: " + catalogTableName);
             final Map<String, DataColumn> columnHandles = initColumnHandles(catalogTableName);
 
-            ScanPolicy policy = new ScanPolicy(client.getScanPolicyDefault());
+            ScanPolicy policy = new ScanPolicy(config.getScanPolicy());
             policy.maxRecords = driverPolicy.getSchemaBuilderMaxRecords();
 
             client.scanAll(policy, catalogTableName.getCatalogName(), toSet(catalogTableName.getTableName()),
@@ -0,0 +1,312 @@
+package com.aerospike.jdbc.sort;
+
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.model.OrderColumn;
+import com.aerospike.jdbc.util.SpillCodec;
+import com.aerospike.jdbc.util.SpillFile;
+import com.aerospike.jdbc.util.ValueComparator;
+import com.google.common.collect.Iterators;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.logging.Logger;
+
+import static com.aerospike.jdbc.util.AerospikeUtils.getColumnValue;
+
+/**
+ * Sorts a stream of records by the ORDER BY columns.
+ * <p>
+ * With a limit, the records are kept in a bounded heap of the top {@code limit} records, so a top-N query holds
+ * no more than {@code limit} records. Otherwise they are buffered until their estimated size exceeds the memory
+ * budget, then sorted and written to a temporary run {@link SpillFile}. The results of a spilled sort are a lazy
+ * k-way merge of the runs and the records still buffered, so the memory held is bounded by the budget plus a read
+ * buffer per run. A heap that outgrows the memory budget is spilled the same way, and a full
+ * spilled heap keeps its last record as a cutoff, so the records sorting after it are dropped instead of filling
+ * more runs. The runs are merged into one once their number reaches {@code MAX_RUNS}, which bounds the files
+ * open at a time.
+ */
+public final class RecordSorter implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(RecordSorter.class.getName());
+
+    private static final int MAX_RUNS = 64;
+    private static final int RECORD_OVERHEAD = 96;
+    private static final int BIN_OVERHEAD = 64;
+    private static final int VALUE_OVERHEAD = 16;
+
+    private final Comparator<KeyRecord> comparator;
+    private final Integer limit;
+    private final long memoryBudget;
+
+    private final List<KeyRecord> buffer;
+    private final PriorityQueue<KeyRecord> heap;
+    private long bufferSize;
+    // the last of the top records spilled, the records sorting at or after it are not returned
+    private KeyRecord cutoff;
+
+    private final List<Run> runs = new ArrayList<>();
+
+    /**
+     * @param orderBy      the ORDER BY columns.
+     * @param limit        the number of records to return, null for all.
+     * @param memoryBudget the estimated size in bytes of the records held in memory before they are spilled.
+     */
+    public RecordSorter(List<OrderColumn> orderBy, Integer limit, long memoryBudget) {
+        this.comparator = comparator(orderBy);
+        this.limit = limit;
+        this.memoryBudget = Math.max(1, memoryBudget);
+        if (limit != null) {
+            buffer = null;
+            heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, comparator.reversed());
+        } else {
+            buffer = new ArrayList<>();
+            heap = null;
+        }
+    }
+
+    public void add(KeyRecord keyRecord) {
+        if (heap != null) {
+            if (limit == 0 || (cutoff != null && comparator.compare(keyRecord, cutoff) >= 0)) {
+                return;
+            }
+            if (heap.size() == limit) {
+                if (comparator.compare(keyRecord, heap.peek()) >= 0) {
+                    return;
+                }
+                bufferSize -= estimateSize(heap.poll());
+            }
+            heap.add(keyRecord);
+        } else {
+            buffer.add(keyRecord);
+        }
+        bufferSize += estimateSize(keyRecord);
+        if (bufferSize > memoryBudget) {
+            if (runs.isEmpty()) {
+                logger.info(() -> String.format("Sort exceeded %d bytes, spilling to disk", memoryBudget));
+            }
+            spill();
+            if (runs.size() >= MAX_RUNS) {
+                mergeRuns();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the records have been spilled to disk.
+     */
+    public boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+
+    /**
+     * Returns the sorted records. The run files are deleted as they are read to the end, or on {@link #close()}.
+     */
+    public Iterator<KeyRecord> results() {
+        List<KeyRecord> sorted = drain();
+        if (runs.isEmpty()) {
+            return sorted.iterator();
+        }
+        return merge(runs, sorted.iterator());
+    }
+
+    @Override
+    public void close() {
+        for (Run run : runs) {
+            run.delete();
+        }
+    }
+
+    private static Comparator<KeyRecord> comparator(List<OrderColumn> orderBy) {
+        return (r1, r2) -> {
+            for (OrderColumn orderColumn : orderBy) {
+                int cmp = compare(orderColumn, getColumnValue(r1, orderColumn.getColumn()),
+                        getColumnValue(r2, orderColumn.getColumn()));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        };
+    }
+
+    private static int compare(OrderColumn orderColumn, Object value1, Object value2) {
+        if (value1 == null || value2 == null) {
+            if (value1 == value2) {
+                return 0;
+            }
+            return (value1 == null) == orderColumn.isNullsFirst() ? -1 : 1;
+        }
+        int cmp = ValueComparator.INSTANCE.compare(value1, value2);
+        return orderColumn.isDescending() ? -cmp : cmp;
+    }
+
+    /**
+     * Removes the records held in memory, sorted.
+     */
+    private List<KeyRecord> drain() {
+        List<KeyRecord> sorted;
+        if (heap != null) {
+            sorted = new ArrayList<>(heap);
+            heap.clear();
+        } else {
+            sorted = new ArrayList<>(buffer);
+            buffer.clear();
+        }
+        sorted.sort(comparator);
+        bufferSize = 0;
+        return sorted;
+    }
+
+    /**
+     * Returns the sorted merge of the runs and the given sorted records, limited to the top records.
+     */
+    private Iterator<KeyRecord> merge(List<Run> sortedRuns, Iterator<KeyRecord> sorted) {
+        List<Iterator<KeyRecord>> sources = new ArrayList<>(sortedRuns.size() + 1);
+        for (Run run : sortedRuns) {
+            run.finishWrite();
+            sources.add(run.iterator());
+        }
+        sources.add(sorted);
+        Iterator<KeyRecord> merged = Iterators.mergeSorted(sources, comparator);
+        return limit == null ? merged : Iterators.limit(merged, limit);
+    }
+
+    private void spill() {
+        write(drain().iterator());
+    }
+
+    /**
+     * Replaces the runs with a single run of their merged records.
+     */
+    private void mergeRuns() {
+        List<Run> merged = new ArrayList<>(runs);
+        runs.clear();
+        try {
+            write(merge(merged, Collections.emptyIterator()));
+        } finally {
+            merged.forEach(Run::delete);
+        }
+    }
+
+    /**
+     * Writes the sorted records to a new run; a run of the top records sets the cutoff.
+     */
+    private void write(Iterator<KeyRecord> sorted) {
+        Run run = new Run();
+        runs.add(run);
+        KeyRecord last = null;
+        try {
+            DataOutputStream out = run.out();
+            while (sorted.hasNext()) {
+                last = sorted.next();
+                SpillCodec.writeRecord(out, last);
+                run.records++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill the sorted records", e);
+        }
+        if (limit != null && run.records >= limit
+                && (cutoff == null || comparator.compare(last, cutoff) < 0)) {
+            cutoff = last;
+        }
+    }
+
+    /**
+     * Estimates the heap size of a record, to bound the memory held rather than the number of records.
+     */
+    private static long estimateSize(KeyRecord keyRecord) {
+        long size = RECORD_OVERHEAD;
+        Record rec = keyRecord.record;
+        if (rec != null && rec.bins != null) {
+            for (Map.Entry<String, Object> bin : rec.bins.entrySet()) {
+                size += BIN_OVERHEAD + 2L * bin.getKey().length() + estimateSize(bin.getValue());
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSize(Object value) {
+        if (value instanceof String) {
+            return VALUE_OVERHEAD + 2L * ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return VALUE_OVERHEAD + ((byte[]) value).length;
+        } else if (value instanceof Collection) {
+            long size = VALUE_OVERHEAD;
+            for (Object element : (Collection<?>) value) {
+                size += VALUE_OVERHEAD + estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Map) {
+            long size = VALUE_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += VALUE_OVERHEAD + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        return VALUE_OVERHEAD;
+    }
+
+    /**
+     * A sorted run of records in a spill file.
+     */
+    private static final class Run {
+
+        private final SpillFile file = new SpillFile("aerospike-jdbc-sort");
+        private long records;
+
+        DataOutputStream out() throws IOException {
+            return file.out();
+        }
+
+        void finishWrite() {
+            try {
+                file.finishWrite();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spill the sorted records", e);
+            }
+        }
+
+        Iterator<KeyRecord> iterator() {
+            return new Iterator<KeyRecord>() {
+                private long read;
+
+                @Override
+                public boolean hasNext() {
+                    return read < records;
+                }
+
+                @Override
+                public KeyRecord next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    try {
+                        KeyRecord keyRecord = SpillCodec.readRecord(file.in());
+                        if (++read == records) {
+                            delete();
+                        }
+                        return keyRecord;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to read the sorted records", e);
+                    }
+                }
+            };
+        }
+
+        void delete() {
+            file.delete();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.aerospike.jdbc.sql;
 
+import com.aerospike.client.Key;
 import com.aerospike.client.Record;
 import com.aerospike.client.Value;
+import com.aerospike.jdbc.async.PartitionCursor;
 import com.aerospike.jdbc.async.RecordSet;
 import com.aerospike.jdbc.model.DataColumn;
 import com.aerospike.jdbc.sql.type.BasicArray;
@@ -10,28 +12,24 @@ import com.google.common.io.BaseEncoding;
 
 import java.math.BigDecimal;
 import java.sql.Array;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import static com.aerospike.jdbc.util.Constants.METADATA_DIGEST_COLUMN_NAME;
-import static com.aerospike.jdbc.util.Constants.METADATA_GEN_COLUMN_NAME;
-import static com.aerospike.jdbc.util.Constants.METADATA_TTL_COLUMN_NAME;
-import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
 import static com.aerospike.jdbc.util.SqlLiterals.sqlTypeNames;
+import static java.lang.String.format;
 
 public class AerospikeRecordResultSet extends BaseResultSet<Record> {
 
     private static final Logger logger = Logger.getLogger(AerospikeRecordResultSet.class.getName());
 
     private final RecordSet recordSet;
-    private final Set<String> columnNames;
+    private final PartitionCursor cursor;
 
     public AerospikeRecordResultSet(
             RecordSet recordSet,
@@ -39,10 +37,40 @@ public class AerospikeRecordResultSet extends BaseResultSet<Record> {
             String catalog,
             String table,
             List<DataColumn> columns // columns list
+    ) {
+        this(recordSet, statement, catalog, table, columns, null);
+    }
+
+    public AerospikeRecordResultSet(
+            RecordSet recordSet,
+            Statement statement,
+            String catalog,
+            String table,
+            List<DataColumn> columns, // columns list
+            PartitionCursor cursor
     ) {
         super(statement, catalog, table, columns);
         this.recordSet = recordSet;
-        this.columnNames = columns.stream().map(DataColumn::getName).collect(Collectors.toSet());
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the continuation token of a scan result set. The next page of the scan is selected by the same
+     * query with a {@code __cursor = ?} predicate bound to the token, which resumes the scan after the last
+     * record of this result set instead of rescanning the previous pages.
+     *
+     * @return the cursor token, or null if there are no more records to scan.
+     * @throws SQLException if the result set is not read to the end, or the query is not a resumable scan.
+     */
+    public String getCursor() throws SQLException {
+        verifyOpen();
+        if (cursor == null) {
+            throw new SQLFeatureNotSupportedException("The query is not a resumable scan");
+        }
+        if (!isAfterLast()) {
+            throw new SQLException("The cursor is available once the result set is read to the end");
+        }
+        return cursor.getToken();
     }
 
     @Override
@@ -58,7 +86,17 @@ public class AerospikeRecordResultSet extends BaseResultSet<Record> {
     @Override
     public Object getObject(String columnLabel) {
         logger.fine(() -> "getObject: " + columnLabel);
-        Object obj = getValue(columnLabel).map(Value::getObject).orElse(null);
+        return objectValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        logger.fine(() -> "getObject: " + columnIndex);
+        return objectValue(getColumn(columnIndex));
+    }
+
+    private Object objectValue(ColumnDescriptor column) {
+        Object obj = getValueObject(column);
         wasNull = obj == null;
         return obj;
     }
@@ -66,69 +104,199 @@ public class AerospikeRecordResultSet extends BaseResultSet<Record> {
     @Override
     public String getString(String columnLabel) {
         logger.fine(() -> "getString: " + columnLabel);
-        String str = getValue(columnLabel).map(Value::toString).orElse(null);
-        wasNull = str == null;
-        return str;
+        return stringValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        logger.fine(() -> "getString: " + columnIndex);
+        return stringValue(getColumn(columnIndex));
+    }
+
+    private String stringValue(ColumnDescriptor column) {
+        Object obj = getValueObject(column);
+        wasNull = obj == null;
+        if (obj == null || obj instanceof String) {
+            return (String) obj;
+        }
+        return Value.get(obj).toString();
     }
 
     @Override
-    public boolean getBoolean(String columnLabel) {
+    public boolean getBoolean(String columnLabel) throws SQLException {
         logger.fine(() -> "getBoolean: " + columnLabel);
-        return getValue(columnLabel).map(Value::toString).map(Boolean::parseBoolean).orElse(false);
+        return booleanValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        logger.fine(() -> "getBoolean: " + columnIndex);
+        return booleanValue(getColumn(columnIndex));
+    }
+
+    private boolean booleanValue(ColumnDescriptor column) throws SQLException {
+        Object obj = getValueObject(column);
+        wasNull = obj == null;
+        if (obj == null) {
+            return false;
+        }
+        if (obj instanceof Boolean) {
+            return (Boolean) obj;
+        }
+        if (obj instanceof Long) {
+            return (Long) obj != 0;
+        }
+        if (obj instanceof String) {
+            String str = (String) obj;
+            return str.equals("1") || Boolean.parseBoolean(str);
+        }
+        return toDouble(obj, column) != 0;
     }
 
     @Override
-    public byte getByte(String columnLabel) {
+    public byte getByte(String columnLabel) throws SQLException {
         logger.fine(() -> "getByte: " + columnLabel);
-        return (byte) getInt(columnLabel);
+        return (byte) longValue(getColumn(columnLabel), Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        logger.fine(() -> "getByte: " + columnIndex);
+        return (byte) longValue(getColumn(columnIndex), Byte.MIN_VALUE, Byte.MAX_VALUE);
     }
 
     @Override
-    public short getShort(String columnLabel) {
+    public short getShort(String columnLabel) throws SQLException {
         logger.fine(() -> "getShort: " + columnLabel);
-        return (short) getInt(columnLabel);
+        return (short) longValue(getColumn(columnLabel), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        logger.fine(() -> "getShort: " + columnIndex);
+        return (short) longValue(getColumn(columnIndex), Short.MIN_VALUE, Short.MAX_VALUE);
     }
 
     @Override
-    public int getInt(String columnLabel) {
+    public int getInt(String columnLabel) throws SQLException {
         logger.fine(() -> "getInt: " + columnLabel);
-        return getValue(columnLabel).map(Value::toString).map(Integer::parseInt).orElse(0);
+        return (int) longValue(getColumn(columnLabel), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        logger.fine(() -> "getInt: " + columnIndex);
+        return (int) longValue(getColumn(columnIndex), Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
     @Override
-    public long getLong(String columnLabel) {
+    public long getLong(String columnLabel) throws SQLException {
         logger.fine(() -> "getLong: " + columnLabel);
-        return getValue(columnLabel).map(Value::toString).map(Long::parseLong).orElse(0L);
+        return longValue(getColumn(columnLabel), Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     @Override
-    public float getFloat(String columnLabel) {
+    public long getLong(int columnIndex) throws SQLException {
+        logger.fine(() -> "getLong: " + columnIndex);
+        return longValue(getColumn(columnIndex), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private long longValue(ColumnDescriptor column, long min, long max) throws SQLException {
+        long value = toLong(getValueObject(column), column);
+        if (value < min || value > max) {
+            throw new SQLDataException(format("Value %d is out of range in column %s", value, column.getName()));
+        }
+        return value;
+    }
+
+    private long toLong(Object obj, ColumnDescriptor column) throws SQLException {
+        wasNull = obj == null;
+        if (obj == null) {
+            return 0L;
+        }
+        if (obj instanceof Long) {
+            return (Long) obj;
+        }
+        if (obj instanceof Double) {
+            return (long) (double) (Double) obj;
+        }
+        if (obj instanceof Number) {
+            return ((Number) obj).longValue();
+        }
+        if (obj instanceof Boolean) {
+            return (Boolean) obj ? 1L : 0L;
+        }
+        if (obj instanceof String) {
+            try {
+                return Long.parseLong((String) obj);
+            } catch (NumberFormatException e) {
+                return (long) toDouble(obj, column);
+            }
+        }
+        throw cannotConvert(obj, "long", column);
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
         logger.fine(() -> "getFloat: " + columnLabel);
-        return (float) getDouble(columnLabel);
+        return (float) doubleValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        logger.fine(() -> "getFloat: " + columnIndex);
+        return (float) doubleValue(getColumn(columnIndex));
     }
 
     @Override
-    public double getDouble(String columnLabel) {
+    public double getDouble(String columnLabel) throws SQLException {
         logger.fine(() -> "getDouble: " + columnLabel);
-        return getValue(columnLabel).map(Value::toString).map(Double::parseDouble).orElse(0.0d);
+        return doubleValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        logger.fine(() -> "getDouble: " + columnIndex);
+        return doubleValue(getColumn(columnIndex));
+    }
+
+    private double doubleValue(ColumnDescriptor column) throws SQLException {
+        Object obj = getValueObject(column);
+        wasNull = obj == null;
+        return obj == null ? 0.0d : toDouble(obj, column);
     }
 
     @Override
-    public BigDecimal getBigDecimal(String columnLabel, int scale) {
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
         logger.fine(() -> "getBigDecimal: " + columnLabel);
         return BigDecimal.valueOf(getLong(columnLabel));
     }
 
     @Override
-    public byte[] getBytes(String columnLabel) {
+    public byte[] getBytes(String columnLabel) throws SQLException {
         logger.fine(() -> "getBytes: " + columnLabel);
-        return getValue(columnLabel).map(Value::getObject).map(byte[].class::cast).orElse(null);
+        return bytesValue(getColumn(columnLabel));
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        logger.fine(() -> "getBytes: " + columnIndex);
+        return bytesValue(getColumn(columnIndex));
+    }
+
+    private byte[] bytesValue(ColumnDescriptor column) throws SQLException {
+        Object obj = getValueObject(column);
+        wasNull = obj == null;
+        if (obj == null || obj instanceof byte[]) {
+            return (byte[]) obj;
+        }
+        throw cannotConvert(obj, "byte[]", column);
     }
 
     @Override
     public Array getArray(String columnLabel) throws SQLException {
         logger.fine(() -> "getArray: " + columnLabel);
-        Object obj = getValue(columnLabel).map(Value::getObject).orElse(null);
+        Object obj = getValueObject(getColumn(columnLabel));
         wasNull = obj == null;
 
         if (obj == null) {
@@ -188,30 +356,65 @@ public class AerospikeRecordResultSet extends BaseResultSet<Record> {
         recordSet.invalidate();
     }
 
-    private Optional<Value> getValue(String columnLabel) {
-        if (!columnNames.contains(columnLabel)) {
-            return Optional.empty();
-        }
-        switch (columnLabel) {
-            case PRIMARY_KEY_COLUMN_NAME:
-                return Optional.ofNullable(recordSet.getKey())
-                        .map(key -> key.userKey);
-            case METADATA_DIGEST_COLUMN_NAME:
-                return Optional.ofNullable(recordSet.getKey())
-                        .map(key -> BaseEncoding.base16().lowerCase().encode(key.digest))
-                        .map(Value::get);
-            case METADATA_TTL_COLUMN_NAME:
-                return Optional.ofNullable(recordSet.getRecord())
-                        .map(rec -> rec.expiration)
-                        .map(Value::get);
-            case METADATA_GEN_COLUMN_NAME:
-                return Optional.ofNullable(recordSet.getRecord())
-                        .map(rec -> rec.generation)
-                        .map(Value::get);
+    /**
+     * Returns the column value as the Java object of the bin, without wrapping it in a {@link Value},
+     * so that the typed getters convert the numeric values without allocating.
+     */
+    private Object getValueObject(ColumnDescriptor column) {
+        if (column == null) {
+            return null;
+        }
+        switch (column.getKind()) {
+            case KEY:
+                Key key = recordSet.getKey();
+                return key == null || key.userKey == null ? null : key.userKey.getObject();
+            case DIGEST:
+                return recordSet.getKey() == null ? null
+                        : BaseEncoding.base16().lowerCase().encode(recordSet.getKey().digest);
+            case TTL:
+                return recordSet.getRecord() == null ? null : (Object) recordSet.getRecord().expiration;
+            case GENERATION:
+                return recordSet.getRecord() == null ? null : (Object) recordSet.getRecord().generation;
             default: // regular bin value
-                return Optional.ofNullable(recordSet.getRecord())
-                        .map(rec -> rec.bins.get(columnLabel))
-                        .map(Value::get);
+                Record rec = recordSet.getRecord();
+                return rec == null ? null : binObject(rec.bins.get(column.getName()));
         }
     }
+
+    private static Object binObject(Object obj) {
+        if (obj instanceof Value) {
+            return ((Value) obj).getObject();
+        }
+        if (obj instanceof Boolean && !Value.UseBoolBin) {
+            // as read through Value.get
+            return (Boolean) obj ? 1L : 0L;
+        }
+        return obj;
+    }
+
+    private static double toDouble(Object obj, ColumnDescriptor column) throws SQLException {
+        if (obj instanceof Double) {
+            return (Double) obj;
+        }
+        if (obj instanceof Number) {
+            return ((Number) obj).doubleValue();
+        }
+        if (obj instanceof Boolean) {
+            return (Boolean) obj ? 1.0d : 0.0d;
+        }
+        if (obj instanceof String) {
+            try {
+                return Double.parseDouble((String) obj);
+            } catch (NumberFormatException e) {
+                throw new SQLDataException(format("Cannot convert '%s' to a number in column %s", obj,
+                        column.getName()), e);
+            }
+        }
+        throw cannotConvert(obj, "double", column);
+    }
+
+    private static SQLException cannotConvert(Object obj, String type, ColumnDescriptor column) {
+        return new SQLDataException(format("Cannot convert %s to %s in column %s",
+                obj.getClass().getSimpleName(), type, column.getName()));
+    }
 }
@@ -10,9 +10,9 @@ import java.net.URL;
 import java.sql.*;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 
@@ -22,6 +22,8 @@ public abstract class BaseResultSet<T> implements ResultSet,
     protected final String catalog;
     protected final String table;
     protected final List<DataColumn> columns;
+    private final ColumnDescriptor[] descriptors;
+    private final Map<String, ColumnDescriptor> descriptorsByName;
     private final Statement statement;
     private final ResultSetMetaData metadata;
 
@@ -36,6 +38,31 @@ public abstract class BaseResultSet<T> implements ResultSet,
         this.table = table;
         this.columns = Collections.unmodifiableList(columns);
         this.metadata = new AerospikeResultSetMetaData(catalog, table, columns);
+        this.descriptors = new ColumnDescriptor[columns.size()];
+        this.descriptorsByName = new HashMap<>();
+        for (int i = 0; i < descriptors.length; i++) {
+            descriptors[i] = new ColumnDescriptor(i + 1, columns.get(i));
+            descriptorsByName.putIfAbsent(descriptors[i].getName(), descriptors[i]);
+        }
+    }
+
+    /**
+     * Returns the column with the given label, or null if there is no such column.
+     */
+    protected ColumnDescriptor getColumn(String columnLabel) {
+        return descriptorsByName.get(columnLabel);
+    }
+
+    protected ColumnDescriptor getColumn(int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > descriptors.length) {
+            throw new SQLDataException(format("Column %d is out of range", columnIndex));
+        }
+        return descriptors[columnIndex - 1];
+    }
+
+    @Override
+    public String getColumnLabel(int columnIndex) throws SQLException {
+        return getColumn(columnIndex).getName();
     }
 
     @Override
@@ -105,11 +132,11 @@ public abstract class BaseResultSet<T> implements ResultSet,
 
     @Override
     public int findColumn(String columnLabel) throws SQLException {
-        return IntStream.range(0, columns.size())
-                .filter(i -> columnLabel.equals(columns.get(i).getName()))
-                .map(i -> i + 1)
-                .findFirst()
-                .orElseThrow(() -> new SQLException(format("Column %s does not exist", columnLabel)));
+        ColumnDescriptor column = getColumn(columnLabel);
+        if (column == null) {
+            throw new SQLException(format("Column %s does not exist", columnLabel));
+        }
+        return column.getIndex();
     }
 
     @Override
@@ -0,0 +1,69 @@
+package com.aerospike.jdbc.sql;
+
+import com.aerospike.jdbc.model.DataColumn;
+
+import static com.aerospike.jdbc.util.Constants.METADATA_DIGEST_COLUMN_NAME;
+import static com.aerospike.jdbc.util.Constants.METADATA_GEN_COLUMN_NAME;
+import static com.aerospike.jdbc.util.Constants.METADATA_TTL_COLUMN_NAME;
+import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
+
+/**
+ * A result set column resolved once per result set: its ordinal, name, SQL type and where its value is read from,
+ * so that the getters don't resolve the column on every call.
+ */
+final class ColumnDescriptor {
+
+    enum Kind {
+        BIN,
+        KEY,
+        DIGEST,
+        TTL,
+        GENERATION
+    }
+
+    private final int index;
+    private final String name;
+    private final int type;
+    private final Kind kind;
+
+    ColumnDescriptor(int index, DataColumn column) {
+        this.index = index;
+        this.name = column.getName();
+        this.type = column.getType();
+        this.kind = kindOf(name);
+    }
+
+    private static Kind kindOf(String name) {
+        switch (name) {
+            case PRIMARY_KEY_COLUMN_NAME:
+                return Kind.KEY;
+            case METADATA_DIGEST_COLUMN_NAME:
+                return Kind.DIGEST;
+            case METADATA_TTL_COLUMN_NAME:
+                return Kind.TTL;
+            case METADATA_GEN_COLUMN_NAME:
+                return Kind.GENERATION;
+            default:
+                return Kind.BIN;
+        }
+    }
+
+    /**
+     * Returns the 1-based column index.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getType() {
+        return type;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+}
@@ -0,0 +1,143 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Host;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+
+/**
+ * A reference-counted registry of Aerospike clients shared by JDBC connections.
+ * <p>
+ * Connections with the same registry key (the normalized host list plus the client policy properties)
+ * lease the same {@link IAerospikeClient}, so cluster discovery, the tend thread and the socket pools
+ * are paid for once. The client is closed when the last lease is released.
+ */
+public final class AerospikeClientRegistry {
+
+    private static final Logger logger = Logger.getLogger(AerospikeClientRegistry.class.getName());
+
+    private static final Map<String, SharedClient> clients = new ConcurrentHashMap<>();
+
+    private static volatile BiFunction<ClientPolicy, Host[], IAerospikeClient> clientFactory = AerospikeClient::new;
+
+    private AerospikeClientRegistry() {
+    }
+
+    /**
+     * Creates a new client with the configured client factory.
+     *
+     * @param clientPolicy the client policy.
+     * @param hosts        the seed hosts.
+     * @return the new client.
+     */
+    public static IAerospikeClient newClient(ClientPolicy clientPolicy, Host[] hosts) {
+        return clientFactory.apply(clientPolicy, hosts);
+    }
+
+    /**
+     * Replaces the client factory, e.g. with an in-memory client for the tests and benchmarks
+     * that run without a cluster. A null factory restores the default {@link AerospikeClient} one.
+     *
+     * @param factory the client factory.
+     */
+    @VisibleForTesting
+    static void setClientFactory(BiFunction<ClientPolicy, Host[], IAerospikeClient> factory) {
+        clientFactory = Optional.ofNullable(factory).orElse(AerospikeClient::new);
+    }
+
+    /**
+     * Leases a client for the given key, creating it with the factory if there is no live one.
+     * The client is created out of the registry lock, the concurrent leases of the key wait for it.
+     *
+     * @param key     the registry key.
+     * @param factory the client factory used when the key has no registered client.
+     * @return the shared client.
+     */
+    public static IAerospikeClient lease(String key, Supplier<IAerospikeClient> factory) {
+        SharedClient created = new SharedClient();
+        SharedClient sharedClient = clients.compute(key, (k, shared) -> {
+            if (shared == null) {
+                shared = created;
+            }
+            shared.leases++;
+            return shared;
+        });
+        if (sharedClient == created) {
+            logger.info(() -> "Create shared Aerospike client");
+            try {
+                created.client.complete(factory.get());
+            } catch (RuntimeException e) {
+                clients.remove(key, created);
+                created.client.completeExceptionally(e);
+            }
+        }
+        try {
+            IAerospikeClient client = sharedClient.client.join();
+            logger.fine(() -> format("Aerospike client leased, active leases: %d", sharedClient.leases));
+            return client;
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    /**
+     * Releases a lease for the given key, closing the client out of the registry lock when no leases are left.
+     *
+     * @param key the registry key.
+     */
+    public static void release(String key) {
+        SharedClient[] closed = new SharedClient[1];
+        clients.computeIfPresent(key, (k, shared) -> {
+            if (--shared.leases > 0) {
+                logger.fine(() -> format("Aerospike client released, active leases: %d", shared.leases));
+                return shared;
+            }
+            closed[0] = shared;
+            return null;
+        });
+        if (closed[0] != null) {
+            logger.info(() -> "Close shared Aerospike client");
+            closed[0].close();
+        }
+    }
+
+    /**
+     * Closes all the registered clients regardless of the active leases.
+     */
+    public static void closeAll() {
+        clients.keySet().forEach(key -> Optional.ofNullable(clients.remove(key)).ifPresent(SharedClient::close));
+    }
+
+    public static int size() {
+        return clients.size();
+    }
+
+    private static final class SharedClient {
+
+        private final CompletableFuture<IAerospikeClient> client = new CompletableFuture<>();
+
+        // guarded by the registry map entry
+        private int leases;
+
+        /**
+         * Closes the client once created, on the calling thread if it is already.
+         */
+        void close() {
+            client.thenAccept(IAerospikeClient::close);
+        }
+    }
+}
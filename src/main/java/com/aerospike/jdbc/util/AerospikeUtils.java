@@ -2,11 +2,17 @@ package com.aerospike.jdbc.util;
 
 import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Info;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import com.aerospike.jdbc.model.AerospikeClusterInfo;
 import com.aerospike.jdbc.model.AerospikeSecondaryIndex;
+import com.aerospike.jdbc.model.TableStatistics;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 
 import javax.annotation.Nullable;
@@ -21,6 +27,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.aerospike.jdbc.util.Constants.DEFAULT_SCHEMA_NAME;
+import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Collections.synchronizedSet;
@@ -32,11 +39,12 @@ public final class AerospikeUtils {
     private static final String NEW_LINE = System.lineSeparator();
     private static final String NOT_AVAILABLE = "NA";
 
+    private static volatile InfoRequester infoRequester = NodeInfoRequester.INSTANCE;
+
     private AerospikeUtils() {
     }
 
-    private static Map<String, String> getTableInfo(InfoPolicy infoPolicy, Node node, String ns, String set) {
-        String sets = Info.request(infoPolicy, node, "sets");
+    private static Map<String, String> getTableInfo(String sets, String ns, String set) {
         Optional<String> tableInfo = Splitter.on(";").trimResults().splitToList(sets).stream()
                 .filter(s -> s.startsWith("ns=" + ns + ":set=" + set))
                 .findFirst();
@@ -47,38 +55,72 @@ public final class AerospikeUtils {
                 .collect(Collectors.toMap(e -> e[0], e -> e[1]))).orElse(null);
     }
 
-    private static Map<String, String> getSchemaInfo(InfoPolicy infoPolicy, Node node, String ns) {
-        String schemaInfo = Info.request(infoPolicy, node, "namespace/" + ns);
-
+    private static Map<String, String> getSchemaInfo(String schemaInfo) {
         return Splitter.on(";").trimResults().splitToList(schemaInfo).stream()
                 .map(s -> s.split("=", 2))
                 .collect(Collectors.toMap(e -> e[0], e -> e[1]));
     }
 
-    public static int getRecordsNumber(IAerospikeClient client, String ns, @Nullable String set) {
-        final InfoPolicy infoPolicy = client.getInfoPolicyDefault();
-        int allRecords = Arrays.stream(client.getNodes())
-                .map(n -> Objects.isNull(set)
-                        ? getSchemaInfo(infoPolicy, n, ns)
-                        : getTableInfo(infoPolicy, n, ns, set))
+    /**
+     * Sends an info command to a random cluster node.
+     *
+     * @param client     the Aerospike client.
+     * @param infoPolicy the info policy of the connection.
+     * @param command    the info command.
+     * @return the info command response.
+     */
+    public static String requestInfo(IAerospikeClient client, InfoPolicy infoPolicy, String command) {
+        return infoRequester.request(client, infoPolicy, command).get(command);
+    }
+
+    private static Stream<Map<String, String>> requestInfoAllNodes(IAerospikeClient client, InfoPolicy infoPolicy,
+                                                                   String... commands) {
+        return infoRequester.requestAll(client, infoPolicy, commands);
+    }
+
+    /**
+     * Returns true if the client has an active cluster node, without a server round trip.
+     *
+     * @param client the Aerospike client.
+     */
+    public static boolean hasActiveNodes(IAerospikeClient client) {
+        return infoRequester.hasActiveNodes(client);
+    }
+
+    /**
+     * Replaces the way the info commands reach the cluster, e.g. for an in-memory client without cluster nodes.
+     * A null requester restores the default one sending the commands to the client nodes.
+     *
+     * @param requester the info requester.
+     */
+    @VisibleForTesting
+    static void setInfoRequester(@Nullable InfoRequester requester) {
+        infoRequester = Optional.ofNullable(requester).orElse(NodeInfoRequester.INSTANCE);
+    }
+
+    public static int getRecordsNumber(IAerospikeClient client, InfoPolicy infoPolicy, String ns,
+                                       @Nullable String set) {
+        final String schemaCommand = "namespace/" + ns;
+        int allRecords = requestInfoAllNodes(client, infoPolicy, Objects.isNull(set) ? schemaCommand : "sets")
+                .map(info -> Objects.isNull(set)
+                        ? getSchemaInfo(info.get(schemaCommand))
+                        : getTableInfo(info.get("sets"), ns, set))
                 .map(m -> Integer.parseInt(m.get("objects")))
                 .reduce(0, Integer::sum);
 
-        int replicationFactor = Integer.parseInt(getSchemaInfo(infoPolicy, client.getCluster().getRandomNode(), ns)
+        int replicationFactor = Integer.parseInt(getSchemaInfo(requestInfo(client, infoPolicy, schemaCommand))
                 .get("effective_replication_factor"));
 
         return (int) Math.floor((double) allRecords / replicationFactor);
     }
 
-    public static AerospikeClusterInfo getClusterInfo(IAerospikeClient client) {
+    public static AerospikeClusterInfo getClusterInfo(IAerospikeClient client, InfoPolicy infoPolicy) {
         final Collection<String> builds = synchronizedSet(new HashSet<>());
         final Collection<String> editions = synchronizedSet(new HashSet<>());
         final Collection<String> namespaces = synchronizedSet(new HashSet<>());
         final Map<String, Collection<String>> tables = new ConcurrentHashMap<>();
         try {
-            Arrays.stream(client.getNodes()).parallel()
-                    .map(node -> Info.request(client.getInfoPolicyDefault(), node,
-                            "namespaces", "sets", "sindex", "build", "edition"))
+            requestInfoAllNodes(client, infoPolicy, "namespaces", "sets", "sindex", "build", "edition")
                     .forEach(info -> {
                         builds.add(info.get("build"));
                         editions.add(info.get("edition"));
@@ -105,18 +147,18 @@ public final class AerospikeUtils {
 
     public static Map<String, Collection<AerospikeSecondaryIndex>> getCatalogIndexes(
             IAerospikeClient client,
+            InfoPolicy infoPolicy,
             AerospikeVersion aerospikeVersion
     ) {
-        final InfoPolicy infoPolicy = client.getInfoPolicyDefault();
         final Map<String, Collection<AerospikeSecondaryIndex>> catalogIndexes = new HashMap<>();
         try {
-            String indexInfo = Info.request(infoPolicy, client.getCluster().getRandomNode(), "sindex");
+            String indexInfo = requestInfo(client, infoPolicy, "sindex");
             streamSubProperties(indexInfo).filter(AerospikeUtils::isSupportedIndexType)
                     .forEach(index -> {
                         String namespace = index.getProperty("ns");
                         String indexName = index.getProperty("indexname");
                         Integer binRatio = aerospikeVersion.isSIndexCardinalitySupported()
-                                ? getIndexBinValuesRatio(client, namespace, indexName)
+                                ? getIndexBinValuesRatio(client, infoPolicy, namespace, indexName)
                                 : null;
                         catalogIndexes.computeIfAbsent(namespace, s -> new HashSet<>())
                                 .add(new AerospikeSecondaryIndex(
@@ -160,9 +202,10 @@ public final class AerospikeUtils {
                 || indexType.equalsIgnoreCase(IndexType.STRING.toString());
     }
 
-    public static Integer getIndexBinValuesRatio(IAerospikeClient client, String namespace, String indexName) {
+    public static Integer getIndexBinValuesRatio(IAerospikeClient client, InfoPolicy infoPolicy, String namespace,
+                                                 String indexName) {
         try {
-            String indexStatData = Info.request(client.getInfoPolicyDefault(), client.getCluster().getRandomNode(),
+            String indexStatData = requestInfo(client, infoPolicy,
                     format("sindex-stat:ns=%s;indexname=%s", namespace, indexName));
 
             return Integer.valueOf(Splitter.on(";").trimResults().splitToList(indexStatData).stream()
@@ -175,12 +218,67 @@ public final class AerospikeUtils {
         }
     }
 
-    public static boolean hasSetIndex(IAerospikeClient client, String namespace, String set) {
-        Map<String, String> tableInfo = getTableInfo(client.getInfoPolicyDefault(),
-                client.getCluster().getRandomNode(), namespace, set);
+    public static boolean hasSetIndex(IAerospikeClient client, InfoPolicy infoPolicy, String namespace, String set) {
+        Map<String, String> tableInfo = getTableInfo(requestInfo(client, infoPolicy, "sets"), namespace, set);
         return Optional.ofNullable(tableInfo)
                 .map(info -> info.get("enable-index"))
                 .map(Boolean::valueOf)
                 .orElse(false);
     }
+
+    /**
+     * Returns the record counts of a set and its namespace, and whether the set has a set index.
+     *
+     * @return the set statistics, or null if they are not available.
+     */
+    public static TableStatistics getTableStatistics(IAerospikeClient client, InfoPolicy infoPolicy, String namespace,
+                                                     String set) {
+        try {
+            return new TableStatistics(getRecordsNumber(client, infoPolicy, namespace, set),
+                    getRecordsNumber(client, infoPolicy, namespace, null),
+                    hasSetIndex(client, infoPolicy, namespace, set));
+        } catch (Exception e) {
+            logger.log(Level.WARNING, format("Failed to fetch set %s.%s statistics", namespace, set), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value of a result column of a record, the user key for the primary key column.
+     */
+    @Nullable
+    public static Object getColumnValue(KeyRecord keyRecord, String column) {
+        if (column.equals(PRIMARY_KEY_COLUMN_NAME)) {
+            Key key = keyRecord.key;
+            return key == null || key.userKey == null ? null : key.userKey.getObject();
+        }
+        Record rec = keyRecord.record;
+        Object value = rec == null || rec.bins == null ? null : rec.bins.get(column);
+        return value instanceof Value ? ((Value) value).getObject() : value;
+    }
+
+    /**
+     * Sends the info commands to the cluster nodes of the client.
+     */
+    private static final class NodeInfoRequester implements InfoRequester {
+
+        private static final NodeInfoRequester INSTANCE = new NodeInfoRequester();
+
+        @Override
+        public Map<String, String> request(IAerospikeClient client, InfoPolicy infoPolicy, String... commands) {
+            return Info.request(infoPolicy, client.getCluster().getRandomNode(), commands);
+        }
+
+        @Override
+        public Stream<Map<String, String>> requestAll(IAerospikeClient client, InfoPolicy infoPolicy,
+                                                      String... commands) {
+            return Arrays.stream(client.getNodes()).parallel()
+                    .map(node -> Info.request(infoPolicy, node, commands));
+        }
+
+        @Override
+        public boolean hasActiveNodes(IAerospikeClient client) {
+            return Arrays.stream(client.getNodes()).anyMatch(Node::isActive);
+        }
+    }
 }
@@ -1,7 +1,7 @@
 package com.aerospike.jdbc.util;
 
 import com.aerospike.client.IAerospikeClient;
-import com.aerospike.client.Info;
+import com.aerospike.jdbc.model.DriverConfiguration;
 
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -19,12 +19,14 @@ public class AerospikeVersion {
     private static final Pattern versionPattern = Pattern.compile("^(\\d.){1,3}\\d(?=.*|$)");
 
     private final IAerospikeClient client;
+    private final DriverConfiguration config;
     private volatile Boolean sIndexSupported;
     private volatile Boolean batchOpsSupported;
     private volatile Boolean sIndexCardinalitySupported;
 
-    public AerospikeVersion(IAerospikeClient client) {
+    public AerospikeVersion(IAerospikeClient client, DriverConfiguration config) {
         this.client = client;
+        this.config = config;
     }
 
     public boolean isSIndexSupported() {
@@ -70,8 +72,7 @@ public class AerospikeVersion {
     }
 
     public String getAerospikeServerVersion() {
-        String versionString = Info.request(client.getInfoPolicyDefault(),
-                client.getCluster().getRandomNode(), "version");
+        String versionString = AerospikeUtils.requestInfo(client, config.getInfoPolicy(), "version");
         return versionString.substring(versionString.lastIndexOf(' ') + 1);
     }
 
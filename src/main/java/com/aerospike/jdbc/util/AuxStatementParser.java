@@ -1,14 +1,19 @@
 package com.aerospike.jdbc.util;
 
 import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.ParsedStatement;
 import com.aerospike.jdbc.model.QueryType;
+import com.aerospike.jdbc.predicate.QueryParameter;
 
 import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,20 +53,55 @@ public final class AuxStatementParser {
      * @throws SQLException If an error occurs during parsing.
      */
     public static AerospikeQuery parse(String sql, List<Object> sqlParameters) throws SQLException {
+        // Check if sqlParameters is a batch.
+        Optional<AerospikeQuery> batchQuery = parseBatchQuery(sql, sqlParameters);
+        if (batchQuery.isPresent()) {
+            return batchQuery.get();
+        }
+        return parseStatement(sql, () -> sqlParameters != null ? sqlParameters.iterator() : null);
+    }
+
+    /**
+     * Parses an SQL query into a {@link ParsedStatement} template with parameter slots
+     * in place of the parameter values.
+     *
+     * @param sql The SQL query string to parse.
+     * @return A {@link ParsedStatement} template to bind the parameters to.
+     * @throws SQLException If an error occurs during parsing.
+     */
+    public static ParsedStatement parseTemplate(String sql) throws SQLException {
+        AtomicReference<QueryParameter.Slots> slots = new AtomicReference<>();
+        AerospikeQuery query = parseStatement(sql, () -> {
+            slots.set(new QueryParameter.Slots());
+            return slots.get();
+        });
+        return new ParsedStatement(query, slots.get() == null ? 0 : slots.get().count());
+    }
+
+    /**
+     * Checks if the SQL parameters hold the parameter sets of a batch.
+     */
+    public static boolean isBatch(List<?> sqlParameters) {
+        return sqlParameters != null && !sqlParameters.isEmpty()
+                && sqlParameters.stream().allMatch(p -> p instanceof List<?>);
+    }
+
+    private static AerospikeQuery parseStatement(String sql, Supplier<Iterator<Object>> sqlParameters)
+            throws SQLException {
         try {
-            // Check if sqlParameters is a batch.
-            Optional<AerospikeQuery> batchQuery = parseBatchQuery(sql, sqlParameters);
-            if (batchQuery.isPresent()) {
-                return batchQuery.get();
+            // Recognize the simple CRUD statements without the full parser.
+            Optional<AerospikeQuery> query = FastStatementParser.parse(sql, sqlParameters.get());
+            if (query.isPresent()) {
+                return query.get();
             }
             // Attempt to parse the SQL query directly.
-            return AerospikeQuery.parse(sql, sqlParameters);
+            return AerospikeQuery.parse(sql, sqlParameters.get());
         } catch (Exception e) {
             // Check if the query is an EXPLAIN statement.
             Matcher m = explainPattern.matcher(sql);
             if (m.find()) {
                 try {
-                    AerospikeQuery query = AerospikeQuery.parse(m.group(1), sqlParameters);
+                    AerospikeQuery query = AerospikeQuery.parse(m.group(1), sqlParameters.get());
                     query.setQueryType(QueryType.EXPLAIN);
                     return query;
                 } catch (Exception ex) {
@@ -77,11 +117,7 @@ public final class AuxStatementParser {
      * Attempts to parse a batch query from the given SQL string and parameters.
      */
     private static Optional<AerospikeQuery> parseBatchQuery(String sql, List<?> sqlParameters) throws SQLException {
-        if (sqlParameters == null || sqlParameters.isEmpty()) {
-            return Optional.empty();
-        }
-
-        if (!sqlParameters.stream().allMatch(p -> p instanceof List<?>)) {
+        if (!isBatch(sqlParameters)) {
             return Optional.empty();
         }
 
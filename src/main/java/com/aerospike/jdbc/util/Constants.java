@@ -9,6 +9,8 @@ public final class Constants {
     public static final String METADATA_TTL_COLUMN_NAME = "__ttl";
     public static final String METADATA_GEN_COLUMN_NAME = "__gen";
 
+    public static final String CURSOR_PSEUDO_COLUMN_NAME = "__cursor";
+
     public static final String UNSUPPORTED_QUERY_TYPE_MESSAGE = "Unsupported query type";
 
     // Driver version
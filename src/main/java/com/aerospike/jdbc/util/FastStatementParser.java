@@ -0,0 +1,436 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.QueryType;
+import com.aerospike.jdbc.predicate.OperatorBinary;
+import com.aerospike.jdbc.predicate.OperatorVarArgs;
+import com.aerospike.jdbc.predicate.QueryPredicate;
+import com.aerospike.jdbc.predicate.QueryPredicateBinary;
+import com.aerospike.jdbc.predicate.QueryPredicateList;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A hand-written recognizer of the simple CRUD statement shapes that make up most of the traffic:
+ * <ul>
+ *     <li>{@code SELECT columns FROM table [WHERE condition] [LIMIT n [OFFSET m]]}</li>
+ *     <li>{@code INSERT INTO table (columns) VALUES (values)[, (values)...]}</li>
+ *     <li>{@code UPDATE table SET column = value[, ...] [WHERE condition]}</li>
+ *     <li>{@code DELETE FROM table [WHERE condition]}</li>
+ * </ul>
+ * where the condition is a single {@code column = value} or {@code column IN (values)} comparison.
+ * <p>
+ * The resulting {@link AerospikeQuery} is the same as the one built by the Calcite parser.
+ * Any other statement, including the ones with quotes inside string literals, comments or expressions,
+ * is not recognized, and the caller falls back to the full parser.
+ */
+public final class FastStatementParser {
+
+    private static final Object NO_VALUE = new Object();
+
+    private final String sql;
+    private final Iterator<Object> sqlParameters;
+    private int pos;
+
+    private FastStatementParser(String sql, @Nullable Iterator<Object> sqlParameters) {
+        this.sql = sql;
+        this.sqlParameters = sqlParameters;
+    }
+
+    /**
+     * Parses a simple CRUD statement.
+     *
+     * @param sql           The SQL query string to parse.
+     * @param sqlParameters The parameters to be used in the SQL query, consumed in order of appearance.
+     * @return An {@link AerospikeQuery} object, or empty if the statement is not recognized.
+     */
+    public static Optional<AerospikeQuery> parse(String sql, @Nullable Iterator<Object> sqlParameters) {
+        FastStatementParser parser = new FastStatementParser(sql, sqlParameters);
+        AerospikeQuery query = parser.parseStatement();
+        if (query == null || !parser.atEnd()) {
+            return Optional.empty();
+        }
+        return Optional.of(query);
+    }
+
+    private AerospikeQuery parseStatement() {
+        if (keyword("select")) {
+            return parseSelect();
+        }
+        if (keyword("insert")) {
+            return parseInsert();
+        }
+        if (keyword("update")) {
+            return parseUpdate();
+        }
+        if (keyword("delete")) {
+            return parseDelete();
+        }
+        return null;
+    }
+
+    private AerospikeQuery parseSelect() {
+        List<String> columns = new ArrayList<>();
+        do {
+            String column = symbol('*') ? "*" : identifier();
+            if (column == null) {
+                return null;
+            }
+            columns.add(column);
+        } while (symbol(','));
+        if (!keyword("from")) {
+            return null;
+        }
+        AerospikeQuery query = newQuery(QueryType.SELECT);
+        if (query == null || !parseWhere(query)) {
+            return null;
+        }
+        query.setColumns(columns);
+        if (keyword("limit")) {
+            Integer limit = integer();
+            if (limit == null) {
+                return null;
+            }
+            query.setLimit(limit);
+            if (keyword("offset")) {
+                Integer offset = integer();
+                if (offset == null) {
+                    return null;
+                }
+                query.setOffset(offset);
+            }
+        }
+        return query;
+    }
+
+    private AerospikeQuery parseInsert() {
+        if (!keyword("into")) {
+            return null;
+        }
+        AerospikeQuery query = newQuery(QueryType.INSERT);
+        if (query == null || !symbol('(')) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>();
+        do {
+            String column = identifier();
+            if (column == null) {
+                return null;
+            }
+            columns.add(column);
+        } while (symbol(','));
+        if (!symbol(')') || !keyword("values")) {
+            return null;
+        }
+        List<Object> rows = new ArrayList<>();
+        do {
+            List<Object> row = valueList();
+            if (row == null) {
+                return null;
+            }
+            rows.add(row);
+        } while (symbol(','));
+        query.setColumns(columns);
+        query.setValues(rows);
+        return query;
+    }
+
+    private AerospikeQuery parseUpdate() {
+        AerospikeQuery query = newQuery(QueryType.UPDATE);
+        if (query == null || !keyword("set")) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        do {
+            String column = identifier();
+            if (column == null || !symbol('=')) {
+                return null;
+            }
+            Object value = value();
+            if (value == NO_VALUE) {
+                return null;
+            }
+            columns.add(column);
+            values.add(value);
+        } while (symbol(','));
+        if (!parseWhere(query)) {
+            return null;
+        }
+        query.setValues(values);
+        query.setColumns(columns);
+        return query;
+    }
+
+    private AerospikeQuery parseDelete() {
+        if (!keyword("from")) {
+            return null;
+        }
+        AerospikeQuery query = newQuery(QueryType.DELETE);
+        if (query == null || !parseWhere(query)) {
+            return null;
+        }
+        return query;
+    }
+
+    private AerospikeQuery newQuery(QueryType queryType) {
+        String table = qualifiedIdentifier();
+        if (table == null) {
+            return null;
+        }
+        AerospikeQuery query = new AerospikeQuery();
+        query.setQueryType(queryType);
+        try {
+            query.setTable(table);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return query;
+    }
+
+    private boolean parseWhere(AerospikeQuery query) {
+        if (!keyword("where")) {
+            return true;
+        }
+        String binName = identifier();
+        if (binName == null) {
+            return false;
+        }
+        QueryPredicate predicate;
+        if (symbol('=')) {
+            Object value = value();
+            if (value == NO_VALUE) {
+                return false;
+            }
+            predicate = new QueryPredicateBinary(binName, OperatorBinary.EQ, value);
+        } else if (keyword("in")) {
+            List<Object> values = valueList();
+            if (values == null) {
+                return false;
+            }
+            predicate = new QueryPredicateList(binName, OperatorVarArgs.IN, values.stream().distinct().toArray());
+        } else {
+            return false;
+        }
+        query.setPredicate(predicate);
+        return true;
+    }
+
+    private List<Object> valueList() {
+        if (!symbol('(')) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        do {
+            Object value = value();
+            if (value == NO_VALUE) {
+                return null;
+            }
+            values.add(value);
+        } while (symbol(','));
+        return symbol(')') ? values : null;
+    }
+
+    private Object value() {
+        skipWhitespace();
+        if (pos >= sql.length()) {
+            return NO_VALUE;
+        }
+        char c = sql.charAt(pos);
+        if (c == '?') {
+            if (sqlParameters == null || !sqlParameters.hasNext()) {
+                return NO_VALUE;
+            }
+            pos++;
+            return sqlParameters.next();
+        }
+        if (c == '\'') {
+            int end = sql.indexOf('\'', pos + 1);
+            if (end < 0) {
+                return NO_VALUE;
+            }
+            String value = sql.substring(pos + 1, end);
+            // escaped quotes and quoted content are left to the full parser
+            if ((end + 1 < sql.length() && sql.charAt(end + 1) == '\'') || value.indexOf('"') >= 0) {
+                return NO_VALUE;
+            }
+            pos = end + 1;
+            return value;
+        }
+        if (isDigit(c)) {
+            int start = pos;
+            while (pos < sql.length() && isDigit(sql.charAt(pos))) {
+                pos++;
+            }
+            if (pos < sql.length() && sql.charAt(pos) == '.') {
+                pos++;
+                if (pos >= sql.length() || !isDigit(sql.charAt(pos))) {
+                    return NO_VALUE;
+                }
+                while (pos < sql.length() && isDigit(sql.charAt(pos))) {
+                    pos++;
+                }
+            }
+            if (pos < sql.length() && isIdentifierPart(sql.charAt(pos))) {
+                return NO_VALUE;
+            }
+            return numeric(new BigDecimal(sql.substring(start, pos)));
+        }
+        if (keyword("true")) {
+            return true;
+        }
+        if (keyword("false")) {
+            return false;
+        }
+        if (keyword("null")) {
+            return null;
+        }
+        return NO_VALUE;
+    }
+
+    private Object numeric(BigDecimal bd) {
+        // the same conversion as the Calcite visitor applies to the numeric literals
+        if (bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros().scale() <= 0) {
+            return bd.longValue();
+        }
+        return bd.doubleValue();
+    }
+
+    private Integer integer() {
+        skipWhitespace();
+        int start = pos;
+        while (pos < sql.length() && isDigit(sql.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos || pos - start > 9 || (pos < sql.length() && isIdentifierPart(sql.charAt(pos)))) {
+            return null;
+        }
+        return Integer.parseInt(sql.substring(start, pos));
+    }
+
+    private String qualifiedIdentifier() {
+        String name = identifier();
+        if (name == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(name);
+        while (symbol('.')) {
+            name = identifier();
+            if (name == null) {
+                return null;
+            }
+            sb.append('.').append(name);
+        }
+        return sb.toString();
+    }
+
+    private String identifier() {
+        skipWhitespace();
+        if (pos >= sql.length()) {
+            return null;
+        }
+        char c = sql.charAt(pos);
+        if (c == '"') {
+            int end = sql.indexOf('"', pos + 1);
+            if (end <= pos + 1 || (end + 1 < sql.length() && sql.charAt(end + 1) == '"')) {
+                return null;
+            }
+            String name = sql.substring(pos + 1, end);
+            pos = end + 1;
+            return name;
+        }
+        if (!isIdentifierStart(c)) {
+            return null;
+        }
+        int start = pos;
+        while (pos < sql.length() && isIdentifierPart(sql.charAt(pos))) {
+            pos++;
+        }
+        String name = sql.substring(start, pos);
+        if (isKeyword(name)) {
+            pos = start;
+            return null;
+        }
+        return name;
+    }
+
+    private boolean keyword(String keyword) {
+        skipWhitespace();
+        int end = pos + keyword.length();
+        if (end > sql.length() || !sql.regionMatches(true, pos, keyword, 0, keyword.length())
+                || (end < sql.length() && isIdentifierPart(sql.charAt(end)))) {
+            return false;
+        }
+        pos = end;
+        return true;
+    }
+
+    private boolean symbol(char symbol) {
+        skipWhitespace();
+        if (pos < sql.length() && sql.charAt(pos) == symbol) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean atEnd() {
+        skipWhitespace();
+        return pos == sql.length();
+    }
+
+    private void skipWhitespace() {
+        while (pos < sql.length() && Character.isWhitespace(sql.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isKeyword(String name) {
+        switch (name.toLowerCase(Locale.ENGLISH)) {
+            case "select":
+            case "insert":
+            case "update":
+            case "delete":
+            case "from":
+            case "into":
+            case "values":
+            case "set":
+            case "where":
+            case "and":
+            case "or":
+            case "not":
+            case "in":
+            case "is":
+            case "like":
+            case "between":
+            case "limit":
+            case "offset":
+            case "order":
+            case "group":
+            case "true":
+            case "false":
+            case "null":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
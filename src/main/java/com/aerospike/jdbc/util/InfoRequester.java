@@ -0,0 +1,41 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.InfoPolicy;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Sends the info commands of the driver to the cluster nodes of a client, with the info policy of the
+ * connection. The tests replace it for the in-memory client, which has no cluster nodes.
+ */
+public interface InfoRequester {
+
+    /**
+     * Sends the info commands to a random cluster node.
+     *
+     * @param client     the Aerospike client.
+     * @param infoPolicy the info policy of the connection.
+     * @param commands   the info commands.
+     * @return the responses keyed by command.
+     */
+    Map<String, String> request(IAerospikeClient client, InfoPolicy infoPolicy, String... commands);
+
+    /**
+     * Sends the info commands to every cluster node.
+     *
+     * @param client     the Aerospike client.
+     * @param infoPolicy the info policy of the connection.
+     * @param commands   the info commands.
+     * @return the responses of each node keyed by command.
+     */
+    Stream<Map<String, String>> requestAll(IAerospikeClient client, InfoPolicy infoPolicy, String... commands);
+
+    /**
+     * Returns true if the client has an active cluster node to send the commands to.
+     *
+     * @param client the Aerospike client.
+     */
+    boolean hasActiveNodes(IAerospikeClient client);
+}
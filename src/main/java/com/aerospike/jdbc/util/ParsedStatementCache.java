@@ -0,0 +1,99 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.DriverPolicy;
+import com.aerospike.jdbc.model.ParsedStatement;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A per-connection cache of the {@link ParsedStatement} templates keyed by the SQL text,
+ * so a repeated statement skips the Calcite parser and only binds its parameters.
+ */
+public class ParsedStatementCache {
+
+    private final Cache<String, ParsedStatement> store;
+
+    public ParsedStatementCache(DriverPolicy driverPolicy) {
+        if (driverPolicy.getStatementCacheSize() > 0) {
+            CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                    .maximumSize(driverPolicy.getStatementCacheSize());
+            if (driverPolicy.getStatementCacheRecordStats()) {
+                builder.recordStats();
+            }
+            store = builder.build();
+        } else {
+            store = null;
+        }
+    }
+
+    /**
+     * Parses an SQL query with parameters, reusing the cached template of the statement if present.
+     *
+     * @param sql           The SQL query string to parse.
+     * @param sqlParameters A list of parameters to be used in the SQL query.
+     * @return A new {@link AerospikeQuery} object representing the parsed query.
+     * @throws SQLException If an error occurs during parsing.
+     */
+    public AerospikeQuery parse(String sql, List<Object> sqlParameters) throws SQLException {
+        if (store == null) {
+            return AuxStatementParser.parse(sql, sqlParameters);
+        }
+        ParsedStatement statement = get(sql);
+        try {
+            return statement.bind(sqlParameters);
+        } catch (IllegalStateException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * Returns the {@link ParsedStatement} template of an SQL query, parsing it on a cache miss.
+     *
+     * @param sql The SQL query string to parse.
+     * @return The {@link ParsedStatement} template.
+     * @throws SQLException If an error occurs during parsing.
+     */
+    public ParsedStatement getTemplate(String sql) throws SQLException {
+        if (store == null) {
+            return AuxStatementParser.parseTemplate(sql);
+        }
+        return get(sql);
+    }
+
+    /**
+     * Returns the cache statistics, all zeros unless recording is enabled
+     * with the {@code statementCacheRecordStats} property.
+     */
+    public CacheStats stats() {
+        return store == null ? new CacheStats(0, 0, 0, 0, 0, 0) : store.stats();
+    }
+
+    public long size() {
+        return store == null ? 0 : store.size();
+    }
+
+    public void invalidateAll() {
+        if (store != null) {
+            store.invalidateAll();
+        }
+    }
+
+    private ParsedStatement get(String sql) throws SQLException {
+        try {
+            return store.get(sql, () -> AuxStatementParser.parseTemplate(sql));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+}
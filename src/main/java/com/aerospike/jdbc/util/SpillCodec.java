@@ -0,0 +1,157 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.query.KeyRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the bin values and records to the spill files of the client-side query operators and reads them back.
+ * <p>
+ * The scalar values are written in a compact tagged form; the others, such as lists and maps,
+ * with Java serialization.
+ */
+public final class SpillCodec {
+
+    private static final int NULL = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int STRING = 3;
+    private static final int BYTES = 4;
+    private static final int BOOLEAN = 5;
+    private static final int OBJECT = 6;
+
+    private SpillCodec() {
+    }
+
+    public static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            out.writeByte(LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                objectOut.writeObject(value);
+            }
+            out.writeByte(OBJECT);
+            writeBytes(out, bytes.toByteArray());
+        }
+    }
+
+    public static Object readValue(DataInput in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case OBJECT:
+                try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return objectIn.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            default:
+                throw new InvalidObjectException("Unknown spilled value tag " + tag);
+        }
+    }
+
+    /**
+     * Writes a record with its key, the key digest is kept so that the key is not hashed again when read.
+     */
+    public static void writeRecord(DataOutput out, KeyRecord keyRecord) throws IOException {
+        Key key = keyRecord.key;
+        out.writeBoolean(key != null);
+        if (key != null) {
+            writeValue(out, key.namespace);
+            writeValue(out, key.setName);
+            writeBytes(out, key.digest);
+            writeValue(out, key.userKey == null ? null : key.userKey.getObject());
+        }
+        Record rec = keyRecord.record;
+        out.writeBoolean(rec != null);
+        if (rec != null) {
+            out.writeInt(rec.generation);
+            out.writeInt(rec.expiration);
+            out.writeInt(rec.bins == null ? -1 : rec.bins.size());
+            if (rec.bins != null) {
+                for (Map.Entry<String, Object> bin : rec.bins.entrySet()) {
+                    writeValue(out, bin.getKey());
+                    writeValue(out, bin.getValue());
+                }
+            }
+        }
+    }
+
+    public static KeyRecord readRecord(DataInput in) throws IOException {
+        Key key = null;
+        if (in.readBoolean()) {
+            String namespace = (String) readValue(in);
+            String setName = (String) readValue(in);
+            byte[] digest = readBytes(in);
+            Object userKey = readValue(in);
+            key = new Key(namespace, digest, setName, userKey == null ? null : Value.get(userKey));
+        }
+        Record rec = null;
+        if (in.readBoolean()) {
+            int generation = in.readInt();
+            int expiration = in.readInt();
+            int size = in.readInt();
+            Map<String, Object> bins = null;
+            if (size >= 0) {
+                bins = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    bins.put((String) readValue(in), readValue(in));
+                }
+            }
+            rec = new Record(bins, generation, expiration);
+        }
+        return new KeyRecord(key, rec);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,111 @@
+package com.aerospike.jdbc.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * A temporary spill file of a client-side query operator, written with {@link SpillCodec} and read back once.
+ * <p>
+ * The file is created on the first write and accessed through a {@link FileChannel} with a buffered stream.
+ * It is deleted by {@link #delete()}, which never fails: the streams are closed quietly and a file that can't be
+ * deleted is logged.
+ */
+public final class SpillFile implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(SpillFile.class.getName());
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String prefix;
+    private Path file;
+    private DataOutputStream out;
+    private DataInputStream in;
+
+    /**
+     * @param prefix the temporary file name prefix.
+     */
+    public SpillFile(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Returns the output stream, creating the file on the first call.
+     */
+    public DataOutputStream out() throws IOException {
+        if (out == null) {
+            file = Files.createTempFile(prefix, ".spill");
+            out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(
+                    FileChannel.open(file, StandardOpenOption.WRITE)), BUFFER_SIZE));
+        }
+        return out;
+    }
+
+    /**
+     * Flushes and closes the output stream, if any.
+     */
+    public void finishWrite() throws IOException {
+        if (out != null) {
+            DataOutputStream stream = out;
+            out = null;
+            stream.close();
+        }
+    }
+
+    /**
+     * Returns the input stream, opened after the writes finish on the first call.
+     */
+    public DataInputStream in() throws IOException {
+        if (in == null) {
+            finishWrite();
+            if (file == null) {
+                throw new IOException("Nothing was written to the spill file");
+            }
+            in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(
+                    FileChannel.open(file, StandardOpenOption.READ)), BUFFER_SIZE));
+        }
+        return in;
+    }
+
+    /**
+     * Closes the streams and deletes the file.
+     */
+    public void delete() {
+        try {
+            finishWrite();
+        } catch (IOException e) {
+            logger.fine(e::getMessage);
+        }
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                logger.fine(e::getMessage);
+            }
+            in = null;
+        }
+        if (file != null) {
+            Path deleted = file;
+            file = null;
+            try {
+                Files.deleteIfExists(deleted);
+            } catch (IOException e) {
+                logger.warning(() -> "Failed to delete the spill file " + deleted);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        delete();
+    }
+}
@@ -0,0 +1,85 @@
+package com.aerospike.jdbc.util;
+
+import java.util.Comparator;
+
+/**
+ * Orders the bin values of a schemaless set, where a column may hold values of different types.
+ * <p>
+ * The nulls come first, then the numbers by their numeric value, the booleans, the strings, the byte arrays
+ * in unsigned lexicographic order, and the other values, such as lists and maps, by their string representation.
+ */
+public final class ValueComparator implements Comparator<Object> {
+
+    public static final ValueComparator INSTANCE = new ValueComparator();
+
+    private static final int NULL = 0;
+    private static final int NUMBER = 1;
+    private static final int BOOLEAN = 2;
+    private static final int STRING = 3;
+    private static final int BYTES = 4;
+    private static final int OTHER = 5;
+
+    private ValueComparator() {
+    }
+
+    @Override
+    public int compare(Object o1, Object o2) {
+        if (o1 == o2) {
+            return 0;
+        }
+        int rank1 = rank(o1);
+        int rank2 = rank(o2);
+        if (rank1 != rank2) {
+            return Integer.compare(rank1, rank2);
+        }
+        switch (rank1) {
+            case NUMBER:
+                return compareNumbers((Number) o1, (Number) o2);
+            case BOOLEAN:
+                return Boolean.compare((Boolean) o1, (Boolean) o2);
+            case STRING:
+                return ((String) o1).compareTo((String) o2);
+            case BYTES:
+                return compareBytes((byte[]) o1, (byte[]) o2);
+            default:
+                return o1.toString().compareTo(o2.toString());
+        }
+    }
+
+    private static int rank(Object value) {
+        if (value == null) {
+            return NULL;
+        } else if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof byte[]) {
+            return BYTES;
+        }
+        return OTHER;
+    }
+
+    private static int compareNumbers(Number n1, Number n2) {
+        if (isIntegral(n1) && isIntegral(n2)) {
+            return Long.compare(n1.longValue(), n2.longValue());
+        }
+        return Double.compare(n1.doubleValue(), n2.doubleValue());
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+    }
+
+    private static int compareBytes(byte[] b1, byte[] b2) {
+        int length = Math.min(b1.length, b2.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(b1[i] & 0xff, b2[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(b1.length, b2.length);
+    }
+}
@@ -0,0 +1,68 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Runs the {@code UPDATE} and {@code DELETE} statements without primary keys as background queries.
+ */
+public class BackgroundWriteTest extends InMemoryBaseTest {
+
+    @Test
+    public void testBackgroundWrites() throws SQLException {
+        Connection backgroundConnection = connect("sendKey=true&refuseScan=false&backgroundWrites=true");
+        Statement statement = null;
+        try {
+            statement = backgroundConnection.createStatement();
+            assertEquals(statement.executeUpdate(format("UPDATE %s SET name = 'many' WHERE id >= 2", TABLE_NAME)),
+                    Statement.SUCCESS_NO_INFO);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE name = 'many'", TABLE_NAME)), keys("k2", "k3"));
+
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE id = 3", TABLE_NAME)),
+                        Statement.SUCCESS_NO_INFO);
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+            assertEquals(selectKeys(format("SELECT __key FROM %s", TABLE_NAME)), keys("k1", "k2"));
+        } finally {
+            closeQuietly(statement);
+            backgroundConnection.close();
+        }
+    }
+
+    @Test
+    public void testBackgroundWritesRefuseScan() throws SQLException {
+        Connection backgroundConnection = connect("sendKey=true&backgroundWrites=true");
+        Statement statement = null;
+        try {
+            statement = backgroundConnection.createStatement();
+            statement.setQueryTimeout(5);
+            Statement scanStatement = statement;
+            assertThrows(SQLException.class, () -> scanStatement.executeUpdate(
+                    format("UPDATE %s SET name = 'many' WHERE id >= 2", TABLE_NAME)));
+
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE id = 3", TABLE_NAME)),
+                        Statement.SUCCESS_NO_INFO);
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+            assertEquals(selectKeys(format("SELECT __key FROM %s", TABLE_NAME)), keys("k1", "k2"));
+        } finally {
+            closeQuietly(statement);
+            backgroundConnection.close();
+        }
+    }
+}
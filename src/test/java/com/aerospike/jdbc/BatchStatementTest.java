@@ -0,0 +1,118 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Runs the chunked batch writes and the JDBC statement batches.
+ */
+public class BatchStatementTest extends InMemoryBaseTest {
+
+    @Test
+    public void testUpdateBatch() throws SQLException {
+        Connection batchConnection = connect("sendKey=true&refuseScan=false&batchChunkSize=2");
+        Statement statement = null;
+        try {
+            statement = batchConnection.createStatement();
+            assertEquals(statement.executeUpdate(format("UPDATE %s SET name = 'uno' "
+                    + "WHERE __key IN ('k1', 'k2', 'k3', 'k9')", TABLE_NAME)), 3);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE name = 'uno'", TABLE_NAME)),
+                    keys("k1", "k2", "k3"));
+            assertEquals(store.size(NAMESPACE, TABLE_NAME), 3);
+
+            assertEquals(statement.executeUpdate(format("UPDATE %s SET score = 0.5 "
+                    + "WHERE __key IN ('k1', 'k2', 'k3') AND id > 1", TABLE_NAME)), 2);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE score = 0.5", TABLE_NAME)), keys("k2", "k3"));
+        } finally {
+            closeQuietly(statement);
+            batchConnection.close();
+        }
+    }
+
+    @Test
+    public void testDeleteBatch() throws SQLException {
+        Connection batchConnection = connect("sendKey=true&refuseScan=false&batchChunkSize=2");
+        Statement statement = null;
+        try {
+            statement = batchConnection.createStatement();
+            assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE __key IN ('k1', 'k3', 'k9')",
+                    TABLE_NAME)), 2);
+            assertEquals(selectKeys(format("SELECT __key FROM %s", TABLE_NAME)), keys("k2"));
+
+            assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE __key IN ('k2') AND id = 5",
+                    TABLE_NAME)), 0);
+            assertEquals(store.size(NAMESPACE, TABLE_NAME), 1);
+        } finally {
+            closeQuietly(statement);
+            batchConnection.close();
+        }
+    }
+
+    @Test
+    public void testInsertBatch() throws SQLException {
+        Connection batchConnection = connect("sendKey=true&refuseScan=false&batchChunkSize=2"
+                + "&batchChunksInFlight=1");
+        PreparedStatement statement = null;
+        try {
+            statement = batchConnection.prepareStatement(format("INSERT INTO %s (__key, id) VALUES (?, ?)",
+                    TABLE_NAME));
+            for (String key : Arrays.asList("k4", "k5", "k1", "k6", "k7")) {
+                statement.setString(1, key);
+                statement.setInt(2, Integer.parseInt(key.substring(1)));
+                statement.addBatch();
+            }
+            assertEquals(statement.executeBatch(), new int[]{1, 1, 0, 1, 1});
+            assertEquals(store.size(NAMESPACE, TABLE_NAME), 7);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id = 1", TABLE_NAME)), keys("k1"));
+        } finally {
+            closeQuietly(statement);
+            batchConnection.close();
+        }
+    }
+
+    @Test
+    public void testUpdateAndDeleteBatch() throws SQLException {
+        PreparedStatement preparedStatement = null;
+        Statement statement = null;
+        try {
+            preparedStatement = connection.prepareStatement(format("UPDATE %s SET score = ? WHERE __key = ?",
+                    TABLE_NAME));
+            for (String key : Arrays.asList("k1", "k2", "k9")) {
+                preparedStatement.setDouble(1, 0.5);
+                preparedStatement.setString(2, key);
+                preparedStatement.addBatch();
+            }
+            assertEquals(preparedStatement.executeBatch(), new int[]{1, 1, 0});
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE score = 0.5", TABLE_NAME)), keys("k1", "k2"));
+
+            statement = connection.createStatement();
+            statement.addBatch(format("INSERT INTO %s (__key, id, name) VALUES ('k4', 4, 'four')", TABLE_NAME));
+            statement.addBatch(format("UPDATE %s SET name = 'quatre' WHERE __key = 'k4'", TABLE_NAME));
+            statement.addBatch(format("DELETE FROM %s WHERE __key IN ('k1', 'k2')", TABLE_NAME));
+            statement.addBatch(format("UPDATE %s SET name = 'trois' WHERE id = 3", TABLE_NAME));
+            assertEquals(statement.executeBatch(), new int[]{1, 1, 2, 1});
+            assertEquals(selectColumn(format("SELECT name FROM %s ORDER BY id", TABLE_NAME)),
+                    Arrays.asList("trois", "quatre"));
+
+            final Statement selectStatement = statement;
+            assertThrows(SQLException.class, () -> selectStatement.addBatch(format("SELECT * FROM %s",
+                    TABLE_NAME)));
+            assertEquals(statement.executeBatch(), new int[0]);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(preparedStatement);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.jdbc.memory.InMemoryAerospikeClient;
+import com.aerospike.jdbc.util.AerospikeClientRegistry;
+import org.testng.annotations.Test;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class ClientRegistryTest {
+
+    private final InMemoryAerospikeClient store = new InMemoryAerospikeClient(NAMESPACE);
+
+    @Test
+    public void testLeaseAndRelease() {
+        String key = "registry-test-shared";
+        int size = AerospikeClientRegistry.size();
+        IAerospikeClient client = AerospikeClientRegistry.lease(key, () -> store.connect(new ClientPolicy()));
+        assertSame(AerospikeClientRegistry.lease(key, () -> {
+            throw new IllegalStateException("a live client is not created again");
+        }), client);
+        assertEquals(AerospikeClientRegistry.size(), size + 1);
+
+        AerospikeClientRegistry.release(key);
+        assertTrue(client.isConnected());
+        AerospikeClientRegistry.release(key);
+        assertFalse(client.isConnected());
+        assertEquals(AerospikeClientRegistry.size(), size);
+    }
+
+    @Test
+    public void testFailedClientCreation() {
+        String key = "registry-test-failed";
+        int size = AerospikeClientRegistry.size();
+        assertThrows(AerospikeException.class, () -> AerospikeClientRegistry.lease(key, () -> {
+            throw new AerospikeException("seed nodes unreachable");
+        }));
+        assertEquals(AerospikeClientRegistry.size(), size);
+
+        IAerospikeClient client = AerospikeClientRegistry.lease(key, () -> store.connect(new ClientPolicy()));
+        assertTrue(client.isConnected());
+        AerospikeClientRegistry.release(key);
+        assertFalse(client.isConnected());
+    }
+}
@@ -0,0 +1,61 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the {@code count(*)} queries, by the set statistics and by a count-only query.
+ */
+public class CountQueryTest extends InMemoryBaseTest {
+
+    @Test
+    public void testCount() throws SQLException {
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            resultSet = statement.executeQuery(format("SELECT count(*) FROM %s", TABLE_NAME));
+            assertTrue(resultSet.next());
+            assertEquals(resultSet.getInt(1), 3);
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testCountWithPredicate() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            for (int i = 4; i <= 100; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k%d', %d)",
+                        TABLE_NAME, i, i % 10));
+            }
+            assertEquals(selectColumn(format("SELECT count(*) FROM %s WHERE id > 4", TABLE_NAME)),
+                    Collections.singletonList("50"));
+            assertEquals(selectColumn(format("SELECT count(*) FROM %s WHERE __key IN ('k1', 'k5', 'kx')",
+                    TABLE_NAME)), Collections.singletonList("2"));
+
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(selectColumn(format("SELECT count(*) FROM %s WHERE id = 3", TABLE_NAME)),
+                        Collections.singletonList("10"));
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+    }
+}
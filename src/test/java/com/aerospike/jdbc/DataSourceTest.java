@@ -0,0 +1,112 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.sql.PooledConnection;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+import static com.aerospike.jdbc.util.TestConfig.HOSTNAME;
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.PORT;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class DataSourceTest {
+
+    private static final Logger logger = Logger.getLogger(DataSourceTest.class.getName());
+    private static final String URL = String.format("jdbc:aerospike:%s:%d/%s", HOSTNAME, PORT, NAMESPACE);
+
+    private static AerospikeDataSource dataSource;
+
+    @BeforeClass
+    public static void dataSourceInit() {
+        logger.info("dataSourceInit");
+        dataSource = new AerospikeDataSource();
+        dataSource.setURL(URL);
+        dataSource.setMaxIdleConnections(1);
+    }
+
+    @AfterClass
+    public static void dataSourceClose() {
+        logger.info("dataSourceClose");
+        dataSource.close();
+    }
+
+    @Test
+    public void testConnectionReuse() throws SQLException {
+        Connection connection1 = dataSource.getConnection();
+        AerospikeConnection physical1 = AerospikePooledConnection.getPhysicalConnection(connection1);
+        assertTrue(connection1.isValid(0));
+        connection1.setCatalog("other");
+        connection1.setAutoCommit(false);
+        connection1.close();
+        assertTrue(connection1.isClosed());
+        assertFalse(physical1.isClosed());
+        assertEquals(dataSource.getIdleConnections(), 1);
+        expectThrows(SQLException.class, connection1::createStatement);
+
+        Connection connection2 = dataSource.getConnection();
+        assertSame(AerospikePooledConnection.getPhysicalConnection(connection2), physical1);
+        assertEquals(connection2.getCatalog(), NAMESPACE);
+        assertTrue(connection2.getAutoCommit());
+        assertEquals(dataSource.getIdleConnections(), 0);
+
+        Connection connection3 = dataSource.getConnection();
+        AerospikeConnection physical3 = AerospikePooledConnection.getPhysicalConnection(connection3);
+        connection2.close();
+        connection3.close();
+        assertTrue(physical3.isClosed());
+        assertEquals(dataSource.getIdleConnections(), 1);
+    }
+
+    @Test
+    public void testPooledStatements() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        AerospikeConnection physical = AerospikePooledConnection.getPhysicalConnection(connection);
+        Statement statement1 = connection.createStatement();
+        Statement statement2 = connection.prepareStatement("SELECT * FROM jdbc");
+        assertSame(statement1.getConnection(), connection);
+        assertSame(statement2.getConnection(), connection);
+
+        ResultSet resultSet = statement1.executeQuery("SELECT * FROM jdbc LIMIT 1");
+        assertSame(resultSet.getStatement(), statement1);
+        assertSame(resultSet.getStatement().getConnection(), connection);
+        assertSame(connection.getMetaData().getConnection(), connection);
+        assertSame(connection.unwrap(Connection.class), connection);
+        assertFalse(connection.isWrapperFor(AerospikeConnection.class));
+        expectThrows(SQLException.class, () -> connection.unwrap(AerospikeConnection.class));
+        expectThrows(SQLException.class, () -> statement1.unwrap(AerospikeStatement.class));
+
+        statement1.close();
+        assertTrue(statement1.isClosed());
+        connection.close();
+        assertTrue(statement2.isClosed());
+        assertFalse(connection.isValid(0));
+        assertFalse(physical.isClosed());
+    }
+
+    @Test
+    public void testPooledConnection() throws SQLException {
+        AerospikeConnectionPoolDataSource poolDataSource = new AerospikeConnectionPoolDataSource();
+        poolDataSource.setURL(URL);
+        PooledConnection pooledConnection = poolDataSource.getPooledConnection();
+
+        Connection connection1 = pooledConnection.getConnection();
+        Connection connection2 = pooledConnection.getConnection();
+        assertTrue(connection1.isClosed());
+        assertFalse(connection2.isClosed());
+
+        pooledConnection.close();
+        assertTrue(connection2.isClosed());
+        expectThrows(SQLException.class, pooledConnection::getConnection);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.util.FastStatementParser;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class FastStatementParserTest {
+
+    private static final String[] recognizedQueries = {
+            "select * from \"test.nyc-data\" where __key = 112279922",
+            "SELECT pkup_datetime, vendor_id FROM \"test.nyc-data\" WHERE __key = 'k1'",
+            "select __key, trip_distance from test.\"nyc-data\" where __key in (1234, 1235, 1234)",
+            "select * from \"test.nyc-data\" limit 10 offset 5",
+            "select  \"cab_type\"\tfrom nyc  where id = 5.0",
+            "select * from \"test.nyc-data\" where archived = false limit 1",
+            "insert into \"test.nyc-data\" (__key, id, cab_type, trip_distance, archived) "
+                    + "values ('k1', 112279922, 'green', 2.75, false), ('k2', 112279923, '', 5.0, null)",
+            "update \"test.nyc-data\" set archived=true, trip_distance = 1.5 where __key='k1'",
+            "update nyc set archived = true",
+            "delete from \"test.nyc-data\" where __key in ('k1', 'k2')",
+            "delete from \"test.nyc-data\"",
+    };
+
+    private static final String[] recognizedPreparedQueries = {
+            "select * from \"test.nyc-data\" where __key = ?",
+            "select * from \"test.nyc-data\" where __key in (?, ?, ?)",
+            "insert into \"test.nyc-data\" (__key, id, cab_type) values (?, ?, ?)",
+            "update \"test.nyc-data\" set cab_type = ?, id = ? where __key = ?",
+            "delete from \"test.nyc-data\" where __key = ?",
+    };
+
+    private static final String[] fallbackQueries = {
+            "select count(*) from \"test.nyc-data\"",
+            "select * from \"test.nyc-data\" where id = 1 and cab_type = 'green'",
+            "select * from \"test.nyc-data\" where id > 1",
+            "select * from \"test.nyc-data\" where id = -1",
+            "select * from \"test.nyc-data\" where cab_type = 'it''s'",
+            "select * from \"test.nyc-data\" where cab_type like 'gr%'",
+            "select * from \"test.nyc-data\" order by id",
+            "select * from \"test.nyc-data\" limit ?",
+            "select * from \"test.nyc-data\";",
+            "insert into \"test.nyc-data\" values (1, 2)",
+            "insert into \"test.nyc-data\" (id, cab_type) values (1, \"yellow\")",
+            "delete from \"test.nyc-data\" where __key = 1 -- comment",
+            "truncate table \"test.nyc-data\"",
+            "explain select * from \"test.nyc-data\" where __key = 1",
+    };
+
+    @Test
+    public void testRecognizedQueries() throws SqlParseException {
+        for (String sql : recognizedQueries) {
+            assertEquivalent(sql, null);
+        }
+    }
+
+    @Test
+    public void testRecognizedPreparedQueries() throws SqlParseException {
+        List<Object> sqlParameters = Arrays.asList("k1", 112279922L, "green");
+        for (String sql : recognizedPreparedQueries) {
+            assertEquivalent(sql, sqlParameters);
+        }
+    }
+
+    @Test
+    public void testFallbackQueries() {
+        for (String sql : fallbackQueries) {
+            assertFalse(FastStatementParser.parse(sql, null).isPresent(), sql);
+        }
+        // not enough parameters
+        assertFalse(FastStatementParser.parse("select * from t where __key in (?, ?)",
+                Collections.singletonList((Object) 1).iterator()).isPresent());
+    }
+
+    @Test
+    public void testNumericValues() {
+        AerospikeQuery query = FastStatementParser.parse(
+                "insert into t (a, b, c, d) values (1, 5.0, 2.75, 0.0)", null).orElseThrow(AssertionError::new);
+        assertEquals(query.getValues(), Collections.singletonList(Arrays.asList(1L, 5L, 2.75, 0L)));
+        assertNull(query.getCatalog());
+        assertEquals(query.getTable(), "t");
+    }
+
+    private void assertEquivalent(String sql, List<Object> sqlParameters) throws SqlParseException {
+        Optional<AerospikeQuery> fastQuery = FastStatementParser.parse(sql,
+                sqlParameters != null ? sqlParameters.iterator() : null);
+        assertTrue(fastQuery.isPresent(), sql);
+
+        AerospikeQuery actual = fastQuery.get();
+        AerospikeQuery expected = AerospikeQuery.parse(sql, sqlParameters);
+        assertEquals(actual.getQueryType(), expected.getQueryType(), sql);
+        assertEquals(actual.getCatalog(), expected.getCatalog(), sql);
+        assertEquals(actual.getTable(), expected.getTable(), sql);
+        assertEquals(actual.getColumns(), expected.getColumns(), sql);
+        assertEquals(actual.getValues(), expected.getValues(), sql);
+        assertEquals(actual.getLimit(), expected.getLimit(), sql);
+        assertEquals(actual.getOffset(), expected.getOffset(), sql);
+        if (expected.getPredicate() == null) {
+            assertNull(actual.getPredicate(), sql);
+        } else {
+            assertEquals(actual.getPredicate().getClass(), expected.getPredicate().getClass(), sql);
+            assertEquals(new HashSet<>(actual.getPrimaryKeys()), new HashSet<>(expected.getPrimaryKeys()), sql);
+            assertEquals(actual.getPredicate().getBinNames(), expected.getPredicate().getBinNames(), sql);
+            assertEquals(actual.getPredicate().isIndexable(), expected.getPredicate().isIndexable(), sql);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the client-side aggregations, in memory and spilled to disk.
+ */
+public class GroupByTest extends InMemoryBaseTest {
+
+    @Test
+    public void testGroupBy() throws SQLException {
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            statement.executeUpdate(format("INSERT INTO %s (__key, id, name, score) VALUES ('k4', 4, 'two', 4.5), "
+                    + "('k5', 5, 'two', 5.5)", TABLE_NAME));
+            resultSet = statement.executeQuery(format("SELECT name, count(*) AS cnt, sum(id), avg(score), "
+                    + "min(id), max(score) FROM %s GROUP BY name", TABLE_NAME));
+            Map<String, Object[]> groups = new HashMap<>();
+            while (resultSet.next()) {
+                groups.put(resultSet.getString("name"), new Object[]{resultSet.getLong("cnt"),
+                        resultSet.getLong(3), resultSet.getDouble(4), resultSet.getInt(5), resultSet.getDouble(6)});
+            }
+            assertEquals(groups.size(), 3);
+            assertEquals(groups.get("one"), new Object[]{1L, 1L, 1.5, 1, 1.5});
+            assertEquals(groups.get("two"), new Object[]{3L, 11L, 4.0, 2, 5.5});
+            assertEquals(groups.get("three"), new Object[]{1L, 3L, 3.5, 3, 3.5});
+            closeQuietly(resultSet);
+
+            resultSet = statement.executeQuery(format("SELECT sum(id), max(name) FROM %s WHERE id > 1",
+                    TABLE_NAME));
+            assertTrue(resultSet.next());
+            assertEquals(resultSet.getLong(1), 14L);
+            assertEquals(resultSet.getString(2), "two");
+            assertFalse(resultSet.next());
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testGroupBySpill() throws SQLException {
+        Connection spillConnection = connect("sendKey=true&refuseScan=false&aggregationMaxGroups=4");
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = spillConnection.createStatement();
+            for (int i = 4; i <= 100; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k%d', %d)",
+                        TABLE_NAME, i, i % 50));
+            }
+            resultSet = statement.executeQuery(format("SELECT id, count(*) FROM %s GROUP BY id", TABLE_NAME));
+            Map<Integer, Long> counts = new HashMap<>();
+            while (resultSet.next()) {
+                assertNull(counts.put(resultSet.getInt(1), resultSet.getLong(2)));
+            }
+            assertEquals(counts.size(), 50);
+            assertEquals(counts.values().stream().mapToLong(Long::longValue).sum(), 100L);
+            closeQuietly(resultSet);
+
+            resultSet = statement.executeQuery(format("SELECT id, count(*) FROM %s GROUP BY id LIMIT 5",
+                    TABLE_NAME));
+            int count = 0;
+            while (resultSet.next()) {
+                count++;
+            }
+            assertEquals(count, 5);
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            spillConnection.close();
+        }
+    }
+}
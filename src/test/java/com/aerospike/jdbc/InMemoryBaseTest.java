@@ -0,0 +1,136 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.jdbc.memory.InMemoryAerospikeClient;
+import com.aerospike.jdbc.util.InMemoryRouting;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the driver end to end against the {@link InMemoryAerospikeClient}, no Aerospike server required.
+ * Every test starts with the records k1, k2 and k3 in the test set.
+ */
+public abstract class InMemoryBaseTest {
+
+    private static final Logger logger = Logger.getLogger(InMemoryBaseTest.class.getName());
+
+    protected static final InMemoryAerospikeClient store = new InMemoryAerospikeClient(NAMESPACE);
+    protected static Connection connection;
+
+    @BeforeClass
+    public static void connectionInit() throws Exception {
+        logger.info("connectionInit");
+        InMemoryRouting.route(store);
+        Class.forName("com.aerospike.jdbc.AerospikeDriver").newInstance();
+        connection = connect("sendKey=true&refuseScan=false&statisticsCacheTtlSeconds=0");
+    }
+
+    @AfterClass
+    public static void connectionClose() throws SQLException {
+        logger.info("connectionClose");
+        connection.close();
+        InMemoryRouting.reset();
+    }
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            int count = statement.executeUpdate(format(
+                    "INSERT INTO %s (__key, id, name, score) VALUES ('k1', 1, 'one', 1.5), ('k2', 2, 'two', 2.5), "
+                            + "('k3', 3, 'three', 3.5)", TABLE_NAME));
+            assertEquals(count, 3);
+        } finally {
+            closeQuietly(statement);
+        }
+        assertEquals(store.size(NAMESPACE, TABLE_NAME), 3);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        store.setLatency(0, TimeUnit.MILLISECONDS);
+        store.clear();
+    }
+
+    /**
+     * Opens a connection to the in-memory store with the given URL parameters.
+     */
+    protected static Connection connect(String params) throws SQLException {
+        return DriverManager.getConnection(format("jdbc:aerospike:in-memory:3000/%s?%s", NAMESPACE, params));
+    }
+
+    protected List<String> selectColumn(String query) throws SQLException {
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            resultSet = statement.executeQuery(query);
+            List<String> values = new ArrayList<>();
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+            return values;
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    protected List<String> explain(String query) throws SQLException {
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            resultSet = statement.executeQuery("EXPLAIN " + query);
+            assertTrue(resultSet.next());
+            return Arrays.asList(resultSet.getString("COMMAND_TYPE"), resultSet.getString("COUNT"),
+                    resultSet.getString("COST"));
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    protected Set<String> selectKeys(String query) throws SQLException {
+        Set<String> keys = new HashSet<>();
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            resultSet = statement.executeQuery(query);
+            while (resultSet.next()) {
+                keys.add(resultSet.getString("__key"));
+            }
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+        return keys;
+    }
+
+    protected Set<String> keys(String... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+}
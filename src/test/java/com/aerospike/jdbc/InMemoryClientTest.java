@@ -0,0 +1,95 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.jdbc.memory.InMemoryAerospikeClient;
+import org.testng.annotations.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the basic statements end to end against the {@link InMemoryAerospikeClient}, no Aerospike server required.
+ */
+public class InMemoryClientTest extends InMemoryBaseTest {
+
+    @Test
+    public void testSelectByPrimaryKey() throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(format("SELECT * FROM %s WHERE __key = ?", TABLE_NAME));
+            statement.setString(1, "k2");
+            resultSet = statement.executeQuery();
+            assertTrue(resultSet.next());
+            assertEquals(resultSet.getString("__key"), "k2");
+            assertEquals(resultSet.getInt("id"), 2);
+            assertEquals(resultSet.getString("name"), "two");
+            assertEquals(resultSet.getDouble("score"), 2.5);
+            assertFalse(resultSet.next());
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testScanWithFilterExpression() throws SQLException {
+        assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id > 1", TABLE_NAME)), keys("k2", "k3"));
+        assertEquals(selectKeys(format("SELECT __key FROM %s WHERE name LIKE 't%%'", TABLE_NAME)), keys("k2", "k3"));
+        assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id = 1 OR score = 3.5", TABLE_NAME)),
+                keys("k1", "k3"));
+        assertEquals(selectKeys(format("SELECT __key FROM %s LIMIT 2", TABLE_NAME)).size(), 2);
+    }
+
+    @Test
+    public void testUpdateAndDelete() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            assertEquals(statement.executeUpdate(format("UPDATE %s SET name = 'uno' WHERE __key = 'k1'",
+                    TABLE_NAME)), 1);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE name = 'uno'", TABLE_NAME)), keys("k1"));
+
+            assertEquals(statement.executeUpdate(format("UPDATE %s SET score = 0.5 WHERE id >= 2", TABLE_NAME)), 2);
+            assertEquals(selectKeys(format("SELECT __key FROM %s WHERE score = 0.5", TABLE_NAME)), keys("k2", "k3"));
+
+            assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE __key = 'k1'", TABLE_NAME)), 1);
+            assertEquals(statement.executeUpdate(format("DELETE FROM %s WHERE id = 3", TABLE_NAME)), 1);
+            assertEquals(store.size(NAMESPACE, TABLE_NAME), 1);
+        } finally {
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testDuplicateInsert() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k1', 10)", TABLE_NAME));
+        } finally {
+            closeQuietly(statement);
+        }
+        assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id = 1", TABLE_NAME)), keys("k1"));
+        assertEquals(store.size(NAMESPACE, TABLE_NAME), 3);
+    }
+
+    @Test
+    public void testInjectedLatency() throws SQLException {
+        store.setLatency(20, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        assertEquals(selectKeys(format("SELECT __key FROM %s WHERE __key IN ('k1', 'k3')", TABLE_NAME)),
+                keys("k1", "k3"));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+}
@@ -0,0 +1,83 @@
+package com.aerospike.jdbc;
+
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the client-side sorts, in memory and spilled to disk.
+ */
+public class OrderByTest extends InMemoryBaseTest {
+
+    @Test
+    public void testOrderBy() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            statement.executeUpdate(format("INSERT INTO %s (__key, id, name) VALUES ('k4', 4, 'four'), "
+                    + "('k5', 5, 'five')", TABLE_NAME));
+        } finally {
+            closeQuietly(statement);
+        }
+        assertEquals(selectColumn(format("SELECT __key FROM %s ORDER BY id DESC", TABLE_NAME)),
+                Arrays.asList("k5", "k4", "k3", "k2", "k1"));
+        assertEquals(selectColumn(format("SELECT __key FROM %s ORDER BY name LIMIT 3", TABLE_NAME)),
+                Arrays.asList("k5", "k4", "k1"));
+        assertEquals(selectColumn(format("SELECT __key FROM %s ORDER BY score DESC NULLS LAST, __key "
+                + "LIMIT 3 OFFSET 2", TABLE_NAME)), Arrays.asList("k1", "k4", "k5"));
+        assertEquals(selectColumn(format("SELECT name FROM %s WHERE __key IN ('k2', 'k4') ORDER BY 1",
+                TABLE_NAME)), Arrays.asList("four", "two"));
+        assertEquals(selectColumn(format("SELECT name, count(*) FROM %s GROUP BY name ORDER BY count(*) DESC, name "
+                + "LIMIT 2", TABLE_NAME)), Arrays.asList("five", "four"));
+    }
+
+    @Test
+    public void testOrderBySpill() throws SQLException {
+        Connection spillConnection = connect("sendKey=true&refuseScan=false&sortMemoryBudgetKb=1");
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = spillConnection.createStatement();
+            for (int i = 4; i <= 200; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k%d', %d)",
+                        TABLE_NAME, i, (i * 37) % 200));
+            }
+            resultSet = statement.executeQuery(format("SELECT __key, id FROM %s ORDER BY id", TABLE_NAME));
+            int count = 0;
+            long previous = Long.MIN_VALUE;
+            while (resultSet.next()) {
+                long id = resultSet.getLong("id");
+                assertTrue(id >= previous);
+                previous = id;
+                count++;
+            }
+            assertEquals(count, 200);
+            closeQuietly(resultSet);
+
+            resultSet = statement.executeQuery(format("SELECT id FROM %s ORDER BY id DESC LIMIT 150", TABLE_NAME));
+            count = 0;
+            previous = Long.MAX_VALUE;
+            while (resultSet.next()) {
+                long id = resultSet.getLong("id");
+                assertTrue(id <= previous);
+                previous = id;
+                count++;
+            }
+            assertEquals(count, 150);
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            spillConnection.close();
+        }
+    }
+}
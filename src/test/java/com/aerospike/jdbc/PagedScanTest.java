@@ -0,0 +1,167 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.jdbc.sql.AerospikeRecordResultSet;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the chunked, paged and parallel scans, and the cursor pagination.
+ */
+public class PagedScanTest extends InMemoryBaseTest {
+
+    @Test
+    public void testChunkedFetch() throws SQLException {
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.createStatement();
+            statement.setFetchSize(2);
+            assertEquals(statement.getFetchSize(), 2);
+            resultSet = statement.executeQuery(format("SELECT __key FROM %s", TABLE_NAME));
+            Set<String> keys = new HashSet<>();
+            while (resultSet.next()) {
+                keys.add(resultSet.getString("__key"));
+            }
+            assertEquals(keys, keys("k1", "k2", "k3"));
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testSlowConsumerPausesPagedScan() throws Exception {
+        Connection slowConnection = connect("sendKey=true&refuseScan=false&recordSetTimeoutMs=20");
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = slowConnection.createStatement();
+            statement.setFetchSize(1);
+            resultSet = statement.executeQuery(format("SELECT __key FROM %s", TABLE_NAME));
+            Set<String> keys = new HashSet<>();
+            while (resultSet.next()) {
+                keys.add(resultSet.getString("__key"));
+                TimeUnit.MILLISECONDS.sleep(50);
+            }
+            assertEquals(keys, keys("k1", "k2", "k3"));
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            slowConnection.close();
+        }
+    }
+
+    @Test
+    public void testParallelScan() throws SQLException {
+        Connection parallelConnection = connect("sendKey=true&refuseScan=false&scanParallelism=8"
+                + "&recordSetQueueCapacity=16");
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = parallelConnection.createStatement();
+            for (int i = 4; i <= 100; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k%d', %d)", TABLE_NAME, i, i));
+            }
+            resultSet = statement.executeQuery(format("SELECT __key FROM %s", TABLE_NAME));
+            Set<String> keys = new HashSet<>();
+            while (resultSet.next()) {
+                assertTrue(keys.add(resultSet.getString("__key")));
+            }
+            assertEquals(keys.size(), 100);
+            closeQuietly(resultSet);
+
+            resultSet = statement.executeQuery(format("SELECT __key FROM %s LIMIT 7", TABLE_NAME));
+            int count = 0;
+            while (resultSet.next()) {
+                count++;
+            }
+            assertEquals(count, 7);
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            parallelConnection.close();
+        }
+    }
+
+    @Test
+    public void testCursorPagination() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            for (int i = 4; i <= 20; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id) VALUES ('k%d', %d)", TABLE_NAME, i, i));
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+        assertEquals(selectPages(format("SELECT __key FROM %s WHERE __cursor = ? LIMIT 6", TABLE_NAME), 0), 20);
+        assertEquals(selectPages(format("SELECT __key FROM %s WHERE __cursor = ? LIMIT 6", TABLE_NAME), 4), 20);
+        assertEquals(selectPages(format("SELECT __key FROM %s WHERE id > 10 AND __cursor = ? LIMIT 3",
+                TABLE_NAME), 0), 10);
+    }
+
+    @Test
+    public void testInvalidCursor() throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(format("SELECT __key FROM %s WHERE __cursor = ?", TABLE_NAME));
+            statement.setString(1, "not a cursor");
+            assertThrows(SQLException.class, statement::executeQuery);
+
+            statement.setString(1, "");
+            resultSet = statement.executeQuery();
+            assertTrue(resultSet.next());
+            AerospikeRecordResultSet recordResultSet = resultSet.unwrap(AerospikeRecordResultSet.class);
+            assertThrows(SQLException.class, recordResultSet::getCursor);
+            while (resultSet.next()) {
+                assertNotNull(resultSet.getString("__key"));
+            }
+            assertNull(recordResultSet.getCursor());
+        } finally {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+        }
+    }
+
+    private int selectPages(String query, int fetchSize) throws SQLException {
+        Set<String> keys = new HashSet<>();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(query);
+            statement.setFetchSize(fetchSize);
+            String cursor = "";
+            int pages = 0;
+            while (cursor != null) {
+                assertTrue(++pages <= 20);
+                statement.setString(1, cursor);
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    assertTrue(keys.add(resultSet.getString("__key")));
+                }
+                cursor = resultSet.unwrap(AerospikeRecordResultSet.class).getCursor();
+                resultSet.close();
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+        return keys.size();
+    }
+}
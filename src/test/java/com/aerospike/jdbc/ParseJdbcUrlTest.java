@@ -13,7 +13,9 @@ import static com.aerospike.jdbc.model.DriverConfiguration.REDACTED_STRING;
 import static com.aerospike.jdbc.model.DriverConfiguration.sanitizeUrl;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class ParseJdbcUrlTest {
@@ -45,9 +47,10 @@ public class ParseJdbcUrlTest {
         DriverConfiguration config = connection.getConfiguration();
         assertEquals(config.getClientPolicy().timeout, 512);
         assertEquals(client.getInfoPolicyDefault().timeout, 512);
-        assertEquals(client.getScanPolicyDefault().recordsPerSecond, 0);
-        assertTotalTimeoutAll(client, 2000);
-        assertSendKeyAll(client, false);
+        assertEquals(config.getInfoPolicy().timeout, 512);
+        assertEquals(config.getScanPolicy().recordsPerSecond, 0);
+        assertTotalTimeoutAll(config, 2000);
+        assertSendKeyAll(config, false);
         assertTrue(config.getClientPolicy().useServicesAlternate);
         assertEquals(config.getClientPolicy().authMode, AuthMode.EXTERNAL_INSECURE);
         assertEquals(config.getDriverPolicy().getRecordSetTimeoutMs(), 5000);
@@ -61,10 +64,17 @@ public class ParseJdbcUrlTest {
         update.setProperty("metadataCacheTtlSeconds", "7200");
         update.setProperty("recordsPerSecond", "128");
         update.setProperty("schemaBuilderMaxRecords", "500");
+        update.setProperty("expiration", "60");
+        update.setProperty("durableDelete", "true");
         connection.setClientInfo(update);
-        assertEquals(client.getScanPolicyDefault().recordsPerSecond, 128);
-        assertTotalTimeoutAll(client, 3000);
-        assertSendKeyAll(client, true);
+        assertEquals(config.getScanPolicy().recordsPerSecond, 128);
+        assertEquals(config.getBatchWritePolicy().expiration, 60);
+        assertTrue(config.getBatchDeletePolicy().durableDelete);
+        assertEquals(client.getBatchWritePolicyDefault().expiration, 0);
+        assertTotalTimeoutAll(config, 3000);
+        assertSendKeyAll(config, true);
+        assertEquals(client.getReadPolicyDefault().totalTimeout, 2000);
+        assertFalse(client.getWritePolicyDefault().sendKey);
         assertEquals(config.getDriverPolicy().getRecordSetQueueCapacity(), 1024);
         assertEquals(config.getDriverPolicy().getMetadataCacheTtlSeconds(), 7200);
         assertEquals(config.getDriverPolicy().getSchemaBuilderMaxRecords(), 500);
@@ -73,6 +83,38 @@ public class ParseJdbcUrlTest {
         assertEquals(config.getDriverPolicy().getRecordSetTimeoutMs(), 7000);
     }
 
+    @Test
+    public void testSharedClient() throws Exception {
+        Class.forName("com.aerospike.jdbc.AerospikeDriver").newInstance();
+        String url = "jdbc:aerospike:localhost:3000/test?totalTimeout=1500";
+        AerospikeConnection connection1 = (AerospikeConnection) DriverManager.getConnection(url);
+        AerospikeConnection connection2 = (AerospikeConnection) DriverManager.getConnection(
+                url + "&recordSetQueueCapacity=512");
+        AerospikeConnection connection3 = (AerospikeConnection) DriverManager.getConnection(
+                "jdbc:aerospike:localhost:3000/test?totalTimeout=2500");
+
+        assertSame(connection1.getClient(), connection2.getClient());
+        assertNotSame(connection1.getClient(), connection3.getClient());
+
+        connection1.setNetworkTimeout(Runnable::run, 700);
+        connection1.setClientInfo("sendKey", "true");
+        assertEquals(connection1.getNetworkTimeout(), 700);
+        assertTrue(connection1.getConfiguration().getWritePolicy().sendKey);
+        assertEquals(connection2.getNetworkTimeout(), 1500);
+        assertFalse(connection2.getConfiguration().getWritePolicy().sendKey);
+        assertEquals(connection2.getClient().getReadPolicyDefault().totalTimeout, 1500);
+
+        connection1.close();
+        connection1.close();
+        assertTrue(connection2.getClient().isConnected());
+        assertTrue(connection2.isValid(0));
+
+        connection2.close();
+        assertFalse(connection2.getClient().isConnected());
+        assertTrue(connection3.isValid(0));
+        connection3.close();
+    }
+
     @Test
     public void testInapplicableUrl() throws Exception {
         AerospikeDriver driver = (AerospikeDriver) Class.forName("com.aerospike.jdbc.AerospikeDriver")
@@ -91,19 +133,19 @@ public class ParseJdbcUrlTest {
         assertEquals(sanitized, expected);
     }
 
-    private void assertTotalTimeoutAll(IAerospikeClient client, int timeout) {
-        assertEquals(client.getReadPolicyDefault().totalTimeout, timeout);
-        assertEquals(client.getWritePolicyDefault().totalTimeout, timeout);
-        assertEquals(client.getQueryPolicyDefault().totalTimeout, timeout);
-        assertEquals(client.getScanPolicyDefault().totalTimeout, timeout);
-        assertEquals(client.getBatchPolicyDefault().totalTimeout, timeout);
+    private void assertTotalTimeoutAll(DriverConfiguration config, int timeout) {
+        assertEquals(config.getReadPolicy().totalTimeout, timeout);
+        assertEquals(config.getWritePolicy().totalTimeout, timeout);
+        assertEquals(config.getQueryPolicy().totalTimeout, timeout);
+        assertEquals(config.getScanPolicy().totalTimeout, timeout);
+        assertEquals(config.getBatchPolicy().totalTimeout, timeout);
     }
 
-    private void assertSendKeyAll(IAerospikeClient client, boolean sendKey) {
-        assertEquals(client.getReadPolicyDefault().sendKey, sendKey);
-        assertEquals(client.getWritePolicyDefault().sendKey, sendKey);
-        assertEquals(client.getQueryPolicyDefault().sendKey, sendKey);
-        assertEquals(client.getScanPolicyDefault().sendKey, sendKey);
-        assertEquals(client.getBatchPolicyDefault().sendKey, sendKey);
+    private void assertSendKeyAll(DriverConfiguration config, boolean sendKey) {
+        assertEquals(config.getReadPolicy().sendKey, sendKey);
+        assertEquals(config.getWritePolicy().sendKey, sendKey);
+        assertEquals(config.getQueryPolicy().sendKey, sendKey);
+        assertEquals(config.getScanPolicy().sendKey, sendKey);
+        assertEquals(config.getBatchPolicy().sendKey, sendKey);
     }
 }
@@ -413,14 +413,23 @@ public class PreparedQueriesTest {
             assertTrue(rs.next());
             assertNull(rs.getString("str1"));
 
-            // Test that batch only supports INSERT
+            // Test batch UPDATE by primary key
             try (PreparedStatement updateStmt = connection.prepareStatement(
                     format("UPDATE %s SET int1=? WHERE %s=?", TABLE_NAME, PRIMARY_KEY_COLUMN_NAME))) {
                 updateStmt.setInt(1, 9999);
                 updateStmt.setString(2, "batch_key1");
                 updateStmt.addBatch();
 
-                assertThrows(SQLException.class, updateStmt::executeBatch);
+                assertEquals(updateStmt.executeBatch(), new int[]{1});
+            }
+
+            // Test that batch does not support SELECT
+            try (PreparedStatement selectBatchStmt = connection.prepareStatement(
+                    format("SELECT int1 FROM %s WHERE %s=?", TABLE_NAME, PRIMARY_KEY_COLUMN_NAME))) {
+                selectBatchStmt.setString(1, "batch_key1");
+                selectBatchStmt.addBatch();
+
+                assertThrows(SQLException.class, selectBatchStmt::executeBatch);
             }
         } finally {
             closeQuietly(rs);
@@ -1,19 +1,29 @@
 package com.aerospike.jdbc;
 
+import com.aerospike.client.query.Filter;
 import com.aerospike.jdbc.model.AerospikeQuery;
 import com.aerospike.jdbc.model.AerospikeSqlVisitor;
+import com.aerospike.jdbc.model.OrderColumn;
+import com.aerospike.jdbc.model.ParsedStatement;
 import com.aerospike.jdbc.model.QueryType;
+import com.aerospike.jdbc.util.AuxStatementParser;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.parser.SqlParseException;
 import org.apache.calcite.sql.parser.SqlParser;
 import org.testng.annotations.Test;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 public class QueryParserTest {
 
@@ -51,6 +61,45 @@ public class QueryParserTest {
         assertNotNull(query.getPredicate());
     }
 
+    @Test
+    public void testSelectOrderByQuery() throws SqlParseException {
+        SqlParser parser = SqlParser.create(
+                "select vendor_id from \"test.nyc-data\" order by fare desc, 1 nulls first limit 10",
+                AerospikeQuery.sqlParserConfig);
+        SqlNode parsed = parser.parseQuery();
+        AerospikeQuery query = parsed.accept(new AerospikeSqlVisitor());
+
+        assertEquals(query.getOrderBy(), Arrays.asList(new OrderColumn("fare", true, null),
+                new OrderColumn("vendor_id", false, true)));
+        assertEquals(query.getLimit(), 10);
+        assertEquals(new HashSet<>(Arrays.asList(query.columnBins())),
+                new HashSet<>(Arrays.asList("vendor_id", "fare")));
+
+        expectThrows(UnsupportedOperationException.class, () -> SqlParser.create(
+                        "select vendor_id, count(*) from \"test.nyc-data\" group by vendor_id order by fare",
+                        AerospikeQuery.sqlParserConfig).parseQuery().accept(new AerospikeSqlVisitor()));
+    }
+
+    @Test
+    public void testSelectGroupByQuery() throws SqlParseException {
+        SqlParser parser = SqlParser.create(
+                "select vendor_id, count(*), sum(fare) as total, max(trip_distance) from \"test.nyc-data\" "
+                        + "group by vendor_id",
+                AerospikeQuery.sqlParserConfig);
+        SqlNode parsed = parser.parseQuery();
+        AerospikeQuery query = parsed.accept(new AerospikeSqlVisitor());
+
+        assertEquals(query.getColumns(), Arrays.asList("vendor_id", "COUNT(*)", "total", "MAX(trip_distance)"));
+        assertEquals(query.getGroupBy(), Collections.singletonList("vendor_id"));
+        assertEquals(query.getAggregates().size(), 3);
+        assertEquals(new HashSet<>(Arrays.asList(query.columnBins())),
+                new HashSet<>(Arrays.asList("vendor_id", "fare", "trip_distance")));
+
+        expectThrows(UnsupportedOperationException.class, () -> SqlParser.create(
+                        "select vendor_id, fare, count(*) from \"test.nyc-data\" group by vendor_id",
+                        AerospikeQuery.sqlParserConfig).parseQuery().accept(new AerospikeSqlVisitor()));
+    }
+
     @Test
     public void testUpdateQuery() throws SqlParseException {
         SqlParser parser = SqlParser.create(
@@ -139,6 +188,39 @@ public class QueryParserTest {
         assertEquals(query.getColumns(), Collections.singletonList("trip_distance"));
     }
 
+    @Test
+    public void testSelectInIndexFilters() throws SqlParseException {
+        SqlParser parser = SqlParser.create(
+                "select trip_distance from \"test.nyc-data\" where vendor_id in (1, 2) or vendor_id = 3",
+                AerospikeQuery.sqlParserConfig);
+        AerospikeQuery query = parser.parseQuery().accept(new AerospikeSqlVisitor());
+
+        assertTrue(query.isIndexable());
+        assertEquals(query.getPredicate().getBinNames(), Collections.singletonList("vendor_id"));
+        assertEquals(query.getPredicate().toFilters("vendor_id").size(), 3);
+        assertFalse(query.getPredicate().toFilter("vendor_id").isPresent());
+
+        parser = SqlParser.create(
+                "select trip_distance from \"test.nyc-data\" where vendor_id in (1, 2) or cab_type = 'green'",
+                AerospikeQuery.sqlParserConfig);
+        assertFalse(parser.parseQuery().accept(new AerospikeSqlVisitor()).isIndexable());
+    }
+
+    @Test
+    public void testSelectRangeIndexFilter() throws SqlParseException {
+        SqlParser parser = SqlParser.create(
+                "select trip_distance from \"test.nyc-data\" where vendor_id >= 2 and cab_type = 'green' "
+                        + "and vendor_id < 10",
+                AerospikeQuery.sqlParserConfig);
+        AerospikeQuery query = parser.parseQuery().accept(new AerospikeSqlVisitor());
+
+        assertTrue(query.isIndexable());
+        Filter filter = query.getPredicate().toFilter("vendor_id").orElseThrow(AssertionError::new);
+        assertEquals(filter.getBegin().toLong(), 2);
+        assertEquals(filter.getEnd().toLong(), 9);
+        assertFalse(query.getPredicate().toFilter("trip_distance").isPresent());
+    }
+
     @Test
     public void testSelectBetweenQuery() throws SqlParseException {
         SqlParser parser = SqlParser.create(
@@ -153,4 +235,39 @@ public class QueryParserTest {
         assertNotNull(query.getPredicate());
         assertEquals(query.getColumns(), Collections.singletonList("trip_distance"));
     }
+
+    @Test
+    public void testParsedStatementSelect() throws SQLException {
+        ParsedStatement statement = AuxStatementParser.parseTemplate(
+                "select trip_distance from \"test.nyc-data\" where __key in (?, ?) and cab_type like ? limit 10");
+        assertEquals(statement.getQueryType(), QueryType.SELECT);
+        assertEquals(statement.getParameterCount(), 3);
+
+        AerospikeQuery query1 = statement.bind(Arrays.asList(1234, 1234, "%green"));
+        AerospikeQuery query2 = statement.bind(Arrays.asList(1235, 1236, "%yellow"));
+
+        assertEquals(query1.getCatalog(), "test");
+        assertEquals(query1.getTable(), "nyc-data");
+        assertEquals(query1.getLimit(), 10);
+        assertEquals(query1.getColumns(), Collections.singletonList("trip_distance"));
+        assertEquals(new HashSet<>(query1.getPrimaryKeys()), Collections.singleton(1234));
+        assertEquals(new HashSet<>(query2.getPrimaryKeys()), new HashSet<>(Arrays.asList(1235, 1236)));
+        assertEquals(query1.columnBins(), new String[]{"trip_distance"});
+        assertSame(query1.columnBins(), query2.columnBins());
+    }
+
+    @Test
+    public void testParsedStatementInsert() throws SQLException {
+        ParsedStatement statement = AuxStatementParser.parseTemplate(
+                "insert into \"test.nyc-data\" (id, cab_type) values (?, 'green')");
+        assertEquals(statement.getQueryType(), QueryType.INSERT);
+        assertEquals(statement.getParameterCount(), 1);
+
+        AerospikeQuery query1 = statement.bind(Collections.singletonList(1));
+        query1.getValues().clear();
+        AerospikeQuery query2 = statement.bind(Collections.singletonList(2));
+
+        assertEquals(query2.getValues(), Collections.singletonList(Arrays.asList(2, "green")));
+        expectThrows(IllegalStateException.class, () -> statement.bind(Collections.emptyList()));
+    }
 }
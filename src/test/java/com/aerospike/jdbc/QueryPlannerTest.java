@@ -0,0 +1,165 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.jdbc.util.InMemoryRouting;
+import com.aerospike.jdbc.util.InfoRequester;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static com.aerospike.jdbc.util.TestUtil.closeQuietly;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the secondary index queries and checks the plans the set statistics choose.
+ */
+public class QueryPlannerTest extends InMemoryBaseTest {
+
+    @Test
+    public void testMultiRangeIndexQuery() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id IN (1, 3)", TABLE_NAME)),
+                        keys("k1", "k3"));
+                assertEquals(selectColumn(format("SELECT __key FROM %s WHERE id = 1 OR id IN (1, 2)", TABLE_NAME))
+                        .size(), 2);
+                assertEquals(selectColumn(format("SELECT __key FROM %s WHERE id <= 2 OR id >= 2", TABLE_NAME))
+                        .size(), 3);
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE (id = 2 OR id = 3) AND name = 'two'",
+                        TABLE_NAME)), keys("k2"));
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id = 1 OR name = 'two'", TABLE_NAME)),
+                        keys("k1", "k2"));
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id IN (1, 2, 3) LIMIT 2", TABLE_NAME))
+                        .size(), 2);
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testRangeIndexQuery() throws SQLException {
+        Statement statement = null;
+        PreparedStatement preparedStatement = null;
+        try {
+            statement = connection.createStatement();
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id > 1", TABLE_NAME)), keys("k2", "k3"));
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id >= 2 AND id < 3", TABLE_NAME)),
+                        keys("k2"));
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id <= 2 AND name = 'two'", TABLE_NAME)),
+                        keys("k2"));
+                assertEquals(selectKeys(format("SELECT __key FROM %s WHERE id IN (1, 3) AND id > 1", TABLE_NAME)),
+                        keys("k3"));
+                assertTrue(selectKeys(format("SELECT __key FROM %s WHERE id > 2 AND id < 2", TABLE_NAME)).isEmpty());
+                assertEquals(selectColumn(format("SELECT count(*) FROM %s WHERE id >= 2", TABLE_NAME)),
+                        Collections.singletonList("2"));
+
+                preparedStatement = connection.prepareStatement(format("SELECT __key FROM %s WHERE id < ?",
+                        TABLE_NAME));
+                preparedStatement.setInt(1, 2);
+                ResultSet resultSet = preparedStatement.executeQuery();
+                assertTrue(resultSet.next());
+                assertEquals(resultSet.getString("__key"), "k1");
+                assertFalse(resultSet.next());
+                resultSet.close();
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(preparedStatement);
+        }
+    }
+
+    @Test
+    public void testQueryPlan() throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            for (int i = 4; i <= 100; i++) {
+                statement.executeUpdate(format("INSERT INTO %s (__key, id, name) VALUES ('k%d', %d, 'many')",
+                        TABLE_NAME, i, i % 10));
+            }
+            assertEquals(explain(format("SELECT * FROM %s WHERE __key = 'k1'", TABLE_NAME)),
+                    Arrays.asList("key_query", "1", "1"));
+            assertEquals(explain(format("SELECT * FROM %s WHERE name = 'one'", TABLE_NAME)),
+                    Arrays.asList("pi_query", "100", "110"));
+
+            statement.executeUpdate(format("CREATE INDEX id_idx ON %s (id)", TABLE_NAME));
+            try {
+                assertEquals(explain(format("SELECT * FROM %s WHERE id = 3", TABLE_NAME)),
+                        Arrays.asList("si_query", "1", "11"));
+                assertEquals(explain(format("SELECT * FROM %s WHERE id > 4", TABLE_NAME)),
+                        Arrays.asList("si_query", "33", "43"));
+                String inQuery = format("SELECT __key FROM %s WHERE id IN (0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10)",
+                        TABLE_NAME);
+                assertEquals(explain(inQuery), Arrays.asList("pi_query", "100", "110"));
+                assertEquals(selectKeys(inQuery).size(), 100);
+            } finally {
+                statement.executeUpdate(format("DROP INDEX id_idx ON %s", TABLE_NAME));
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+    }
+
+    @Test
+    public void testFailedStatisticsCached() throws SQLException {
+        Connection cachingConnection = connect("statisticsCacheTtlSeconds=60");
+        AtomicInteger requests = new AtomicInteger();
+        try {
+            AerospikeDatabaseMetadata metadata = (AerospikeDatabaseMetadata) cachingConnection.getMetaData();
+            InMemoryRouting.setInfoRequester(new InfoRequester() {
+                @Override
+                public Map<String, String> request(IAerospikeClient client, InfoPolicy infoPolicy,
+                                                   String... commands) {
+                    requests.incrementAndGet();
+                    throw new AerospikeException("node unavailable");
+                }
+
+                @Override
+                public Stream<Map<String, String>> requestAll(IAerospikeClient client, InfoPolicy infoPolicy,
+                                                              String... commands) {
+                    return Stream.of(request(client, infoPolicy, commands));
+                }
+
+                @Override
+                public boolean hasActiveNodes(IAerospikeClient client) {
+                    return false;
+                }
+            });
+            assertNull(metadata.getTableStatistics(NAMESPACE, TABLE_NAME));
+            int failedRequests = requests.get();
+            assertTrue(failedRequests > 0);
+            assertNull(metadata.getTableStatistics(NAMESPACE, TABLE_NAME));
+            assertEquals(requests.get(), failedRequests);
+        } finally {
+            InMemoryRouting.route(store);
+            cachingConnection.close();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.async.RecordSet;
+import com.aerospike.jdbc.model.DataColumn;
+import com.aerospike.jdbc.sql.AerospikeRecordResultSet;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class RecordResultSetTest {
+
+    private static final String CATALOG = "test";
+    private static final String TABLE = "convert";
+
+    private AerospikeRecordResultSet resultSet;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("long", 42L);
+        bins.put("big", 5_000_000_000L);
+        bins.put("double", 2.75);
+        bins.put("bool", true);
+        bins.put("str", "17");
+        bins.put("text", "green");
+        bins.put("bytes", new byte[]{1, 2});
+        List<DataColumn> columns = Arrays.asList(
+                column(Types.VARCHAR, PRIMARY_KEY_COLUMN_NAME),
+                column(Types.BIGINT, "long"),
+                column(Types.BIGINT, "big"),
+                column(Types.DOUBLE, "double"),
+                column(Types.BOOLEAN, "bool"),
+                column(Types.VARCHAR, "str"),
+                column(Types.VARCHAR, "text"),
+                column(Types.BLOB, "bytes"),
+                column(Types.BIGINT, "missing")
+        );
+        RecordSet recordSet = new RecordSet(2, 1000);
+        recordSet.put(new KeyRecord(new Key(CATALOG, TABLE, 7L), new Record(bins, 1, 0)));
+        recordSet.close();
+        resultSet = new AerospikeRecordResultSet(recordSet, null, CATALOG, TABLE, columns);
+        assertTrue(resultSet.next());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        resultSet.close();
+    }
+
+    @Test
+    public void testNumericConversions() throws SQLException {
+        assertEquals(resultSet.getInt("long"), 42);
+        assertEquals(resultSet.getShort("long"), (short) 42);
+        assertEquals(resultSet.getDouble("long"), 42.0d);
+        assertEquals(resultSet.getLong("big"), 5_000_000_000L);
+        assertEquals(resultSet.getLong("double"), 2L);
+        assertEquals(resultSet.getFloat("double"), 2.75f);
+        assertEquals(resultSet.getInt("bool"), 1);
+        assertEquals(resultSet.getInt("str"), 17);
+        assertEquals(resultSet.getDouble("str"), 17.0d);
+        assertEquals(resultSet.getLong(PRIMARY_KEY_COLUMN_NAME), 7L);
+        assertFalse(resultSet.wasNull());
+    }
+
+    @Test
+    public void testBooleanConversions() throws SQLException {
+        assertTrue(resultSet.getBoolean("bool"));
+        assertTrue(resultSet.getBoolean("long"));
+        assertTrue(resultSet.getBoolean("double"));
+        assertFalse(resultSet.getBoolean("text"));
+    }
+
+    @Test
+    public void testNullValues() throws SQLException {
+        assertEquals(resultSet.getLong("missing"), 0L);
+        assertTrue(resultSet.wasNull());
+        assertEquals(resultSet.getDouble("missing"), 0.0d);
+        assertTrue(resultSet.wasNull());
+        assertNull(resultSet.getString("missing"));
+        assertTrue(resultSet.wasNull());
+        assertEquals(resultSet.getString("long"), "42");
+        assertFalse(resultSet.wasNull());
+    }
+
+    @Test
+    public void testInvalidConversions() throws SQLException {
+        assertThrows(SQLDataException.class, () -> resultSet.getInt("big"));
+        assertThrows(SQLDataException.class, () -> resultSet.getByte("big"));
+        assertThrows(SQLDataException.class, () -> resultSet.getLong("text"));
+        assertThrows(SQLDataException.class, () -> resultSet.getDouble("bytes"));
+        assertThrows(SQLDataException.class, () -> resultSet.getBytes("long"));
+        assertEquals(resultSet.getBytes("bytes"), new byte[]{1, 2});
+    }
+
+    @Test
+    public void testIndexAccess() throws SQLException {
+        assertEquals(resultSet.findColumn("long"), 2);
+        assertEquals(resultSet.findColumn(PRIMARY_KEY_COLUMN_NAME), 1);
+        assertThrows(SQLException.class, () -> resultSet.findColumn("unknown"));
+
+        assertEquals(resultSet.getLong(1), 7L);
+        assertEquals(resultSet.getInt(2), 42);
+        assertEquals(resultSet.getDouble(4), 2.75d);
+        assertTrue(resultSet.getBoolean(5));
+        assertEquals(resultSet.getString(7), "green");
+        assertEquals(resultSet.getObject(2), 42L);
+        assertNull(resultSet.getObject(9));
+        assertTrue(resultSet.wasNull());
+        assertThrows(SQLDataException.class, () -> resultSet.getLong(10));
+        assertThrows(SQLDataException.class, () -> resultSet.getString(0));
+    }
+
+    private static DataColumn column(int type, String name) {
+        return new DataColumn(CATALOG, TABLE, type, name, name);
+    }
+}
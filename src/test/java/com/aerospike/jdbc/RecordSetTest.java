@@ -0,0 +1,196 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.async.IteratorRecordSetProducer;
+import com.aerospike.jdbc.async.RecordSet;
+import com.aerospike.jdbc.model.DriverPolicy;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class RecordSetTest {
+
+    private ExecutorService producer;
+
+    @BeforeClass
+    public void setUp() {
+        producer = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        producer.shutdownNow();
+    }
+
+    @Test
+    public void testHandoffOrder() throws Exception {
+        final int records = 100_000;
+        RecordSet recordSet = new RecordSet(16, 10_000);
+        Future<?> produced = producer.submit(() -> {
+            for (int i = 0; i < records; i++) {
+                assertTrue(recordSet.put(keyRecord(i)));
+            }
+            recordSet.close();
+        });
+        long expected = 0;
+        while (recordSet.next()) {
+            assertEquals(recordSet.getRecord().getLong("id"), expected++);
+        }
+        assertEquals(expected, records);
+        assertFalse(recordSet.next());
+        produced.get();
+    }
+
+    @Test
+    public void testChunkedHandoffOrder() throws Exception {
+        final int records = 100_003;
+        RecordSet recordSet = new RecordSet(64, 10, 10_000);
+        Future<?> produced = producer.submit(() -> {
+            for (int i = 0; i < records; i++) {
+                assertTrue(recordSet.put(keyRecord(i)));
+            }
+            recordSet.flush();
+            recordSet.close();
+        });
+        long expected = 0;
+        while (recordSet.next()) {
+            assertEquals(recordSet.getRecord().getLong("id"), expected++);
+        }
+        assertEquals(expected, records);
+        produced.get();
+    }
+
+    @Test
+    public void testChunkPublishedWhenFullOrFlushed() throws Exception {
+        RecordSet recordSet = new RecordSet(8, 3, 1000);
+        recordSet.put(keyRecord(0));
+        recordSet.put(keyRecord(1));
+        assertTrue(recordSet.hasStaged());
+        Future<Boolean> consumed = producer.submit(recordSet::next);
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertFalse(consumed.isDone());
+
+        recordSet.put(keyRecord(2));
+        assertFalse(recordSet.hasStaged());
+        assertTrue(consumed.get(5, TimeUnit.SECONDS));
+        assertTrue(recordSet.next());
+        assertTrue(recordSet.next());
+
+        recordSet.put(keyRecord(3));
+        recordSet.flush();
+        recordSet.close();
+        assertTrue(recordSet.next());
+        assertEquals(recordSet.getRecord().getLong("id"), 3L);
+        assertFalse(recordSet.next());
+    }
+
+    @Test
+    public void testRefillWhenFree() {
+        RecordSet recordSet = new RecordSet(4, 1000);
+        AtomicInteger refills = new AtomicInteger();
+        recordSet.whenFree(2, refills::incrementAndGet);
+        assertEquals(refills.get(), 1);
+
+        for (int i = 0; i < 4; i++) {
+            recordSet.put(keyRecord(i));
+        }
+        recordSet.whenFree(2, refills::incrementAndGet);
+        assertTrue(recordSet.next());
+        assertEquals(refills.get(), 1);
+        assertTrue(recordSet.next());
+        assertEquals(refills.get(), 2);
+        assertTrue(recordSet.next());
+        assertEquals(refills.get(), 2);
+
+        recordSet.invalidate();
+        recordSet.whenFree(1, refills::incrementAndGet);
+        assertEquals(refills.get(), 2);
+    }
+
+    @Test
+    public void testFailureDiscardsBufferedRecords() {
+        RecordSet recordSet = new RecordSet(8, 1000);
+        recordSet.put(keyRecord(0));
+        recordSet.put(keyRecord(1));
+        recordSet.abort();
+        assertThrows(AerospikeException.class, recordSet::next);
+    }
+
+    @Test
+    public void testFirstTerminalSignalWins() {
+        RecordSet closed = new RecordSet(8, 1000);
+        closed.put(keyRecord(0));
+        closed.close();
+        closed.abort();
+        assertTrue(closed.next());
+        assertFalse(closed.next());
+
+        RecordSet failed = new RecordSet(8, 1000);
+        failed.put(keyRecord(0));
+        failed.abort();
+        failed.close();
+        assertThrows(AerospikeException.class, failed::next);
+    }
+
+    @Test
+    public void testProducerTimeout() {
+        RecordSet recordSet = new RecordSet(2, 50);
+        recordSet.put(keyRecord(0));
+        recordSet.put(keyRecord(1));
+        assertThrows(AerospikeException.QueryTerminated.class, () -> recordSet.put(keyRecord(2)));
+        assertThrows(AerospikeException.class, recordSet::next);
+    }
+
+    @Test
+    public void testConsumerCloseReleasesProducer() throws Exception {
+        RecordSet recordSet = new RecordSet(1, 60_000);
+        recordSet.put(keyRecord(0));
+        Future<Boolean> blocked = producer.submit(() -> recordSet.put(keyRecord(1)));
+        TimeUnit.MILLISECONDS.sleep(50);
+        recordSet.invalidate();
+        assertFalse(blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testEarlyCloseReleasesProducerResource() {
+        Properties properties = new Properties();
+        properties.setProperty("recordSetQueueCapacity", "4");
+        AtomicInteger releases = new AtomicInteger();
+        RecordSet recordSet = IteratorRecordSetProducer.start(
+                LongStream.range(0, 100).mapToObj(RecordSetTest::keyRecord).iterator(),
+                releases::incrementAndGet, new DriverPolicy(properties));
+        assertTrue(recordSet.next());
+        assertEquals(releases.get(), 0);
+        recordSet.invalidate();
+        assertEquals(releases.get(), 1);
+        recordSet.invalidate();
+        assertEquals(releases.get(), 1);
+
+        RecordSet invalidated = new RecordSet(4, 1000);
+        invalidated.invalidate();
+        invalidated.whenInvalidated(releases::incrementAndGet);
+        assertEquals(releases.get(), 2);
+    }
+
+    private static KeyRecord keyRecord(long id) {
+        return new KeyRecord(new Key("test", "jdbc", id),
+                new Record(Collections.singletonMap("id", (Object) id), 1, 0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.aerospike.jdbc;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.model.OrderColumn;
+import com.aerospike.jdbc.sort.RecordSorter;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.aerospike.jdbc.util.TestConfig.NAMESPACE;
+import static com.aerospike.jdbc.util.TestConfig.TABLE_NAME;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RecordSorterTest {
+
+    private static final List<OrderColumn> ORDER_BY = Collections.singletonList(new OrderColumn("id", false, null));
+
+    @Test
+    public void testSpilledTopRecords() {
+        List<Integer> ids = shuffledIds(1000);
+        try (RecordSorter sorter = new RecordSorter(ORDER_BY, 5, 1)) {
+            ids.forEach(id -> sorter.add(record(id)));
+            assertTrue(sorter.isSpilled());
+            assertEquals(ids(sorter.results()), IntStream.range(0, 5).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testMergedRuns() {
+        List<Integer> ids = shuffledIds(500);
+        try (RecordSorter sorter = new RecordSorter(ORDER_BY, null, 1)) {
+            ids.forEach(id -> sorter.add(record(id)));
+            assertTrue(sorter.isSpilled());
+            assertEquals(ids(sorter.results()), IntStream.range(0, 500).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    private static List<Integer> shuffledIds(int count) {
+        List<Integer> ids = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        Collections.shuffle(ids, new Random(42));
+        return ids;
+    }
+
+    private static KeyRecord record(int id) {
+        return new KeyRecord(new Key(NAMESPACE, TABLE_NAME, id),
+                new Record(Collections.<String, Object>singletonMap("id", (long) id), 1, 0));
+    }
+
+    private static List<Integer> ids(Iterator<KeyRecord> results) {
+        List<Integer> ids = new ArrayList<>();
+        results.forEachRemaining(keyRecord -> ids.add(((Long) keyRecord.record.bins.get("id")).intValue()));
+        return ids;
+    }
+}
@@ -0,0 +1,67 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.client.exp.Expression;
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.predicate.QueryPredicate;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the filter expression from the {@link QueryPredicate} tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterExpressionBenchmark {
+
+    @Param({"binary", "list", "range", "boolean", "like"})
+    private String predicate;
+
+    private AerospikeQuery query;
+
+    @Setup
+    public void setup() throws SqlParseException {
+        String where;
+        switch (predicate) {
+            case "binary":
+                where = "cab_type = 'green'";
+                break;
+            case "list":
+                where = "id in (1, 2, 3, 4, 5, 6, 7, 8)";
+                break;
+            case "range":
+                where = "id between 100 and 200";
+                break;
+            case "boolean":
+                where = "id > 100 and (cab_type = 'green' or trip_distance < 2.5) and not archived = true";
+                break;
+            case "like":
+                where = "cab_type like 'gr%'";
+                break;
+            default:
+                throw new IllegalArgumentException(predicate);
+        }
+        query = AerospikeQuery.parse("select * from \"test.nyc-data\" where " + where, (List<Object>) null);
+    }
+
+    @Benchmark
+    public Expression toFilterExpression() {
+        return query.toFilterExpression(true);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.jdbc.memory.InMemoryAerospikeClient;
+import com.aerospike.jdbc.util.InMemoryRouting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Measures the driver overhead end to end, from the JDBC call to the decoded rows, against the
+ * {@link InMemoryAerospikeClient} with an optional injected latency in place of the cluster.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcEndToEndBenchmark {
+
+    private static final String NAMESPACE = "test";
+    private static final String TABLE = "bench";
+
+    @Param({"0", "200"})
+    private long latencyMicros;
+
+    @Param({"1000"})
+    private int records;
+
+    private InMemoryAerospikeClient store;
+    private Connection connection;
+    private PreparedStatement selectByKey;
+    private PreparedStatement insert;
+    private Statement scan;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        store = new InMemoryAerospikeClient(NAMESPACE);
+        InMemoryRouting.route(store);
+        Class.forName("com.aerospike.jdbc.AerospikeDriver");
+        connection = DriverManager.getConnection(
+                format("jdbc:aerospike:in-memory:3000/%s?sendKey=true&refuseScan=false", NAMESPACE));
+
+        insert = connection.prepareStatement(
+                format("insert into %s (__key, id, name, score) values (?, ?, ?, ?)", TABLE));
+        for (int i = 0; i < records; i++) {
+            insertRecord(i);
+        }
+        selectByKey = connection.prepareStatement(format("select * from %s where __key = ?", TABLE));
+        scan = connection.createStatement();
+        store.setLatency(latencyMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        InMemoryRouting.reset();
+    }
+
+    @Benchmark
+    public void selectByKey(Blackhole blackhole) throws SQLException {
+        selectByKey.setLong(1, next++ % records);
+        try (ResultSet resultSet = selectByKey.executeQuery()) {
+            consume(resultSet, blackhole);
+        }
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        return insertRecord(records + next++);
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = scan.executeQuery(format("select * from %s", TABLE))) {
+            consume(resultSet, blackhole);
+        }
+    }
+
+    private int insertRecord(int i) throws SQLException {
+        insert.setLong(1, i);
+        insert.setLong(2, i);
+        insert.setString(3, "name-" + i);
+        insert.setDouble(4, i * 1.5);
+        return insert.executeUpdate();
+    }
+
+    private void consume(ResultSet resultSet, Blackhole blackhole) throws SQLException {
+        while (resultSet.next()) {
+            blackhole.consume(resultSet.getLong("id"));
+            blackhole.consume(resultSet.getString("name"));
+            blackhole.consume(resultSet.getDouble("score"));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.util.AuxStatementParser;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SQL parsing cost across the statement shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"selectPk", "selectFilter", "selectLimit", "insertBatch", "update", "deleteIn"})
+    private String shape;
+
+    private String sql;
+
+    @Setup
+    public void setup() {
+        switch (shape) {
+            case "selectPk":
+                sql = "select id, cab_type from \"test.nyc-data\" where __key = 112279922";
+                break;
+            case "selectFilter":
+                sql = "select * from \"test.nyc-data\" where id between 100 and 200 and "
+                        + "(cab_type = 'green' or cab_type like 'ye%') and trip_type is not null";
+                break;
+            case "selectLimit":
+                sql = "select * from \"test.nyc-data\" where trip_distance = 5.79 limit 100 offset 10";
+                break;
+            case "insertBatch":
+                sql = "insert into \"test.nyc-data\" (__key, id, cab_type, trip_distance) values "
+                        + "('k1', 1, 'green', 2.75), ('k2', 2, 'yellow', 5.0), ('k3', 3, 'green', 1.25)";
+                break;
+            case "update":
+                sql = "update \"test.nyc-data\" set archived = true, trip_distance = 1.5 where id > 1000";
+                break;
+            case "deleteIn":
+                sql = "delete from \"test.nyc-data\" where __key in ('k1', 'k2', 'k3', 'k4')";
+                break;
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+    }
+
+    @Benchmark
+    public AerospikeQuery aerospikeQueryParse() throws SqlParseException {
+        return AerospikeQuery.parse(sql, (List<Object>) null);
+    }
+
+    @Benchmark
+    public AerospikeQuery auxStatementParserParse() throws SQLException {
+        return AuxStatementParser.parse(sql, null);
+    }
+
+    @Benchmark
+    public AerospikeQuery auxStatementParserExplain() throws SQLException {
+        return AuxStatementParser.parse("explain " + sql, null);
+    }
+}
@@ -0,0 +1,76 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.model.ParsedStatement;
+import com.aerospike.jdbc.util.AuxStatementParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding the parameters to a compiled statement template, as a prepared statement
+ * execution does, with parsing the statement on every execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedStatementBenchmark {
+
+    @Param({"selectPk", "selectFilter", "insert", "update"})
+    private String shape;
+
+    private String sql;
+    private List<Object> sqlParameters;
+    private ParsedStatement parsedStatement;
+
+    @Setup
+    public void setup() throws SQLException {
+        switch (shape) {
+            case "selectPk":
+                sql = "select id, cab_type from \"test.nyc-data\" where __key = ?";
+                sqlParameters = Arrays.asList("k1");
+                break;
+            case "selectFilter":
+                sql = "select * from \"test.nyc-data\" where id between ? and ? and cab_type in (?, ?)";
+                sqlParameters = Arrays.asList(100L, 200L, "green", "yellow");
+                break;
+            case "insert":
+                sql = "insert into \"test.nyc-data\" (__key, id, cab_type, trip_distance) values (?, ?, ?, ?)";
+                sqlParameters = Arrays.asList("k1", 1L, "green", 2.75);
+                break;
+            case "update":
+                sql = "update \"test.nyc-data\" set cab_type = ?, trip_distance = ? where __key = ?";
+                sqlParameters = Arrays.asList("green", 2.75, "k1");
+                break;
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+        parsedStatement = AuxStatementParser.parseTemplate(sql);
+    }
+
+    @Benchmark
+    public AerospikeQuery bind() {
+        return parsedStatement.bind(sqlParameters);
+    }
+
+    @Benchmark
+    public AerospikeQuery parseAndBind() throws SQLException {
+        return AuxStatementParser.parse(sql, sqlParameters);
+    }
+}
@@ -0,0 +1,79 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.async.RecordSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link RecordSet} handoff throughput from a producer thread, standing in for
+ * the client event loop, to the consuming thread, at various {@code recordSetQueueCapacity} values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordSetBenchmark {
+
+    private static final int RECORDS = 100_000;
+    private static final int TIMEOUT_MS = 10_000;
+
+    @Param({"16", "256", "4096"})
+    private int capacity;
+
+    private ExecutorService producer;
+    private KeyRecord[] records;
+
+    @Setup
+    public void setup() {
+        producer = Executors.newSingleThreadExecutor();
+        records = new KeyRecord[1024];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new KeyRecord(new Key("test", "benchmark", i),
+                    new Record(Collections.singletonMap("id", (Object) (long) i), 1, 0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producer.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void handoff(Blackhole blackhole) throws Exception {
+        RecordSet recordSet = new RecordSet(capacity, TIMEOUT_MS);
+        Future<?> produced = producer.submit(() -> {
+            for (int i = 0; i < RECORDS; i++) {
+                recordSet.put(records[i & (records.length - 1)]);
+            }
+            recordSet.close();
+        });
+        while (recordSet.next()) {
+            blackhole.consume(recordSet.getRecord());
+        }
+        produced.get();
+    }
+}
@@ -0,0 +1,97 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.jdbc.async.RecordSet;
+import com.aerospike.jdbc.model.DataColumn;
+import com.aerospike.jdbc.sql.AerospikeRecordResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.aerospike.jdbc.util.Constants.PRIMARY_KEY_COLUMN_NAME;
+
+/**
+ * Measures the typed getter decoding of the current row of an {@link AerospikeRecordResultSet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetDecodeBenchmark {
+
+    private static final String CATALOG = "test";
+    private static final String TABLE = "benchmark";
+
+    private AerospikeRecordResultSet resultSet;
+
+    @Setup
+    public void setup() throws SQLException {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("id", 112279922L);
+        bins.put("cab_type", "green");
+        bins.put("trip_distance", 2.75);
+        bins.put("archived", false);
+        List<DataColumn> columns = Arrays.asList(
+                new DataColumn(CATALOG, TABLE, Types.VARCHAR, PRIMARY_KEY_COLUMN_NAME, PRIMARY_KEY_COLUMN_NAME),
+                new DataColumn(CATALOG, TABLE, Types.BIGINT, "id", "id"),
+                new DataColumn(CATALOG, TABLE, Types.VARCHAR, "cab_type", "cab_type"),
+                new DataColumn(CATALOG, TABLE, Types.DOUBLE, "trip_distance", "trip_distance"),
+                new DataColumn(CATALOG, TABLE, Types.BOOLEAN, "archived", "archived")
+        );
+        RecordSet recordSet = new RecordSet(2, 1000);
+        recordSet.put(new KeyRecord(new Key(CATALOG, TABLE, "k1"), new Record(bins, 1, 0)));
+        resultSet = new AerospikeRecordResultSet(recordSet, null, CATALOG, TABLE, columns);
+        resultSet.next();
+    }
+
+    @TearDown
+    public void tearDown() {
+        resultSet.close();
+    }
+
+    @Benchmark
+    public void getByLabel(Blackhole blackhole) throws SQLException {
+        blackhole.consume(resultSet.getString(PRIMARY_KEY_COLUMN_NAME));
+        blackhole.consume(resultSet.getLong("id"));
+        blackhole.consume(resultSet.getString("cab_type"));
+        blackhole.consume(resultSet.getDouble("trip_distance"));
+        blackhole.consume(resultSet.getBoolean("archived"));
+    }
+
+    @Benchmark
+    public void getByIndex(Blackhole blackhole) throws SQLException {
+        blackhole.consume(resultSet.getString(1));
+        blackhole.consume(resultSet.getLong(2));
+        blackhole.consume(resultSet.getString(3));
+        blackhole.consume(resultSet.getDouble(4));
+        blackhole.consume(resultSet.getBoolean(5));
+    }
+
+    @Benchmark
+    public void getObject(Blackhole blackhole) {
+        blackhole.consume(resultSet.getObject("id"));
+        blackhole.consume(resultSet.getObject("cab_type"));
+        blackhole.consume(resultSet.getObject("trip_distance"));
+    }
+}
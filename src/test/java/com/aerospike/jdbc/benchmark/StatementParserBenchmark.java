@@ -0,0 +1,69 @@
+package com.aerospike.jdbc.benchmark;
+
+import com.aerospike.jdbc.model.AerospikeQuery;
+import com.aerospike.jdbc.util.FastStatementParser;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primary-key CRUD fast path with the Calcite parser on the same statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementParserBenchmark {
+
+    @Param({"select", "insert", "update", "delete"})
+    private String statement;
+
+    private String sql;
+    private List<Object> sqlParameters;
+
+    @Setup
+    public void setup() {
+        switch (statement) {
+            case "select":
+                sql = "select id, cab_type, trip_distance from \"test.nyc-data\" where __key = ?";
+                break;
+            case "insert":
+                sql = "insert into \"test.nyc-data\" (__key, id, cab_type, trip_distance) values (?, ?, ?, ?)";
+                break;
+            case "update":
+                sql = "update \"test.nyc-data\" set cab_type = ?, trip_distance = ? where __key = ?";
+                break;
+            case "delete":
+                sql = "delete from \"test.nyc-data\" where __key in (?, ?, ?, ?)";
+                break;
+            default:
+                throw new IllegalArgumentException(statement);
+        }
+        sqlParameters = Arrays.asList("k1", 112279922L, "green", 2.75);
+    }
+
+    @Benchmark
+    public AerospikeQuery fastPath() {
+        return FastStatementParser.parse(sql, sqlParameters.iterator()).orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public AerospikeQuery calcite() throws SqlParseException {
+        return AerospikeQuery.parse(sql, sqlParameters);
+    }
+}
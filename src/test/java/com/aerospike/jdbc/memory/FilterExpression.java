@@ -0,0 +1,367 @@
+package com.aerospike.jdbc.memory;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.exp.Expression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a packed filter {@link Expression} against a stored record.
+ * <p>
+ * Covers the subset of the expression operations the driver builds: comparisons, regex, logical
+ * operations, record key and bin reads. A missing bin or a type mismatch makes the comparison unknown,
+ * and the record is filtered out, as it is on the server.
+ */
+final class FilterExpression {
+
+    private static final int EQ = 1;
+    private static final int NE = 2;
+    private static final int GT = 3;
+    private static final int GE = 4;
+    private static final int LT = 5;
+    private static final int LE = 6;
+    private static final int REGEX = 7;
+    private static final int AND = 16;
+    private static final int OR = 17;
+    private static final int NOT = 18;
+    private static final int KEY_EXISTS = 71;
+    private static final int KEY = 80;
+    private static final int BIN = 81;
+    private static final int BIN_TYPE = 82;
+    private static final int QUOTED = 126;
+
+    private static final int REGEX_ICASE = 2;
+    private static final int REGEX_NEWLINE = 8;
+
+    private static final byte PARTICLE_STRING = 3;
+    private static final byte PARTICLE_BLOB = 4;
+
+    private static final Object UNKNOWN = new Object();
+    private static final Object EXT = new Object();
+
+    private final Object tree;
+    private final Map<String, Pattern> patterns = new HashMap<>();
+
+    private FilterExpression(Object tree) {
+        this.tree = tree;
+    }
+
+    static FilterExpression of(Expression expression) {
+        return expression == null ? null : new FilterExpression(new Unpacker(expression.getBytes()).next());
+    }
+
+    static boolean matches(FilterExpression filter, Key key, Map<String, Object> bins) {
+        return filter == null || filter.matches(key, bins);
+    }
+
+    boolean matches(Key key, Map<String, Object> bins) {
+        return Boolean.TRUE.equals(eval(tree, key, bins));
+    }
+
+    private Object eval(Object node, Key key, Map<String, Object> bins) {
+        if (node instanceof byte[]) {
+            return literal((byte[]) node);
+        }
+        if (!(node instanceof List)) {
+            return node;
+        }
+        List<?> list = (List<?>) node;
+        int op = ((Number) list.get(0)).intValue();
+        switch (op) {
+            case EQ:
+            case NE:
+            case GT:
+            case GE:
+            case LT:
+            case LE:
+                return compare(op, eval(list.get(1), key, bins), eval(list.get(2), key, bins));
+            case REGEX:
+                return regex(((Number) list.get(1)).intValue(), literal((byte[]) list.get(2)),
+                        eval(list.get(3), key, bins));
+            case AND:
+                return and(list, key, bins);
+            case OR:
+                return or(list, key, bins);
+            case NOT:
+                Object value = eval(list.get(1), key, bins);
+                return value == UNKNOWN ? UNKNOWN : !(Boolean) value;
+            case KEY_EXISTS:
+                return key.userKey != null;
+            case KEY:
+                return key.userKey == null ? UNKNOWN : InMemoryAerospikeClient.normalize(key.userKey.getObject());
+            case BIN:
+                String binName = (String) literal((byte[]) list.get(2));
+                return bins.containsKey(binName) ? bins.get(binName) : UNKNOWN;
+            case BIN_TYPE:
+                return particleType(bins.get((String) literal((byte[]) list.get(1))));
+            case QUOTED:
+                return quoted(list.get(1));
+            default:
+                throw new AerospikeException(ResultCode.UNSUPPORTED_FEATURE,
+                        "Unsupported filter expression operation: " + op);
+        }
+    }
+
+    private Object and(List<?> list, Key key, Map<String, Object> bins) {
+        boolean unknown = false;
+        for (int i = 1; i < list.size(); i++) {
+            Object value = eval(list.get(i), key, bins);
+            if (Boolean.FALSE.equals(value)) {
+                return false;
+            }
+            unknown |= value == UNKNOWN;
+        }
+        return unknown ? UNKNOWN : Boolean.TRUE;
+    }
+
+    private Object or(List<?> list, Key key, Map<String, Object> bins) {
+        boolean unknown = false;
+        for (int i = 1; i < list.size(); i++) {
+            Object value = eval(list.get(i), key, bins);
+            if (Boolean.TRUE.equals(value)) {
+                return true;
+            }
+            unknown |= value == UNKNOWN;
+        }
+        return unknown ? UNKNOWN : Boolean.FALSE;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object compare(int op, Object left, Object right) {
+        if (left == UNKNOWN || right == UNKNOWN) {
+            return UNKNOWN;
+        }
+        if (left == null || right == null || left instanceof byte[] || right instanceof byte[]) {
+            boolean equal = left instanceof byte[] && right instanceof byte[]
+                    ? Arrays.equals((byte[]) left, (byte[]) right)
+                    : left == right;
+            if (op == EQ) {
+                return equal;
+            }
+            return op == NE ? !equal : UNKNOWN;
+        }
+        if (left.getClass() != right.getClass() || !(left instanceof Comparable)) {
+            return UNKNOWN;
+        }
+        int result = ((Comparable) left).compareTo(right);
+        switch (op) {
+            case EQ:
+                return result == 0;
+            case NE:
+                return result != 0;
+            case GT:
+                return result > 0;
+            case GE:
+                return result >= 0;
+            case LT:
+                return result < 0;
+            default:
+                return result <= 0;
+        }
+    }
+
+    private Object regex(int flags, Object regex, Object value) {
+        if (!(value instanceof String)) {
+            return UNKNOWN;
+        }
+        Pattern pattern = patterns.computeIfAbsent((String) regex, r -> Pattern.compile(r,
+                ((flags & REGEX_ICASE) != 0 ? Pattern.CASE_INSENSITIVE : 0)
+                        | ((flags & REGEX_NEWLINE) != 0 ? Pattern.MULTILINE : 0)));
+        return pattern.matcher((String) value).find();
+    }
+
+    private static Object quoted(Object value) {
+        if (value instanceof byte[]) {
+            return literal((byte[]) value);
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            ((List<?>) value).forEach(v -> list.add(quoted(v)));
+            return list;
+        }
+        return value;
+    }
+
+    private static long particleType(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Long) {
+            return 1;
+        } else if (value instanceof Double) {
+            return 2;
+        } else if (value instanceof String) {
+            return 3;
+        } else if (value instanceof byte[]) {
+            return 4;
+        } else if (value instanceof Boolean) {
+            return 17;
+        } else if (value instanceof Map) {
+            return 19;
+        } else if (value instanceof List) {
+            return 20;
+        }
+        return 0;
+    }
+
+    /**
+     * The string and blob literals are packed with a leading particle type byte, the bin names without it.
+     */
+    private static Object literal(byte[] raw) {
+        if (raw.length > 0 && raw[0] == PARTICLE_STRING) {
+            return new String(raw, 1, raw.length - 1, StandardCharsets.UTF_8);
+        }
+        if (raw.length > 0 && raw[0] == PARTICLE_BLOB) {
+            return Arrays.copyOfRange(raw, 1, raw.length);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A minimal MessagePack reader for the packed expressions.
+     */
+    private static final class Unpacker {
+
+        private final byte[] buffer;
+        private int offset;
+
+        Unpacker(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        Object next() {
+            int type = buffer[offset++] & 0xff;
+            if (type < 0x80) {
+                return (long) type;
+            }
+            if (type >= 0xe0) {
+                return (long) (byte) type;
+            }
+            if ((type & 0xf0) == 0x80) {
+                return map(type & 0x0f);
+            }
+            if ((type & 0xf0) == 0x90) {
+                return list(type & 0x0f);
+            }
+            if ((type & 0xe0) == 0xa0) {
+                return bytes(type & 0x1f);
+            }
+            switch (type) {
+                case 0xc0:
+                    return null;
+                case 0xc2:
+                    return false;
+                case 0xc3:
+                    return true;
+                case 0xc4:
+                case 0xd9:
+                    return bytes((int) unsigned(1));
+                case 0xc5:
+                case 0xda:
+                    return bytes((int) unsigned(2));
+                case 0xc6:
+                case 0xdb:
+                    return bytes((int) unsigned(4));
+                case 0xc7:
+                    return ext((int) unsigned(1));
+                case 0xc8:
+                    return ext((int) unsigned(2));
+                case 0xc9:
+                    return ext((int) unsigned(4));
+                case 0xca:
+                    return (double) Float.intBitsToFloat((int) unsigned(4));
+                case 0xcb:
+                    return Double.longBitsToDouble(unsigned(8));
+                case 0xcc:
+                    return unsigned(1);
+                case 0xcd:
+                    return unsigned(2);
+                case 0xce:
+                    return unsigned(4);
+                case 0xcf:
+                case 0xd3:
+                    return unsigned(8);
+                case 0xd0:
+                    return (long) (byte) unsigned(1);
+                case 0xd1:
+                    return (long) (short) unsigned(2);
+                case 0xd2:
+                    return (long) (int) unsigned(4);
+                case 0xd4:
+                    return ext(1);
+                case 0xd5:
+                    return ext(2);
+                case 0xd6:
+                    return ext(4);
+                case 0xd7:
+                    return ext(8);
+                case 0xd8:
+                    return ext(16);
+                case 0xdc:
+                    return list((int) unsigned(2));
+                case 0xdd:
+                    return list((int) unsigned(4));
+                case 0xde:
+                    return map((int) unsigned(2));
+                case 0xdf:
+                    return map((int) unsigned(4));
+                default:
+                    throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+                            "Invalid filter expression type: " + type);
+            }
+        }
+
+        private List<Object> list(int size) {
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Object value = next();
+                // the list ordering flag
+                if (value != EXT) {
+                    list.add(value);
+                }
+            }
+            return list;
+        }
+
+        private Map<Object, Object> map(int size) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                Object key = next();
+                Object value = next();
+                // the map ordering flag
+                if (key != EXT) {
+                    map.put(key instanceof byte[] ? literal((byte[]) key) : key,
+                            value instanceof byte[] ? literal((byte[]) value) : value);
+                }
+            }
+            return map;
+        }
+
+        private byte[] bytes(int length) {
+            byte[] bytes = Arrays.copyOfRange(buffer, offset, offset + length);
+            offset += length;
+            return bytes;
+        }
+
+        private Object ext(int length) {
+            offset += length + 1;
+            return EXT;
+        }
+
+        private long unsigned(int length) {
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (buffer[offset++] & 0xff);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,1020 @@
+package com.aerospike.jdbc.memory;
+
+import com.aerospike.client.AbortStatus;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchDelete;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.CommitStatus;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.ScanCallback;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.listener.BatchListListener;
+import com.aerospike.client.listener.BatchOperateListListener;
+import com.aerospike.client.listener.BatchRecordArrayListener;
+import com.aerospike.client.listener.BatchRecordSequenceListener;
+import com.aerospike.client.listener.BatchSequenceListener;
+import com.aerospike.client.listener.DeleteListener;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.listener.RecordSequenceListener;
+import com.aerospike.client.listener.WriteListener;
+import com.aerospike.client.policy.BatchDeletePolicy;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
+import com.aerospike.client.task.Task;
+import com.aerospike.jdbc.util.InfoRequester;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * An in-memory stand-in for the Aerospike cluster, to run the driver without a server in the tests
+ * and benchmarks.
+ * <p>
+ * {@link #connect(ClientPolicy)} returns an {@link IAerospikeClient} proxy backed by this store. The proxy supports
+ * the key-value, batch, scan, secondary index query, truncate, index and info calls the query handlers use;
+ * any other call throws {@link UnsupportedOperationException}. The async calls complete their listeners on
+ * the {@link ClientPolicy#eventLoops} loops, after the injected latency if one is set. The filter expressions
+ * are evaluated for the operations the driver builds. Transactions are not isolated: the writes are applied
+ * immediately, and commit and abort always succeed.
+ * <p>
+ * The store has no cluster nodes, so it answers the info commands itself as the driver {@link InfoRequester}.
+ * To route the JDBC connections to the store:
+ * <pre>{@code
+ * InMemoryAerospikeClient store = new InMemoryAerospikeClient("test");
+ * InMemoryRouting.route(store);
+ * }</pre>
+ */
+public final class InMemoryAerospikeClient implements InfoRequester {
+
+    private static final String VERSION = "8.0.0.0";
+
+    private final Set<String> namespaces;
+    private final Map<String, ConcurrentSkipListMap<Digest, Entry>> store = new ConcurrentHashMap<>();
+    private final Map<String, IndexInfo> indexes = new ConcurrentHashMap<>();
+    private volatile long latencyNanos;
+
+    public InMemoryAerospikeClient(String... namespaces) {
+        this.namespaces = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(namespaces)));
+        this.namespaces.forEach(ns -> store.put(ns, new ConcurrentSkipListMap<>()));
+    }
+
+    /**
+     * Returns a client backed by this store.
+     *
+     * @param clientPolicy the client policy providing the default policies and the event loops.
+     * @return the client.
+     */
+    public IAerospikeClient connect(ClientPolicy clientPolicy) {
+        return (IAerospikeClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{IAerospikeClient.class},
+                new ClientHandler(clientPolicy));
+    }
+
+    /**
+     * Sets the latency injected into every call, emulating the network and server time.
+     *
+     * @param latency the latency, zero for none.
+     * @param unit    the latency unit.
+     */
+    public void setLatency(long latency, TimeUnit unit) {
+        latencyNanos = unit.toNanos(latency);
+    }
+
+    /**
+     * Returns the number of records in a namespace set, or in the whole namespace for a null set.
+     */
+    public int size(String namespace, String setName) {
+        return (int) namespace(namespace).values().stream()
+                .filter(e -> setName == null || setName.equals(e.key.setName))
+                .count();
+    }
+
+    public void clear() {
+        store.values().forEach(Map::clear);
+        indexes.clear();
+    }
+
+    @Override
+    public Map<String, String> request(IAerospikeClient client, InfoPolicy infoPolicy, String... commands) {
+        pause();
+        Map<String, String> info = new HashMap<>();
+        for (String command : commands) {
+            info.put(command, info(command));
+        }
+        return info;
+    }
+
+    @Override
+    public Stream<Map<String, String>> requestAll(IAerospikeClient client, InfoPolicy infoPolicy,
+                                                  String... commands) {
+        return Stream.of(request(client, infoPolicy, commands));
+    }
+
+    @Override
+    public boolean hasActiveNodes(IAerospikeClient client) {
+        return client.isConnected();
+    }
+
+    private String info(String command) {
+        if (command.startsWith("namespace/")) {
+            String namespace = command.substring("namespace/".length());
+            return format("objects=%d;effective_replication_factor=1;replication-factor=1",
+                    size(namespace, null));
+        }
+        if (command.startsWith("sindex-stat:")) {
+            return "entries_per_bval=1";
+        }
+        switch (command) {
+            case "version":
+                return "Aerospike In-Memory Edition build " + VERSION;
+            case "build":
+                return VERSION;
+            case "edition":
+                return "Aerospike In-Memory Edition";
+            case "namespaces":
+                return String.join(";", namespaces);
+            case "sets":
+                return namespaces.stream()
+                        .flatMap(ns -> namespace(ns).values().stream()
+                                .map(e -> e.key.setName)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.groupingBy(set -> set, TreeMap::new, Collectors.counting()))
+                                .entrySet().stream()
+                                .map(set -> format("ns=%s:set=%s:objects=%d:tombstones=0:enable-index=false",
+                                        ns, set.getKey(), set.getValue())))
+                        .collect(Collectors.joining(";"));
+            case "sindex":
+                return indexes.values().stream()
+                        .map(i -> format("ns=%s:indexname=%s:set=%s:bin=%s:type=%s:indextype=default:state=RW",
+                                i.namespace, i.name, i.setName, i.binName,
+                                i.indexType.name().toLowerCase(Locale.ENGLISH)))
+                        .collect(Collectors.joining(";"));
+            default:
+                return "";
+        }
+    }
+
+    static Object normalize(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream()
+                    .map(InMemoryAerospikeClient::normalize)
+                    .collect(Collectors.toList());
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(normalize(k), normalize(v)));
+            return map;
+        }
+        return value;
+    }
+
+    private ConcurrentSkipListMap<Digest, Entry> namespace(String namespace) {
+        ConcurrentSkipListMap<Digest, Entry> records = store.get(namespace);
+        if (records == null) {
+            throw new AerospikeException(ResultCode.INVALID_NAMESPACE, "Namespace not found: " + namespace);
+        }
+        return records;
+    }
+
+    private Record read(Key key, Expression filterExp, boolean includeBinData, String[] binNames) {
+        Entry entry = namespace(key.namespace).get(new Digest(key.digest));
+        if (entry == null) {
+            return null;
+        }
+        if (!FilterExpression.matches(FilterExpression.of(filterExp), entry.key, entry.bins)) {
+            throw new AerospikeException(ResultCode.FILTERED_OUT);
+        }
+        return entry.toRecord(includeBinData, binNames);
+    }
+
+    private Record write(Key key, WriteOptions options, Operation[] operations) {
+        ConcurrentSkipListMap<Digest, Entry> records = namespace(key.namespace);
+        Digest digest = new Digest(key.digest);
+        synchronized (records) {
+            Entry entry = records.get(digest);
+            if (entry == null && (options.recordExistsAction == RecordExistsAction.UPDATE_ONLY
+                    || options.recordExistsAction == RecordExistsAction.REPLACE_ONLY)) {
+                throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+            }
+            if (entry != null && options.recordExistsAction == RecordExistsAction.CREATE_ONLY) {
+                throw new AerospikeException(ResultCode.KEY_EXISTS_ERROR);
+            }
+            if (entry != null && !FilterExpression.matches(FilterExpression.of(options.filterExp),
+                    entry.key, entry.bins)) {
+                throw new AerospikeException(ResultCode.FILTERED_OUT);
+            }
+            boolean replace = options.recordExistsAction == RecordExistsAction.REPLACE
+                    || options.recordExistsAction == RecordExistsAction.REPLACE_ONLY;
+            Map<String, Object> bins = entry == null || replace ? new HashMap<>() : new HashMap<>(entry.bins);
+            Map<String, Object> result = null;
+            boolean modified = false;
+            boolean deleted = false;
+            for (Operation operation : operations) {
+                switch (operation.type) {
+                    case READ:
+                        if (entry == null && !modified) {
+                            throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                        }
+                        result = result == null ? new HashMap<>() : result;
+                        if (operation.binName == null) {
+                            result.putAll(bins);
+                        } else if (bins.containsKey(operation.binName)) {
+                            result.put(operation.binName, bins.get(operation.binName));
+                        }
+                        break;
+                    case READ_HEADER:
+                        if (entry == null && !modified) {
+                            throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                        }
+                        break;
+                    case WRITE:
+                        Object value = normalize(operation.value.getObject());
+                        if (value == null) {
+                            bins.remove(operation.binName);
+                        } else {
+                            bins.put(operation.binName, value);
+                        }
+                        modified = true;
+                        break;
+                    case ADD:
+                        bins.merge(operation.binName, normalize(operation.value.getObject()), this::add);
+                        modified = true;
+                        break;
+                    case APPEND:
+                        bins.merge(operation.binName, operation.value.getObject(), (a, b) -> a.toString() + b);
+                        modified = true;
+                        break;
+                    case PREPEND:
+                        bins.merge(operation.binName, operation.value.getObject(), (a, b) -> b.toString() + a);
+                        modified = true;
+                        break;
+                    case TOUCH:
+                        if (entry == null) {
+                            throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                        }
+                        modified = true;
+                        break;
+                    case DELETE:
+                        bins.clear();
+                        deleted = true;
+                        modified = true;
+                        break;
+                    default:
+                        throw new AerospikeException(ResultCode.UNSUPPORTED_FEATURE,
+                                "Unsupported operation: " + operation.type);
+                }
+            }
+            int generation = entry == null ? 0 : entry.generation;
+            if (modified) {
+                generation++;
+                if (bins.isEmpty() && (deleted || entry != null)) {
+                    records.remove(digest);
+                } else if (!bins.isEmpty()) {
+                    boolean sendKey = options.sendKey || (entry != null && entry.key.userKey != null);
+                    Key storedKey = new Key(key.namespace, key.digest, key.setName, sendKey ? key.userKey : null);
+                    records.put(digest, new Entry(storedKey, bins, generation));
+                }
+            }
+            return new Record(result, generation, 0);
+        }
+    }
+
+    private Object add(Object current, Object increment) {
+        if (current instanceof Long && increment instanceof Long) {
+            return (Long) current + (Long) increment;
+        }
+        if (current instanceof Double && increment instanceof Double) {
+            return (Double) current + (Double) increment;
+        }
+        throw new AerospikeException(ResultCode.BIN_TYPE_ERROR);
+    }
+
+    private boolean delete(Key key, Expression filterExp) {
+        ConcurrentSkipListMap<Digest, Entry> records = namespace(key.namespace);
+        Digest digest = new Digest(key.digest);
+        synchronized (records) {
+            Entry entry = records.get(digest);
+            if (entry == null) {
+                return false;
+            }
+            if (!FilterExpression.matches(FilterExpression.of(filterExp), entry.key, entry.bins)) {
+                throw new AerospikeException(ResultCode.FILTERED_OUT);
+            }
+            records.remove(digest);
+            return true;
+        }
+    }
+
+    /**
+     * Scans the records of a namespace set in the partition and digest order,
+     * honoring the partition filter, the filter expression, the secondary index filter and the max records.
+     * <p>
+     * Like the client, a scan stopped by the max records keeps the last digest of each partition in the
+     * partition filter, so that the next scan with the same filter resumes after it, and marks the filter done
+     * once all the partitions are scanned.
+     */
+    private void scan(String namespace, String setName, PartitionFilter partitionFilter, Filter filter,
+                      Policy policy, long maxRecords, boolean includeBinData, String[] binNames,
+                      BiConsumer<Key, Record> consumer) {
+        FilterExpression filterExpression = FilterExpression.of(policy.filterExp);
+        int begin = partitionFilter == null ? 0 : partitionFilter.getBegin();
+        int end = partitionFilter == null ? Node.PARTITIONS : begin + partitionFilter.getCount();
+        PartitionStatus[] statuses = partitionFilter == null ? null : partitionStatuses(partitionFilter);
+        int resumePartition = end;
+        long count = 0;
+        for (Entry entry : namespace(namespace).values()) {
+            int partitionId = entry.digest.partitionId;
+            PartitionStatus status = statuses == null || partitionId < begin || partitionId >= end ? null
+                    : statuses[partitionId - begin];
+            if (partitionId < begin || partitionId >= end
+                    || (status != null && !resumes(status, entry.digest))
+                    || (setName != null && !setName.equals(entry.key.setName))
+                    || (filter != null && !matches(filter, entry.bins))
+                    || !filterExpression(filterExpression, entry)) {
+                continue;
+            }
+            if (maxRecords > 0 && count >= maxRecords) {
+                resumePartition = partitionId;
+                break;
+            }
+            consumer.accept(entry.key, entry.toRecord(includeBinData, binNames));
+            if (status != null) {
+                status.digest = entry.digest.value;
+            }
+            count++;
+        }
+        if (statuses != null) {
+            for (PartitionStatus status : statuses) {
+                status.retry = status.id >= resumePartition;
+            }
+            setDone(partitionFilter, resumePartition == end);
+        }
+    }
+
+    private static PartitionStatus[] partitionStatuses(PartitionFilter partitionFilter) {
+        PartitionStatus[] statuses = partitionFilter.getPartitions();
+        if (statuses == null) {
+            statuses = new PartitionStatus[partitionFilter.getCount()];
+            for (int i = 0; i < statuses.length; i++) {
+                statuses[i] = new PartitionStatus(partitionFilter.getBegin() + i);
+                statuses[i].retry = true;
+            }
+            statuses[0].digest = partitionFilter.getDigest();
+            partitionFilter.setPartitions(statuses);
+        }
+        return statuses;
+    }
+
+    private static boolean resumes(PartitionStatus status, Digest digest) {
+        return status.retry && (status.digest == null || digest.compareTo(new Digest(status.digest)) > 0);
+    }
+
+    private static void setDone(PartitionFilter partitionFilter, boolean done) {
+        // the client sets the package-private flag from its partition tracker
+        try {
+            Field field = PartitionFilter.class.getDeclaredField("done");
+            field.setAccessible(true);
+            field.setBoolean(partitionFilter, done);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to update the partition filter", e);
+        }
+    }
+
+    private static boolean filterExpression(FilterExpression filterExpression, Entry entry) {
+        return FilterExpression.matches(filterExpression, entry.key, entry.bins);
+    }
+
+    private static boolean matches(Filter filter, Map<String, Object> bins) {
+        Object value = bins.get(filter.getName());
+        Object begin = normalize(filter.getBegin().getObject());
+        Object end = normalize(filter.getEnd().getObject());
+        if (value instanceof Long && begin instanceof Long && end instanceof Long) {
+            return (Long) value >= (Long) begin && (Long) value <= (Long) end;
+        }
+        return value != null && value.equals(begin);
+    }
+
+    private void checkIndex(Statement statement) {
+        if (statement.getFilter() != null && indexes.values().stream().noneMatch(i ->
+                i.namespace.equals(statement.getNamespace())
+                        && i.binName.equals(statement.getFilter().getName()))) {
+            throw new AerospikeException(ResultCode.INDEX_NOTFOUND);
+        }
+    }
+
+    private void truncate(String namespace, String setName) {
+        ConcurrentSkipListMap<Digest, Entry> records = namespace(namespace);
+        synchronized (records) {
+            records.values().removeIf(e -> setName == null || setName.equals(e.key.setName));
+        }
+    }
+
+    private void createIndex(String namespace, String setName, String indexName, String binName,
+                             IndexType indexType) {
+        namespace(namespace);
+        if (indexes.putIfAbsent(namespace + "." + indexName,
+                new IndexInfo(namespace, setName, indexName, binName, indexType)) != null) {
+            throw new AerospikeException(ResultCode.INDEX_ALREADY_EXISTS);
+        }
+    }
+
+    private void pause() {
+        long latency = latencyNanos;
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+
+    /**
+     * Dispatches the {@link IAerospikeClient} calls to the store.
+     */
+    private final class ClientHandler implements InvocationHandler {
+
+        private final ClientPolicy clientPolicy;
+        private volatile boolean closed;
+
+        ClientHandler(ClientPolicy clientPolicy) {
+            this.clientPolicy = clientPolicy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "InMemoryAerospikeClient" + namespaces;
+                }
+            }
+            String name = method.getName();
+            if (name.startsWith("get") && name.endsWith("Default") && (args == null || args.length == 0)) {
+                return policyDefault(name);
+            }
+            Class<?>[] types = method.getParameterTypes();
+            boolean async = types.length > 0 && types[0] == EventLoop.class;
+            switch (name) {
+                case "isConnected":
+                    return !closed;
+                case "close":
+                    closed = true;
+                    return null;
+                case "getNodes":
+                    return new Node[0];
+                case "getNodeNames":
+                    return Collections.emptyList();
+                case "commit":
+                    return CommitStatus.OK;
+                case "abort":
+                    return AbortStatus.OK;
+                case "put":
+                    return async ? putAsync(args) : put(args);
+                case "delete":
+                    return async ? deleteAsync(args) : delete(args);
+                case "get":
+                    return async ? getAsync(args) : get(args);
+                case "operate":
+                    return async ? operateAsync(args) : operate(args);
+                case "scanAll":
+                    return async ? scanAsync(args, null, 3) : scan(args, null, 1);
+                case "scanPartitions":
+                    return async ? scanAsync(args, (PartitionFilter) args[3], 4)
+                            : scan(args, (PartitionFilter) args[1], 2);
+                case "query":
+                    if (async) {
+                        return queryAsync(args);
+                    }
+                    break;
+                case "execute":
+                    if (!async && args.length == 3 && args[2] instanceof Operation[]) {
+                        return executeBackground(args);
+                    }
+                    break;
+                case "truncate":
+                    pause();
+                    truncate((String) args[1], (String) args[2]);
+                    return null;
+                case "createIndex":
+                    pause();
+                    createIndex((String) args[1], (String) args[2], (String) args[3], (String) args[4],
+                            (IndexType) args[5]);
+                    return null;
+                case "dropIndex":
+                    pause();
+                    indexes.remove(args[1] + "." + args[3]);
+                    return null;
+                default:
+                    break;
+            }
+            throw new UnsupportedOperationException("InMemoryAerospikeClient does not support " + method);
+        }
+
+        private Object policyDefault(String methodName) throws ReflectiveOperationException {
+            String fieldName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+            try {
+                return ClientPolicy.class.getField(fieldName).get(clientPolicy);
+            } catch (NoSuchFieldException e) {
+                throw new UnsupportedOperationException("InMemoryAerospikeClient does not support " + methodName);
+            }
+        }
+
+        private Object put(Object[] args) {
+            pause();
+            WritePolicy policy = writePolicy(args[0]);
+            write((Key) args[1], WriteOptions.of(policy), toOperations((Bin[]) args[2]));
+            return null;
+        }
+
+        private Object putAsync(Object[] args) {
+            WriteListener listener = (WriteListener) args[1];
+            WritePolicy policy = writePolicy(args[2]);
+            Key key = (Key) args[3];
+            Bin[] bins = (Bin[]) args[4];
+            execute((EventLoop) args[0], listener::onFailure, () -> {
+                write(key, WriteOptions.of(policy), toOperations(bins));
+                listener.onSuccess(key);
+            });
+            return null;
+        }
+
+        private Object delete(Object[] args) {
+            if (!(args[1] instanceof Key)) {
+                throw new UnsupportedOperationException("InMemoryAerospikeClient does not support batch delete");
+            }
+            pause();
+            return InMemoryAerospikeClient.this.delete((Key) args[1], writePolicy(args[0]).filterExp);
+        }
+
+        private Object deleteAsync(Object[] args) {
+            if (args[1] instanceof BatchRecordArrayListener) {
+                return deleteBatchAsync(args);
+            }
+            if (!(args[1] instanceof DeleteListener)) {
+                throw new UnsupportedOperationException("InMemoryAerospikeClient does not support " + args[1]);
+            }
+            DeleteListener listener = (DeleteListener) args[1];
+            WritePolicy policy = writePolicy(args[2]);
+            Key key = (Key) args[3];
+            execute((EventLoop) args[0], listener::onFailure,
+                    () -> listener.onSuccess(key, InMemoryAerospikeClient.this.delete(key, policy.filterExp)));
+            return null;
+        }
+
+        private Object deleteBatchAsync(Object[] args) {
+            BatchRecordArrayListener listener = (BatchRecordArrayListener) args[1];
+            BatchPolicy policy = batchPolicy(args[2]);
+            BatchDeletePolicy deletePolicy = (BatchDeletePolicy) args[3];
+            Key[] keys = (Key[]) args[4];
+            BatchRecord[] records = new BatchRecord[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                records[i] = new BatchDelete(deletePolicy, keys[i]);
+            }
+            execute((EventLoop) args[0], e -> listener.onFailure(records, e),
+                    () -> listener.onSuccess(records, operateBatch(policy, Arrays.asList(records))));
+            return null;
+        }
+
+        private Object get(Object[] args) {
+            pause();
+            if (args[1] instanceof Key) {
+                Policy policy = args[0] == null ? clientPolicy.readPolicyDefault : (Policy) args[0];
+                String[] binNames = args.length > 2 ? (String[]) args[2] : null;
+                return read((Key) args[1], policy.filterExp, true, binNames);
+            }
+            if (args[1] instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<BatchRead> records = (List<BatchRead>) args[1];
+                return readBatch(batchPolicy(args[0]), records);
+            }
+            throw new UnsupportedOperationException("InMemoryAerospikeClient does not support batch get by keys");
+        }
+
+        private Object getAsync(Object[] args) {
+            EventLoop eventLoop = (EventLoop) args[0];
+            if (args[1] instanceof RecordListener) {
+                RecordListener listener = (RecordListener) args[1];
+                Policy policy = args[2] == null ? clientPolicy.readPolicyDefault : (Policy) args[2];
+                Key key = (Key) args[3];
+                String[] binNames = args.length > 4 ? (String[]) args[4] : null;
+                execute(eventLoop, listener::onFailure,
+                        () -> listener.onSuccess(key, read(key, policy.filterExp, true, binNames)));
+                return null;
+            }
+            if (!(args[3] instanceof List)) {
+                throw new UnsupportedOperationException("InMemoryAerospikeClient does not support batch get by keys");
+            }
+            BatchPolicy policy = batchPolicy(args[2]);
+            @SuppressWarnings("unchecked")
+            List<BatchRead> records = (List<BatchRead>) args[3];
+            if (args[1] instanceof BatchSequenceListener) {
+                BatchSequenceListener listener = (BatchSequenceListener) args[1];
+                execute(eventLoop, listener::onFailure, () -> {
+                    for (BatchRead record : records) {
+                        readBatchRecord(policy, record);
+                        listener.onRecord(record);
+                    }
+                    listener.onSuccess();
+                });
+                return null;
+            }
+            if (args[1] instanceof BatchListListener) {
+                BatchListListener listener = (BatchListListener) args[1];
+                execute(eventLoop, listener::onFailure, () -> {
+                    readBatch(policy, records);
+                    listener.onSuccess(records);
+                });
+                return null;
+            }
+            throw new UnsupportedOperationException("InMemoryAerospikeClient does not support " + args[1]);
+        }
+
+        private Object operate(Object[] args) {
+            pause();
+            if (args[1] instanceof Key) {
+                WritePolicy policy = writePolicy(args[0]);
+                return write((Key) args[1], WriteOptions.of(policy), (Operation[]) args[2]);
+            }
+            if (!(args[1] instanceof List)) {
+                throw new UnsupportedOperationException(
+                        "InMemoryAerospikeClient does not support batch operate by keys");
+            }
+            @SuppressWarnings("unchecked")
+            List<BatchRecord> records = (List<BatchRecord>) args[1];
+            return operateBatch(batchPolicy(args[0]), records);
+        }
+
+        private Object operateAsync(Object[] args) {
+            EventLoop eventLoop = (EventLoop) args[0];
+            if (args[1] instanceof RecordListener) {
+                RecordListener listener = (RecordListener) args[1];
+                WritePolicy policy = writePolicy(args[2]);
+                Key key = (Key) args[3];
+                Operation[] operations = (Operation[]) args[4];
+                execute(eventLoop, listener::onFailure,
+                        () -> listener.onSuccess(key, write(key, WriteOptions.of(policy), operations)));
+                return null;
+            }
+            BatchPolicy policy = batchPolicy(args[2]);
+            if (!(args[3] instanceof List)) {
+                throw new UnsupportedOperationException(
+                        "InMemoryAerospikeClient does not support batch operate by keys");
+            }
+            @SuppressWarnings("unchecked")
+            List<BatchRecord> records = (List<BatchRecord>) args[3];
+            if (args[1] instanceof BatchOperateListListener) {
+                BatchOperateListListener listener = (BatchOperateListListener) args[1];
+                execute(eventLoop, listener::onFailure,
+                        () -> listener.onSuccess(records, operateBatch(policy, records)));
+                return null;
+            }
+            if (args[1] instanceof BatchRecordSequenceListener) {
+                BatchRecordSequenceListener listener = (BatchRecordSequenceListener) args[1];
+                execute(eventLoop, listener::onFailure, () -> {
+                    for (int i = 0; i < records.size(); i++) {
+                        operateBatchRecord(policy, records.get(i));
+                        listener.onRecord(records.get(i), i);
+                    }
+                    listener.onSuccess();
+                });
+                return null;
+            }
+            throw new UnsupportedOperationException("InMemoryAerospikeClient does not support " + args[1]);
+        }
+
+        private Object scan(Object[] args, PartitionFilter partitionFilter, int offset) {
+            pause();
+            ScanPolicy policy = scanPolicy(args[0]);
+            ScanCallback callback = (ScanCallback) args[offset + 2];
+            InMemoryAerospikeClient.this.scan((String) args[offset], (String) args[offset + 1], partitionFilter,
+                    null, policy, policy.maxRecords, policy.includeBinData, (String[]) args[offset + 3],
+                    callback::scanCallback);
+            return null;
+        }
+
+        private Object scanAsync(Object[] args, PartitionFilter partitionFilter, int offset) {
+            RecordSequenceListener listener = (RecordSequenceListener) args[1];
+            ScanPolicy policy = scanPolicy(args[2]);
+            execute((EventLoop) args[0], listener::onFailure, () -> {
+                InMemoryAerospikeClient.this.scan((String) args[offset], (String) args[offset + 1],
+                        partitionFilter, null, policy, policy.maxRecords, policy.includeBinData,
+                        (String[]) args[offset + 2], listener::onRecord);
+                listener.onSuccess();
+            });
+            return null;
+        }
+
+        private Object queryAsync(Object[] args) {
+            RecordSequenceListener listener = (RecordSequenceListener) args[1];
+            QueryPolicy policy = args[2] == null ? clientPolicy.queryPolicyDefault : (QueryPolicy) args[2];
+            Statement statement = (Statement) args[3];
+            PartitionFilter partitionFilter = args.length > 4 ? (PartitionFilter) args[4] : null;
+            execute((EventLoop) args[0], listener::onFailure, () -> {
+                checkIndex(statement);
+                InMemoryAerospikeClient.this.scan(statement.getNamespace(), statement.getSetName(),
+                        partitionFilter, statement.getFilter(), policy, statement.getMaxRecords(),
+                        policy.includeBinData, statement.getBinNames(), listener::onRecord);
+                listener.onSuccess();
+            });
+            return null;
+        }
+
+        /**
+         * Runs a background query with operations to completion before returning its task.
+         */
+        private Object executeBackground(Object[] args) {
+            pause();
+            WritePolicy policy = writePolicy(args[0]);
+            Statement statement = (Statement) args[1];
+            Operation[] operations = (Operation[]) args[2];
+            checkIndex(statement);
+            List<Key> keys = new ArrayList<>();
+            InMemoryAerospikeClient.this.scan(statement.getNamespace(), statement.getSetName(), null,
+                    statement.getFilter(), policy, 0, false, null, (key, record) -> keys.add(key));
+            WriteOptions options = new WriteOptions(RecordExistsAction.UPDATE_ONLY, policy.sendKey, policy.filterExp);
+            for (Key key : keys) {
+                try {
+                    write(key, options, operations);
+                } catch (AerospikeException e) {
+                    // the record was deleted or changed since the scan
+                }
+            }
+            return new ExecuteTask(null, policy, statement, 0) {
+                @Override
+                public int queryStatus() {
+                    return Task.COMPLETE;
+                }
+            };
+        }
+
+        private boolean readBatch(BatchPolicy policy, List<BatchRead> records) {
+            boolean found = true;
+            for (BatchRead record : records) {
+                readBatchRecord(policy, record);
+                found &= record.record != null;
+            }
+            return found;
+        }
+
+        private void readBatchRecord(BatchPolicy policy, BatchRead record) {
+            Expression filterExp = record.policy != null && record.policy.filterExp != null
+                    ? record.policy.filterExp : policy.filterExp;
+            try {
+                if (record.ops != null) {
+                    record.record = read(record.key, filterExp, true, null) == null ? null
+                            : write(record.key, WriteOptions.READ, record.ops);
+                } else {
+                    record.record = read(record.key, filterExp, record.readAllBins || record.binNames != null,
+                            record.binNames);
+                }
+                record.resultCode = record.record == null ? ResultCode.KEY_NOT_FOUND_ERROR : ResultCode.OK;
+            } catch (AerospikeException e) {
+                record.record = null;
+                record.resultCode = e.getResultCode();
+            }
+        }
+
+        private boolean operateBatch(BatchPolicy policy, List<BatchRecord> records) {
+            boolean status = true;
+            for (BatchRecord record : records) {
+                operateBatchRecord(policy, record);
+                status &= record.resultCode == ResultCode.OK;
+            }
+            return status;
+        }
+
+        private void operateBatchRecord(BatchPolicy policy, BatchRecord record) {
+            if (record instanceof BatchRead) {
+                readBatchRecord(policy, (BatchRead) record);
+                return;
+            }
+            try {
+                if (record instanceof BatchWrite) {
+                    BatchWrite batchWrite = (BatchWrite) record;
+                    BatchWritePolicy writePolicy = batchWrite.policy != null ? batchWrite.policy
+                            : clientPolicy.batchWritePolicyDefault;
+                    record.record = write(record.key, WriteOptions.of(writePolicy, policy), batchWrite.ops);
+                } else if (record instanceof BatchDelete) {
+                    BatchDeletePolicy deletePolicy = ((BatchDelete) record).policy != null
+                            ? ((BatchDelete) record).policy : clientPolicy.batchDeletePolicyDefault;
+                    Expression filterExp = deletePolicy.filterExp != null ? deletePolicy.filterExp
+                            : policy.filterExp;
+                    if (!InMemoryAerospikeClient.this.delete(record.key, filterExp)) {
+                        throw new AerospikeException(ResultCode.KEY_NOT_FOUND_ERROR);
+                    }
+                    record.record = new Record(null, 0, 0);
+                } else {
+                    throw new AerospikeException(ResultCode.UNSUPPORTED_FEATURE,
+                            "Unsupported batch record: " + record.getClass().getSimpleName());
+                }
+                record.resultCode = ResultCode.OK;
+            } catch (AerospikeException e) {
+                record.record = null;
+                record.resultCode = e.getResultCode();
+            }
+        }
+
+        /**
+         * Runs the async call on an event loop, after the injected latency if one is set.
+         */
+        private void execute(EventLoop eventLoop, FailureListener onFailure, Runnable task) {
+            EventLoop loop = eventLoop != null ? eventLoop : clientPolicy.eventLoops.next();
+            Runnable command = () -> {
+                try {
+                    task.run();
+                } catch (AerospikeException e) {
+                    onFailure.onFailure(e);
+                } catch (RuntimeException e) {
+                    onFailure.onFailure(new AerospikeException(e));
+                }
+            };
+            long latency = latencyNanos;
+            if (latency > 0) {
+                loop.schedule(command, latency, TimeUnit.NANOSECONDS);
+            } else {
+                loop.execute(command);
+            }
+        }
+
+        private WritePolicy writePolicy(Object policy) {
+            return policy == null ? clientPolicy.writePolicyDefault : (WritePolicy) policy;
+        }
+
+        private BatchPolicy batchPolicy(Object policy) {
+            return policy == null ? clientPolicy.batchPolicyDefault : (BatchPolicy) policy;
+        }
+
+        private ScanPolicy scanPolicy(Object policy) {
+            return policy == null ? clientPolicy.scanPolicyDefault : (ScanPolicy) policy;
+        }
+
+        private Operation[] toOperations(Bin[] bins) {
+            return Arrays.stream(bins).map(Operation::put).toArray(Operation[]::new);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FailureListener {
+
+        void onFailure(AerospikeException e);
+    }
+
+    private static final class WriteOptions {
+
+        static final WriteOptions READ = new WriteOptions(RecordExistsAction.UPDATE_ONLY, false, null);
+
+        final RecordExistsAction recordExistsAction;
+        final boolean sendKey;
+        final Expression filterExp;
+
+        WriteOptions(RecordExistsAction recordExistsAction, boolean sendKey, Expression filterExp) {
+            this.recordExistsAction = recordExistsAction;
+            this.sendKey = sendKey;
+            this.filterExp = filterExp;
+        }
+
+        static WriteOptions of(WritePolicy policy) {
+            return new WriteOptions(policy.recordExistsAction, policy.sendKey, policy.filterExp);
+        }
+
+        static WriteOptions of(BatchWritePolicy policy, BatchPolicy batchPolicy) {
+            return new WriteOptions(policy.recordExistsAction, policy.sendKey,
+                    policy.filterExp != null ? policy.filterExp : batchPolicy.filterExp);
+        }
+    }
+
+    private static final class Entry {
+
+        final Key key;
+        final Digest digest;
+        final Map<String, Object> bins;
+        final int generation;
+
+        Entry(Key key, Map<String, Object> bins, int generation) {
+            this.key = key;
+            this.digest = new Digest(key.digest);
+            this.bins = Collections.unmodifiableMap(bins);
+            this.generation = generation;
+        }
+
+        Record toRecord(boolean includeBinData, String[] binNames) {
+            if (!includeBinData) {
+                return new Record(null, generation, 0);
+            }
+            Map<String, Object> recordBins = new HashMap<>();
+            if (binNames == null || binNames.length == 0) {
+                recordBins.putAll(bins);
+            } else {
+                for (String binName : binNames) {
+                    if (bins.containsKey(binName)) {
+                        recordBins.put(binName, bins.get(binName));
+                    }
+                }
+            }
+            return new Record(recordBins, generation, 0);
+        }
+    }
+
+    /**
+     * A record digest ordered by the partition id, then by the unsigned digest bytes.
+     */
+    private static final class Digest implements Comparable<Digest> {
+
+        final byte[] value;
+        final int partitionId;
+
+        Digest(byte[] value) {
+            this.value = value;
+            this.partitionId = Partition.getPartitionId(value);
+        }
+
+        @Override
+        public int compareTo(Digest other) {
+            int result = Integer.compare(partitionId, other.partitionId);
+            for (int i = 0; result == 0 && i < value.length; i++) {
+                result = Integer.compare(value[i] & 0xff, other.value[i] & 0xff);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Digest && Arrays.equals(value, ((Digest) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(value);
+        }
+    }
+
+    private static final class IndexInfo {
+
+        final String namespace;
+        final String setName;
+        final String name;
+        final String binName;
+        final IndexType indexType;
+
+        IndexInfo(String namespace, String setName, String name, String binName, IndexType indexType) {
+            this.namespace = namespace;
+            this.setName = setName;
+            this.name = name;
+            this.binName = binName;
+            this.indexType = indexType;
+        }
+    }
+}
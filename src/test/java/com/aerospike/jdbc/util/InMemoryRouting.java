@@ -0,0 +1,40 @@
+package com.aerospike.jdbc.util;
+
+import com.aerospike.jdbc.memory.InMemoryAerospikeClient;
+
+/**
+ * Routes the JDBC connections of the tests and benchmarks to an {@link InMemoryAerospikeClient}, through the
+ * package-private client factory and info requester hooks of the driver.
+ */
+public final class InMemoryRouting {
+
+    private InMemoryRouting() {
+    }
+
+    /**
+     * Creates the clients of the new connections from the store, which answers their info commands as well.
+     *
+     * @param store the in-memory store.
+     */
+    public static void route(InMemoryAerospikeClient store) {
+        AerospikeClientRegistry.setClientFactory((clientPolicy, hosts) -> store.connect(clientPolicy));
+        AerospikeUtils.setInfoRequester(store);
+    }
+
+    /**
+     * Replaces the way the info commands reach the cluster, e.g. to fail them.
+     *
+     * @param requester the info requester.
+     */
+    public static void setInfoRequester(InfoRequester requester) {
+        AerospikeUtils.setInfoRequester(requester);
+    }
+
+    /**
+     * Restores the default client factory and info requester.
+     */
+    public static void reset() {
+        AerospikeClientRegistry.setClientFactory(null);
+        AerospikeUtils.setInfoRequester(null);
+    }
+}